@@ -0,0 +1,44 @@
+package com.github.rjbx.calibrater.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event describing an operation applied to a percent series.
+ * Events are disabled by default and are enabled by name through a recording configuration,
+ * such as {@code com.github.rjbx.calibrater.Shift#enabled=true}.
+ */
+@Enabled(false)
+@StackTrace(false)
+@Category({"Rateraid", "Calibration"})
+abstract class CalibrationEvent extends jdk.jfr.Event {
+
+    @Label("Size")
+    @Description("Number of elements in the series following the operation")
+    int size;
+
+    @Label("Index")
+    @Description("Location of the adjusted or removed element, or -1 if not applicable")
+    int index;
+
+    @Label("Magnitude")
+    @Description("Amount of the adjustment, or 0 if not applicable")
+    double magnitude;
+
+    @Label("Passes")
+    @Description("Number of redistribution passes taken, or 0 if not applicable")
+    int passes;
+
+    @Label("Adjusted")
+    @Description("Whether any element was adjusted")
+    boolean adjusted;
+
+    @Label("Elapsed")
+    @Description("Duration of the operation")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
@@ -0,0 +1,12 @@
+package com.github.rjbx.calibrater.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(CommitEvent.NAME)
+@Label("Calibration Editor Commit")
+@Description("Replacement of an element by text entry through a controller")
+final class CommitEvent extends CalibrationEvent {
+    static final String NAME = "com.github.rjbx.calibrater.Commit";
+}
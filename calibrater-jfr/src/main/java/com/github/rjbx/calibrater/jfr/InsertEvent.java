@@ -0,0 +1,12 @@
+package com.github.rjbx.calibrater.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(InsertEvent.NAME)
+@Label("Calibration Insert")
+@Description("Insertion or bulk append of elements withdrawing their share from the others")
+final class InsertEvent extends CalibrationEvent {
+    static final String NAME = "com.github.rjbx.calibrater.Insert";
+}
@@ -0,0 +1,69 @@
+package com.github.rjbx.calibrater.jfr;
+
+import com.github.rjbx.calibrater.CalibrationMetrics.Operation;
+import com.github.rjbx.calibrater.CalibrationObserver;
+import com.github.rjbx.calibrater.CalibrationObservers;
+
+import jdk.jfr.EventType;
+
+/**
+ * {@link CalibrationObserver} emitting a Flight Recorder event for each operation applied
+ * to a percent series. As the events are disabled by default, an installed observer checks the
+ * type of the event of each operation, held since installation, before creating the event, so that
+ * it allocates and commits events only for those operations enabled by the active recordings.
+ * Events are committed once an operation has completed, so its duration is recorded
+ * in the {@code elapsed} field rather than as the duration of the event.
+ */
+public final class JfrCalibrationObserver implements CalibrationObserver {
+
+    private static JfrCalibrationObserver sInstalled;
+
+    private final EventType[] mTypes = new EventType[Operation.values().length]; // by operation ordinal
+
+    private JfrCalibrationObserver() {
+        for (Operation operation : Operation.values()) {
+            mTypes[operation.ordinal()] = EventType.getEventType(create(operation).getClass());
+        }
+    }
+
+    /**
+     * Installs an observer emitting events for all subsequent operations, if not already installed.
+     */
+    public static synchronized void install() {
+        if (sInstalled != null) return;
+        sInstalled = new JfrCalibrationObserver();
+        CalibrationObservers.install(sInstalled);
+    }
+
+    /**
+     * Uninstalls the observer; operations no longer emit events.
+     */
+    public static synchronized void uninstall() {
+        if (sInstalled != null) CalibrationObservers.uninstall(sInstalled);
+        sInstalled = null;
+    }
+
+    @Override public void onOperation(Operation operation, int size, int index, double magnitude,
+            boolean adjusted, int passes, int clamped, double residual, long nanos) {
+        if (!mTypes[operation.ordinal()].isEnabled()) return; // enabled by no active recording
+        CalibrationEvent event = create(operation);
+        event.size = size;
+        event.index = index;
+        event.magnitude = magnitude;
+        event.passes = passes;
+        event.adjusted = adjusted;
+        event.elapsed = nanos;
+        event.commit();
+    }
+
+    private static CalibrationEvent create(Operation operation) {
+        switch (operation) {
+            case SHIFT: return new ShiftEvent();
+            case RESET: return new ResetEvent();
+            case RECALIBRATE: return new RecalibrateEvent();
+            case REMOVE: return new RemoveEvent();
+            case INSERT: return new InsertEvent();
+            default: return new CommitEvent();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.rjbx.calibrater.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(RecalibrateEvent.NAME)
+@Label("Calibration Recalibrate")
+@Description("Distribution of the difference between the whole and the sum of all elements")
+final class RecalibrateEvent extends CalibrationEvent {
+    static final String NAME = "com.github.rjbx.calibrater.Recalibrate";
+}
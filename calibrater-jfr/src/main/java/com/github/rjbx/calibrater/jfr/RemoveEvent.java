@@ -0,0 +1,12 @@
+package com.github.rjbx.calibrater.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(RemoveEvent.NAME)
+@Label("Calibration Remove")
+@Description("Removal of an element followed by recalibration")
+final class RemoveEvent extends CalibrationEvent {
+    static final String NAME = "com.github.rjbx.calibrater.Remove";
+}
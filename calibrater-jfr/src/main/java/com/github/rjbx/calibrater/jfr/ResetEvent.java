@@ -0,0 +1,12 @@
+package com.github.rjbx.calibrater.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(ResetEvent.NAME)
+@Label("Calibration Reset")
+@Description("Assignment of equivalent percents to each element")
+final class ResetEvent extends CalibrationEvent {
+    static final String NAME = "com.github.rjbx.calibrater.Reset";
+}
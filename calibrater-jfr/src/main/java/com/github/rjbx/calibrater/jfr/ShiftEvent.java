@@ -0,0 +1,12 @@
+package com.github.rjbx.calibrater.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(ShiftEvent.NAME)
+@Label("Calibration Shift")
+@Description("Increment or decrement of an element with redistribution of the offset")
+final class ShiftEvent extends CalibrationEvent {
+    static final String NAME = "com.github.rjbx.calibrater.Shift";
+}
@@ -0,0 +1,84 @@
+package com.github.rjbx.calibrater.jfr;
+
+import com.github.rjbx.calibrater.Calibrater;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the {@link JfrCalibrationObserver} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class JfrCalibrationObserverTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+
+    @After public final void tearDown() { JfrCalibrationObserver.uninstall(); }
+
+    /**
+     * Asserts whether the enabled events are recorded with the fields of their operations.
+     */
+    @Test public final void testEnabledEventsRecorded() throws Exception {
+
+        JfrCalibrationObserver.install();
+        List<RecordedEvent> events = record(ShiftEvent.NAME, RemoveEvent.NAME);
+        assertEquals(2, events.size());
+        RecordedEvent shift = events.get(0);
+        assertEquals(ShiftEvent.NAME, shift.getEventType().getName());
+        assertEquals(4, shift.getInt("size"));
+        assertEquals(1, shift.getInt("index"));
+        assertEquals(.1d, shift.getDouble("magnitude"), 0d);
+        assertTrue(shift.getBoolean("adjusted"));
+        assertTrue(shift.getLong("elapsed") >= 0L);
+        RecordedEvent remove = events.get(1);
+        assertEquals(RemoveEvent.NAME, remove.getEventType().getName());
+        assertEquals(3, remove.getInt("size"));
+        assertEquals(0, remove.getInt("index"));
+    }
+
+    /**
+     * Asserts whether no events are recorded while their types are not enabled.
+     */
+    @Test public final void testDisabledEventsOmitted() throws Exception {
+
+        JfrCalibrationObserver.install();
+        assertTrue(record().isEmpty());
+    }
+
+    /**
+     * Asserts whether no events are recorded while the observer is not installed.
+     */
+    @Test public final void testUninstalledObserverOmitted() throws Exception {
+
+        assertTrue(record(ShiftEvent.NAME, RemoveEvent.NAME).isEmpty());
+    }
+
+    private static List<RecordedEvent> record(String... enabled) throws Exception {
+        Path file = Files.createTempFile("calibration", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : enabled) recording.enable(name);
+            recording.start();
+            List<Double> percents = new ArrayList<>(Arrays.asList(.25d, .25d, .25d, .25d));
+            Calibrater.shiftRatings(percents, 1, .1d, PRECISION);
+            Calibrater.removeRating(percents, 0, PRECISION);
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.rjbx.calibrater.service;
+
+import com.github.rjbx.calibrater.Calibrater;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Local load generator driving a {@link CalibrationService} with a seeded random sequence of shifts
+ * across many keys, holding a fixed number of requests in flight, against a store simulating
+ * the latency of loading and writing series. Reports the throughput and the p50, p99 and p99.9
+ * latency of requests from submission to persistence, along with the number of batches written.
+ * Configured through system properties:
+ * <ul>
+ *     <li>{@code load.seed} seed of the random sequence; defaults to 1</li>
+ *     <li>{@code load.requests} number of requests; defaults to 10^6</li>
+ *     <li>{@code load.concurrency} number of requests in flight; defaults to 10^4</li>
+ *     <li>{@code load.keys} number of series; defaults to 10^4</li>
+ *     <li>{@code load.size} number of elements of each series; defaults to 64</li>
+ *     <li>{@code load.loadMicros} latency of loading a series; defaults to 1000</li>
+ *     <li>{@code load.storeMicros} latency of writing a batch; defaults to 2000</li>
+ *     <li>{@code load.threads} runs requests on a pool of this many platform threads rather than
+ *     on virtual threads if specified</li>
+ * </ul>
+ */
+public final class ServiceLoadBenchmark {
+
+    public static void main(String[] args) throws InterruptedException {
+        long seed = Long.getLong("load.seed", 1L);
+        int requests = Integer.getInteger("load.requests", 1_000_000);
+        int concurrency = Integer.getInteger("load.concurrency", 10_000);
+        int keys = Integer.getInteger("load.keys", 10_000);
+        int size = Integer.getInteger("load.size", 64);
+        LatentStore store = new LatentStore(size,
+                Long.getLong("load.loadMicros", 1000L) * 1000L, Long.getLong("load.storeMicros", 2000L) * 1000L);
+        Integer threads = Integer.getInteger("load.threads");
+
+        CalibrationService service = threads == null
+                ? CalibrationService.create(store, Calibrater.STANDARD_PRECISION)
+                : CalibrationService.create(store, Calibrater.STANDARD_PRECISION, Executors.newFixedThreadPool(threads));
+        Random random = new Random(seed);
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch completed = new CountDownLatch(requests);
+        long[] latencies = new long[requests];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int request = i;
+            String key = "series-" + random.nextInt(keys);
+            int index = random.nextInt(size);
+            double magnitude = (random.nextDouble() * 2d - 1d) * Calibrater.STANDARD_MAGNITUDE;
+            inFlight.acquire();
+            long submitted = System.nanoTime();
+            service.shift(key, index, magnitude).whenComplete((percents, failure) -> {
+                latencies[request] = System.nanoTime() - submitted;
+                inFlight.release();
+                completed.countDown();
+            });
+        }
+        completed.await();
+        long elapsed = System.nanoTime() - start;
+        service.close();
+
+        Arrays.sort(latencies);
+        System.out.printf(Locale.US, "%s, %,d requests, %,d in flight, %,d keys: %,.0f requests/s%n",
+                threads == null ? "virtual threads" : threads + " platform threads",
+                requests, concurrency, keys, requests * 1e9d / elapsed);
+        System.out.printf(Locale.US, "latency p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms%n",
+                quantile(latencies, .5d), quantile(latencies, .99d), quantile(latencies, .999d),
+                latencies[requests - 1] / 1e6d);
+        System.out.printf(Locale.US, "%,d batches, %.1f requests and %.1f series per batch%n",
+                service.getBatchCount(), (double) requests / service.getBatchCount(),
+                (double) service.getStoredCount() / service.getBatchCount());
+    }
+
+    private static double quantile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, (long) (quantile * sorted.length))] / 1e6d;
+    }
+
+    /**
+     * {@link SeriesStore} holding series in memory, parking the calling thread
+     * for the configured latency of each load and write.
+     */
+    private static final class LatentStore implements SeriesStore {
+
+        private final Map<String, double[]> mSeries = new ConcurrentHashMap<>();
+        private final int mSize;
+        private final long mLoadNanos;
+        private final long mStoreNanos;
+
+        LatentStore(int size, long loadNanos, long storeNanos) {
+            mSize = size;
+            mLoadNanos = loadNanos;
+            mStoreNanos = storeNanos;
+        }
+
+        @Override public double[] load(String key) {
+            LockSupport.parkNanos(mLoadNanos);
+            double[] percents = mSeries.get(key);
+            if (percents != null) return percents;
+            percents = new double[mSize];
+            Arrays.fill(percents, 1d / mSize);
+            return percents;
+        }
+
+        @Override public void store(Map<String, double[]> batch) throws IOException {
+            LockSupport.parkNanos(mStoreNanos);
+            mSeries.putAll(batch);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.github.rjbx.calibrater.service;
+
+import com.github.rjbx.calibrater.Calibrater;
+import com.github.rjbx.calibrater.RedistributionPolicy;
+import com.github.rjbx.calibrater.TypeConverters;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Service applying {@link Calibrater} operations to many keyed percent series on behalf of
+ * concurrent requests. Each request runs on its own virtual thread, so that a request blocked
+ * on loading its series or on the requests before it holds no platform thread. Requests are
+ * serialized per key by chaining each behind the previous request for its key, so that requests
+ * for a key are applied in order of submission while requests for different keys never contend
+ * and no lock spans keys. Series are loaded from the {@link SeriesStore} on first request
+ * and held in memory while requests for them are in flight; once none are, a series is released
+ * if more than the capacity of the service are held, and loaded again by its next request.
+ * Each update is persisted by a single writer, which stores the latest state of every series
+ * updated since its previous write as one batch; the future of a request completes with the
+ * resulting series only once the batch holding it has been stored. Should a batch fail to be
+ * stored, the requests already applied to its series fail as well, and the next request for
+ * each of its series loads the series again, so that no unpersisted update is built upon.
+ */
+public final class CalibrationService implements AutoCloseable {
+
+    /**
+     * Operation applied to a series while its key is held by the requesting thread.
+     */
+    public interface Update {
+
+        /**
+         * Adjusts the series in place.
+         * @param percents {@code List} of {@code Double} elements of the series, empty if none was persisted
+         * @param precision number of decimal places to move the permitted error from the whole
+         * @param policy strategy for distributing the offset of an adjustment
+         * @return true if values were adjusted; false otherwise
+         */
+        boolean apply(List<Double> percents, int precision, RedistributionPolicy policy);
+    }
+
+    private static final Write CLOSE = new Write(null, null, 0L, null, null);
+
+    private final SeriesStore mStore;
+    private final int mPrecision;
+    private final ExecutorService mExecutor;
+    private final ConcurrentHashMap<String, Series> mSeries = new ConcurrentHashMap<>();
+    private final BlockingQueue<Write> mWrites = new LinkedBlockingQueue<>();
+    private final Thread mWriter;
+    private final AtomicLong mRequests = new AtomicLong();
+    private final AtomicLong mBatches = new AtomicLong();
+    private final AtomicLong mStored = new AtomicLong();
+    private volatile RedistributionPolicy mPolicy = RedistributionPolicy.EQUAL;
+    private volatile int mBatchSize = 1024;
+    private volatile int mCapacity = 4096;
+
+    /**
+     * Initialize the instance fields of this class from the static accessors.
+     * @param store persistence of the series
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param executor executor on which to run each request
+     */
+    private CalibrationService(SeriesStore store, int precision, ExecutorService executor) {
+        if (precision > 16 || precision < 0) throw new IllegalArgumentException("Parameter value is out of bounds");
+        mStore = store;
+        mPrecision = precision;
+        mExecutor = executor;
+        mWriter = Thread.ofVirtual().name("calibration-writer").start(this::write);
+    }
+
+    /**
+     * Starts a service running each request on a new virtual thread.
+     * @param store persistence of the series
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return {@link CalibrationService} accepting requests until closed
+     */
+    public static CalibrationService create(SeriesStore store, int precision) {
+        return new CalibrationService(store, precision, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Starts a service running each request on the specified executor, such as a pool of
+     * platform threads against which to compare; the executor is shut down once the service is closed.
+     * @param store persistence of the series
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param executor executor on which to run each request
+     * @return {@link CalibrationService} accepting requests until closed
+     */
+    public static CalibrationService create(SeriesStore store, int precision, ExecutorService executor) {
+        return new CalibrationService(store, precision, executor);
+    }
+
+    /**
+     * Define the strategy by which adjustments to an element of each series are offset among the other elements.
+     * @param policy strategy for distributing the offset; {@link RedistributionPolicy#EQUAL} by default
+     * @return {@link CalibrationService} from which to chain method calls
+     */
+    public CalibrationService withPolicy(RedistributionPolicy policy) {
+        mPolicy = policy;
+        return this;
+    }
+
+    /**
+     * Define the most requests persisted by a single write.
+     * @param batchSize maximum number of requests per batch; 1024 by default
+     * @return {@link CalibrationService} from which to chain method calls
+     */
+    public CalibrationService withBatchSize(int batchSize) {
+        if (batchSize < 1) throw new IllegalArgumentException("Parameter value is out of bounds");
+        mBatchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Define the most series held in memory while no request for them is in flight.
+     * @param capacity maximum number of idle series held; 4096 by default
+     * @return {@link CalibrationService} from which to chain method calls
+     */
+    public CalibrationService withCapacity(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Parameter value is out of bounds");
+        mCapacity = capacity;
+        return this;
+    }
+
+    /**
+     * Applies the update to the series of the specified key once all prior requests for the key have been applied.
+     * @param key key of the series
+     * @param update operation to be applied to the series
+     * @return future completing with the elements of the series following the update once persisted,
+     *         or exceptionally if the series cannot be loaded, updated or persisted
+     * @throws RejectedExecutionException if the service has been closed
+     */
+    public CompletableFuture<double[]> submit(String key, Update update) {
+        CompletableFuture<double[]> future = new CompletableFuture<>();
+        Series series = mSeries.compute(key, (k, held) -> {
+            if (held == null) held = new Series();
+            held.mRequests++; // held until the request is persisted or fails
+            return held;
+        });
+        CompletableFuture<Void> turn = new CompletableFuture<>();
+        CompletableFuture<Void> previous = series.mTail.getAndSet(turn);
+        try {
+            mExecutor.execute(() -> apply(key, series, previous, turn, update, future));
+        } catch (RejectedExecutionException e) {
+            previous.thenRun(() -> turn.complete(null)); // pass the turn to the next request
+            release(key);
+            throw e;
+        }
+        mRequests.incrementAndGet();
+        return future;
+    }
+
+    /**
+     * Increments or decrements an element of the series of the specified key
+     * in accordance with {@link Calibrater#shiftRatings(List, int, double, int, RedistributionPolicy)}.
+     * @param key key of the series
+     * @param index index of the element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @return future completing with the elements of the series once persisted
+     */
+    public CompletableFuture<double[]> shift(String key, int index, double magnitude) {
+        return submit(key, (percents, precision, policy) ->
+                Calibrater.shiftRatings(percents, index, magnitude, precision, policy));
+    }
+
+    /**
+     * Inserts an element into the series of the specified key
+     * in accordance with {@link Calibrater#insertRating(List, int, double, int, RedistributionPolicy)}.
+     * @param key key of the series
+     * @param index location at which the element is to be inserted
+     * @param percent share of the whole to be held by the inserted element; between 0 and 1
+     * @return future completing with the elements of the series once persisted
+     */
+    public CompletableFuture<double[]> insert(String key, int index, double percent) {
+        return submit(key, (percents, precision, policy) ->
+                Calibrater.insertRating(percents, index, percent, precision, policy));
+    }
+
+    /**
+     * Removes an element from the series of the specified key
+     * in accordance with {@link Calibrater#removeRating(List, int, int)}.
+     * @param key key of the series
+     * @param index location of the element to be removed
+     * @return future completing with the elements of the series once persisted
+     */
+    public CompletableFuture<double[]> remove(String key, int index) {
+        return submit(key, (percents, precision, policy) -> Calibrater.removeRating(percents, index, precision));
+    }
+
+    /**
+     * Assigns equivalent percents to each element of the series of the specified key
+     * in accordance with {@link Calibrater#resetRatings(List, boolean, int)}.
+     * @param key key of the series
+     * @return future completing with the elements of the series once persisted
+     */
+    public CompletableFuture<double[]> reset(String key) {
+        return submit(key, (percents, precision, policy) -> Calibrater.resetRatings(percents, true, precision));
+    }
+
+    /**
+     * Retrieve the number of requests submitted.
+     * @return number of requests
+     */
+    public long getRequestCount() { return mRequests.get(); }
+
+    /**
+     * Retrieve the number of writes to the {@link SeriesStore}.
+     * @return number of batches stored
+     */
+    public long getBatchCount() { return mBatches.get(); }
+
+    /**
+     * Retrieve the number of series states persisted over all batches, counting each key once per batch.
+     * @return number of series stored
+     */
+    public long getStoredCount() { return mStored.get(); }
+
+    /**
+     * Stops accepting requests, then waits for all accepted requests to be applied and persisted.
+     * Waiting is not interrupted; the interrupt status is restored once all requests are persisted.
+     */
+    @Override public void close() {
+        mExecutor.shutdown();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                mExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        mWrites.add(CLOSE); // queued behind the writes of every request
+        while (true) {
+            try {
+                mWriter.join();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    /*
+     * Runs on the thread of the request once the previous request for the key has taken its turn;
+     * the update is applied to a copy of the series, installed only if the update completes, and
+     * the write is queued before passing the turn so that writes of each series reach the writer
+     * in the order they were applied
+     */
+    private void apply(String key, Series series, CompletableFuture<Void> previous, CompletableFuture<Void> turn,
+            Update update, CompletableFuture<double[]> future) {
+        previous.join(); // parks only this virtual thread; turns are never completed exceptionally
+        try {
+            long epoch = series.mEpoch;
+            if (series.mPercents == null || series.mLoaded != epoch) { // first request or a write failed since
+                double[] loaded = mStore.load(key);
+                series.mPercents = loaded == null ? new ArrayList<>()
+                        : new ArrayList<>(TypeConverters.arrayDoubleToListDouble(loaded));
+                series.mLoaded = epoch;
+            }
+            List<Double> percents = new ArrayList<>(series.mPercents);
+            update.apply(percents, mPrecision, mPolicy);
+            series.mPercents = percents;
+            mWrites.add(new Write(key, series, epoch, TypeConverters.listDoubleToArrayDouble(percents), future));
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            release(key);
+        } finally {
+            turn.complete(null);
+        }
+    }
+
+    /*
+     * Ends a request for the series of the specified key,
+     * releasing the series once idle if more than the capacity of the service are held
+     */
+    private void release(String key) {
+        mSeries.computeIfPresent(key, (k, held) -> --held.mRequests == 0 && mSeries.size() > mCapacity ? null : held);
+    }
+
+    /*
+     * Runs on the writer thread, storing whatever writes have queued while the previous batch
+     * was stored, so that batches grow with load rather than waiting on a timer
+     */
+    private void write() {
+        List<Write> writes = new ArrayList<>();
+        boolean closed = false;
+        while (!closed) {
+            try {
+                writes.add(mWrites.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            mWrites.drainTo(writes, mBatchSize - 1);
+            closed = writes.remove(CLOSE);
+            if (writes.isEmpty()) continue;
+
+            Map<String, double[]> batch = new LinkedHashMap<>();
+            for (Write write : writes) {
+                if (write.mEpoch != write.mSeries.mEpoch) { // applied upon a write that has since failed
+                    write.mFuture.completeExceptionally(new IllegalStateException("Series was not persisted"));
+                } else batch.put(write.mKey, write.mPercents); // latest state of each key
+            }
+            Exception failure = null;
+            if (!batch.isEmpty()) {
+                try {
+                    mStore.store(batch);
+                } catch (Exception e) {
+                    failure = e;
+                    for (Write write : writes) {
+                        if (write.mEpoch == write.mSeries.mEpoch) write.mSeries.mEpoch++; // reload on next request
+                    }
+                }
+                mBatches.incrementAndGet();
+                mStored.addAndGet(batch.size());
+            }
+            for (Write write : writes) release(write.mKey); // before completing, so that requests see the release
+            for (Write write : writes) {
+                if (failure != null) write.mFuture.completeExceptionally(failure);
+                else write.mFuture.complete(write.mPercents);
+            }
+            writes.clear();
+        }
+    }
+
+    /**
+     * Series of a single key, loaded by the first request for the key and thereafter
+     * accessed only by the request holding the turn. The epoch is advanced by the writer
+     * each time a write of the series fails; the number of requests in flight is counted
+     * only while the series is held by the map.
+     */
+    private static final class Series {
+        final AtomicReference<CompletableFuture<Void>> mTail =
+                new AtomicReference<>(CompletableFuture.completedFuture(null));
+        volatile long mEpoch;
+        long mLoaded;
+        List<Double> mPercents;
+        int mRequests;
+    }
+
+    /**
+     * State of a series following a request, to be persisted before the request completes.
+     */
+    private static final class Write {
+
+        final String mKey;
+        final Series mSeries;
+        final long mEpoch;
+        final double[] mPercents;
+        final CompletableFuture<double[]> mFuture;
+
+        Write(String key, Series series, long epoch, double[] percents, CompletableFuture<double[]> future) {
+            mKey = key;
+            mSeries = series;
+            mEpoch = epoch;
+            mPercents = percents;
+            mFuture = future;
+        }
+    }
+}
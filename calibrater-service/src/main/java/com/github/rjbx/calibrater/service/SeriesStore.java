@@ -0,0 +1,28 @@
+package com.github.rjbx.calibrater.service;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Persistence of the percent series managed by a {@link CalibrationService}, keyed by tenant or series.
+ * Both methods are invoked on virtual threads, so implementations may block on I/O,
+ * preferably through {@code java.util.concurrent} locks rather than {@code synchronized}.
+ */
+public interface SeriesStore {
+
+    /**
+     * Loads the series persisted under the specified key.
+     * @param key key of the series
+     * @return {@code double} array elements, or null if no series is persisted under the key
+     * @throws IOException if the series cannot be loaded
+     */
+    double[] load(String key) throws IOException;
+
+    /**
+     * Persists the latest state of each of a batch of series in a single write.
+     * The batch holds at most one state for each key and is not modified once passed.
+     * @param batch {@code double} array elements of each series by key
+     * @throws IOException if the batch cannot be persisted, failing every request it holds
+     */
+    void store(Map<String, double[]> batch) throws IOException;
+}
@@ -0,0 +1,137 @@
+package com.github.rjbx.calibrater.service;
+
+import com.github.rjbx.calibrater.Calibrater;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test methods for the {@link CalibrationService} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class CalibrationServiceTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    /**
+     * Asserts whether concurrent requests for many keys are each applied exactly once,
+     * with the persisted state of each key matching its in-memory state, in fewer writes than requests.
+     */
+    @Test public final void testConcurrentRequestsPersistedInBatches() throws Exception {
+
+        MemoryStore store = new MemoryStore();
+        for (int key = 0; key < 8; key++) store.mSeries.put("series-" + key, new double[] { .25d, .25d, .25d, .25d });
+        List<CompletableFuture<double[]>> futures = new ArrayList<>();
+        try (CalibrationService service = CalibrationService.create(store, PRECISION)) {
+            for (int i = 0; i < 4000; i++) futures.add(service.shift("series-" + i % 8, 0, i % 16 < 8 ? .01d : -.01d));
+            futures.add(service.insert("series-new", 0, .5d));
+        }
+
+        for (CompletableFuture<double[]> future : futures) assertTrue(future.isDone());
+        for (int key = 0; key < 8; key++) {
+            double[] persisted = store.mSeries.get("series-" + key);
+            assertEquals(.25d, persisted[0], ERROR); // increments and decrements of each key cancel out
+            assertSum(persisted);
+        }
+        assertArrayEquals(new double[] { 1d }, store.mSeries.get("series-new"), ERROR);
+        assertTrue(store.mWrites.get() < futures.size());
+    }
+
+    /**
+     * Asserts whether a failing write fails each request of its batch, and a failing update only its own request,
+     * and whether the next request applies to the persisted series rather than to either failed request.
+     */
+    @Test public final void testFailuresCompleteExceptionally() throws Exception {
+
+        MemoryStore store = new MemoryStore();
+        CompletableFuture<double[]> invalid;
+        CompletableFuture<double[]> failed;
+        double[] next;
+        try (CalibrationService service = CalibrationService.create(store, PRECISION)) {
+            invalid = service.remove("series", 3); // no elements
+            service.insert("series", 0, 1d).get();
+            store.mFailing = true;
+            failed = service.insert("series", 1, .5d);
+            try {
+                failed.get();
+                fail();
+            } catch (ExecutionException expected) {}
+            store.mFailing = false;
+            try {
+                service.remove("series", 1).get(); // exists only in the failed request
+                fail();
+            } catch (ExecutionException expected) {}
+            next = service.insert("series", 1, .25d).get();
+        }
+        assertTrue(invalid.isCompletedExceptionally());
+        assertTrue(failed.isCompletedExceptionally());
+        assertArrayEquals(new double[] { .75d, .25d }, next, ERROR);
+        assertArrayEquals(next, store.mSeries.get("series"), 0d);
+        assertEquals(2, store.mLoads.get()); // loaded again following the failed write
+    }
+
+    /**
+     * Asserts whether series are released once idle beyond the capacity of the service
+     * and loaded again by their next request, and held otherwise.
+     */
+    @Test public final void testIdleSeriesReleasedBeyondCapacity() throws Exception {
+
+        MemoryStore store = new MemoryStore();
+        try (CalibrationService service = CalibrationService.create(store, PRECISION)) {
+            for (int i = 0; i < 3; i++) service.insert("held", 0, 1d / (i + 1)).get();
+        }
+        assertEquals(1, store.mLoads.get());
+        assertEquals(3, store.mSeries.get("held").length);
+
+        store.mLoads.set(0);
+        try (CalibrationService service = CalibrationService.create(store, PRECISION).withCapacity(0)) {
+            for (int i = 0; i < 3; i++) service.shift("held", 0, .1d).get();
+        }
+        assertEquals(3, store.mLoads.get());
+        assertEquals(.3d + 1d / 3d, store.mSeries.get("held")[0], ERROR);
+    }
+
+    private static void assertSum(double[] percents) {
+        double sum = 0d;
+        for (double percent : percents) sum += percent;
+        assertEquals(1d, sum, ERROR);
+    }
+
+    private static final class MemoryStore implements SeriesStore {
+
+        final Map<String, double[]> mSeries = new ConcurrentHashMap<>();
+        final AtomicInteger mWrites = new AtomicInteger();
+        final AtomicInteger mLoads = new AtomicInteger();
+        volatile boolean mFailing;
+
+        @Override public double[] load(String key) {
+            mLoads.incrementAndGet();
+            return mSeries.get(key);
+        }
+
+        @Override public void store(Map<String, double[]> batch) throws IOException {
+            if (mFailing) throw new IOException("Store unavailable");
+            mWrites.incrementAndGet();
+            try {
+                Thread.sleep(1L); // lets requests accumulate as they would behind a real write
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            mSeries.putAll(batch);
+        }
+    }
+}
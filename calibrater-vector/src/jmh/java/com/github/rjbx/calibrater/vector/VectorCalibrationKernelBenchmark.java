@@ -0,0 +1,64 @@
+package com.github.rjbx.calibrater.vector;
+
+import com.github.rjbx.calibrater.Calibrater;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares recalibrating and resetting large series through {@link Calibrater}
+ * with the scalar kernel forced against the discovered {@link VectorCalibrationKernel}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VectorCalibrationKernelBenchmark {
+
+    private static final String SCALAR = "-Dcom.github.rjbx.calibrater.kernel=scalar";
+    private static final String VECTOR = "--add-modules=jdk.incubator.vector";
+
+    @Param({"1024", "65536", "1048576"})
+    public int size;
+
+    private double[] mPercents;
+
+    @Setup public void setUp() {
+        Random random = new Random(28);
+        mPercents = new double[size];
+        for (int i = 0; i < size; i++) mPercents[i] = random.nextDouble() / size;
+    }
+
+    @Benchmark @Fork(value = 1, jvmArgsAppend = { VECTOR, SCALAR })
+    public boolean recalibrateScalar() {
+        return Calibrater.recalibrateRatings(mPercents, true, Calibrater.STANDARD_PRECISION);
+    }
+
+    @Benchmark @Fork(value = 1, jvmArgsAppend = VECTOR)
+    public boolean recalibrateVector() {
+        return Calibrater.recalibrateRatings(mPercents, true, Calibrater.STANDARD_PRECISION);
+    }
+
+    @Benchmark @Fork(value = 1, jvmArgsAppend = { VECTOR, SCALAR })
+    public boolean resetScalar() {
+        return Calibrater.resetRatings(mPercents, true, Calibrater.STANDARD_PRECISION);
+    }
+
+    @Benchmark @Fork(value = 1, jvmArgsAppend = VECTOR)
+    public boolean resetVector() {
+        return Calibrater.resetRatings(mPercents, true, Calibrater.STANDARD_PRECISION);
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.rjbx.calibrater.vector;
+
+import com.github.rjbx.calibrater.CalibrationKernel;
+
+import java.util.Arrays;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link CalibrationKernel} applying the sum, add and clamp passes of calibration
+ * across as many elements at a time as the preferred vector shape of the platform allows.
+ * Ranges shorter than a single vector and the tail of each range are iterated one element at a time.
+ * Sums are accumulated per lane and so may differ from the scalar sum within rounding error.
+ */
+public final class VectorCalibrationKernel implements CalibrationKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override public boolean isSupported() { return SPECIES.length() > 1; }
+
+    @Override public double sum(double[] percents, int from, int to) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        double sum = 0d;
+        if (i < bound) {
+            DoubleVector accumulator = DoubleVector.zero(SPECIES);
+            for (; i < bound; i += SPECIES.length()) {
+                accumulator = accumulator.add(DoubleVector.fromArray(SPECIES, percents, i));
+            }
+            sum = accumulator.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < to; i++) sum += percents[i];
+        return sum;
+    }
+
+    @Override public void addClamped(double[] percents, int from, int to, double addend) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, percents, i)
+                    .add(addend)
+                    .max(0d)
+                    .min(1d)
+                    .intoArray(percents, i);
+        }
+        for (; i < to; i++) {
+            percents[i] += addend;
+            if (percents[i] > 1d) percents[i] = 1d;
+            else if (percents[i] < 0d) percents[i] = 0d;
+        }
+    }
+
+    @Override public void fill(double[] percents, int from, int to, double value) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        DoubleVector broadcast = DoubleVector.broadcast(SPECIES, value);
+        for (; i < bound; i += SPECIES.length()) broadcast.intoArray(percents, i);
+        Arrays.fill(percents, i, to, value);
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.rjbx.calibrater.vector;
+
+import com.github.rjbx.calibrater.Calibrater;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the {@link VectorCalibrationKernel} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class VectorCalibrationKernelTest {
+
+    private static double ERROR = Math.pow(10, -12);
+
+    private final VectorCalibrationKernel mKernel = new VectorCalibrationKernel();
+
+    /**
+     * Asserts whether each primitive yields the values of the equivalent scalar loop
+     * for ranges which do and do not divide evenly into vectors.
+     */
+    @Test public final void testPrimitivesMatchScalar() {
+
+        Random random = new Random(28);
+        for (int length = 0; length < 70; length++) {
+            double[] percents = new double[length + 3];
+            for (int i = 0; i < percents.length; i++) percents[i] = random.nextDouble() / 4d;
+            int from = 1, to = length + 1;
+
+            double sum = 0d;
+            for (int i = from; i < to; i++) sum += percents[i];
+            assertEquals(sum, mKernel.sum(percents, from, to), ERROR);
+
+            double[] expected = percents.clone();
+            for (int i = from; i < to; i++) expected[i] = Math.min(1d, Math.max(0d, expected[i] - .1d));
+            mKernel.addClamped(percents, from, to, -.1d);
+            for (int i = 0; i < percents.length; i++) assertEquals(expected[i], percents[i], 0d);
+
+            mKernel.fill(percents, from, to, .5d);
+            for (int i = from; i < to; i++) assertEquals(.5d, percents[i], 0d);
+        }
+    }
+
+    /**
+     * Asserts whether recalibrating a large series through the discovered kernel maintains the whole.
+     */
+    @Test public final void testRecalibrateLargeSeries() {
+
+        assertTrue(mKernel.isSupported());
+        double[] percents = new double[100_003];
+        Random random = new Random(29);
+        for (int i = 0; i < percents.length; i++) percents[i] = random.nextDouble() / percents.length;
+        assertTrue(Calibrater.recalibrateRatings(percents, false, Calibrater.STANDARD_PRECISION));
+        double sum = 0d;
+        for (double percent : percents) sum += percent;
+        assertEquals(1d, sum, Math.pow(10, -Calibrater.STANDARD_PRECISION));
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.rjbx.calibrater;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Measures the latency of a shift on each of the {@link AdversarialSeries} shapes across sizes
+ * for every policy and reports the exponent of its growth with the series size, read as the slope
+ * of the least squares fit of log latency against log size. Shifts are expected to grow linearly,
+ * while exclusion passes growing with size would approach 2.
+ * Configured through system properties:
+ * <ul>
+ *     <li>{@code growth.repetitions} number of shifts of which the median is taken at each size; defaults to 9</li>
+ *     <li>{@code growth.maxExponent} greatest growth exponent permitted before failing</li>
+ * </ul>
+ * When the threshold is specified and exceeded, the run exits with a non-zero status.
+ */
+public final class AdversarialGrowthBenchmark {
+
+    private static final int[] SIZES = { 1 << 12, 1 << 14, 1 << 16, 1 << 18 };
+
+    private static final RedistributionPolicy[] POLICIES = {
+            RedistributionPolicy.EQUAL, RedistributionPolicy.PROPORTIONAL, RedistributionPolicy.priority()
+    };
+
+    private AdversarialGrowthBenchmark() {}
+
+    public static void main(String[] args) {
+        int repetitions = Integer.getInteger("growth.repetitions", 9);
+        String maxExponent = System.getProperty("growth.maxExponent");
+
+        for (AdversarialSeries shape : AdversarialSeries.values()) {
+            for (RedistributionPolicy policy : POLICIES) measure(shape, policy, repetitions); // warm up
+        }
+        boolean failed = false;
+        for (AdversarialSeries shape : AdversarialSeries.values()) {
+            for (RedistributionPolicy policy : POLICIES) {
+                double exponent = growthExponent(measure(shape, policy, repetitions));
+                System.out.printf(Locale.US, "%s with %s grew at n^%.2f%n",
+                        shape, policy.getClass().getSimpleName(), exponent);
+                if (maxExponent != null && exponent > Double.parseDouble(maxExponent)) failed = true;
+            }
+        }
+        if (failed) {
+            System.out.printf(Locale.US, "FAILED: growth exponent exceeds %s%n", maxExponent);
+            System.exit(1);
+        }
+    }
+
+    /*
+     * Retrieve the median latency in nanoseconds of a shift at each of the sizes
+     */
+    private static double[] measure(AdversarialSeries shape, RedistributionPolicy policy, int repetitions) {
+        double[] medians = new double[SIZES.length];
+        long[] latencies = new long[repetitions];
+        for (int i = 0; i < SIZES.length; i++) {
+            int size = SIZES[i];
+            double[] template = shape.generate(size, Calibrater.STANDARD_PRECISION);
+            double[] percents = new double[size];
+            for (int j = 0; j < repetitions; j++) {
+                System.arraycopy(template, 0, percents, 0, size);
+                long start = System.nanoTime();
+                Calibrater.shiftRatings(percents, size - 1,
+                        shape.magnitude(Calibrater.STANDARD_PRECISION), Calibrater.STANDARD_PRECISION, policy);
+                latencies[j] = System.nanoTime() - start;
+            }
+            Arrays.sort(latencies);
+            medians[i] = latencies[repetitions / 2];
+        } return medians;
+    }
+
+    /*
+     * Retrieve the slope of the least squares fit of log latency against log size
+     */
+    private static double growthExponent(double[] latencies) {
+        double meanX = 0d;
+        double meanY = 0d;
+        for (int i = 0; i < SIZES.length; i++) {
+            meanX += Math.log(SIZES[i]) / SIZES.length;
+            meanY += Math.log(latencies[i]) / SIZES.length;
+        }
+        double covariance = 0d;
+        double variance = 0d;
+        for (int i = 0; i < SIZES.length; i++) {
+            double x = Math.log(SIZES[i]) - meanX;
+            covariance += x * (Math.log(latencies[i]) - meanY);
+            variance += x * x;
+        } return covariance / variance;
+    }
+}
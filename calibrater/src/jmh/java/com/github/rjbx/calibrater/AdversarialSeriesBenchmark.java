@@ -0,0 +1,65 @@
+package com.github.rjbx.calibrater;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a shift on each of the {@link AdversarialSeries} shapes across sizes,
+ * from which the growth of its cost with the series size can be read.
+ * The series is restored before each invocation, which is long enough at these sizes
+ * for the restoration to stay outside of the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdversarialSeriesBenchmark {
+
+    @Param({"4096", "65536", "1048576"})
+    public int size;
+
+    @Param({"NEAR_ZERO_TAIL", "ALTERNATING", "CASCADE", "NEAR_ERROR"})
+    public String shapeName;
+
+    @Param({"EQUAL", "PROPORTIONAL", "PRIORITY"})
+    public String policyName;
+
+    private double[] mTemplate;
+    private double[] mPercents;
+    private double mMagnitude;
+    private RedistributionPolicy mPolicy;
+
+    @Setup(Level.Trial) public void setUpSeries() {
+        AdversarialSeries shape = AdversarialSeries.valueOf(shapeName);
+        mTemplate = shape.generate(size, Calibrater.STANDARD_PRECISION);
+        mPercents = new double[size];
+        mMagnitude = shape.magnitude(Calibrater.STANDARD_PRECISION);
+        switch (policyName) {
+            case "PROPORTIONAL": mPolicy = RedistributionPolicy.PROPORTIONAL; break;
+            case "PRIORITY": mPolicy = RedistributionPolicy.priority(); break;
+            default: mPolicy = RedistributionPolicy.EQUAL;
+        }
+    }
+
+    @Setup(Level.Invocation) public void restoreSeries() {
+        System.arraycopy(mTemplate, 0, mPercents, 0, size);
+    }
+
+    @Benchmark public boolean shift() {
+        return Calibrater.shiftRatings(mPercents, size - 1, mMagnitude, Calibrater.STANDARD_PRECISION, mPolicy);
+    }
+}
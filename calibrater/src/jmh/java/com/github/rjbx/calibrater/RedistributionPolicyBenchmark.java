@@ -0,0 +1,83 @@
+package com.github.rjbx.calibrater;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the built-in {@link RedistributionPolicy} implementations on skewed series,
+ * in which a single element holds most of the whole and the rest trail off toward zero.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedistributionPolicyBenchmark {
+
+    @Param({"16", "256", "4096"})
+    public int size;
+
+    @Param({"EQUAL", "PROPORTIONAL", "PRIORITY"})
+    public String policyName;
+
+    private List<Double> mPercents;
+    private RedistributionPolicy mPolicy;
+    private int mIndex;
+    private double mMagnitude;
+
+    @Setup(Level.Trial) public void setUpPolicy() {
+        switch (policyName) {
+            case "PROPORTIONAL": mPolicy = RedistributionPolicy.PROPORTIONAL; break;
+            case "PRIORITY": mPolicy = RedistributionPolicy.priority(); break;
+            default: mPolicy = RedistributionPolicy.EQUAL;
+        }
+    }
+
+    @Setup(Level.Iteration) public void setUpSeries() {
+        mPercents = skewedSeries(size);
+        mIndex = 0;
+        mMagnitude = Calibrater.STANDARD_MAGNITUDE;
+    }
+
+    /**
+     * Alternately increments and decrements each element in turn.
+     */
+    @Benchmark public boolean shift() {
+        boolean result = Calibrater.shiftRatings(
+                mPercents, mIndex, mMagnitude, Calibrater.STANDARD_PRECISION, mPolicy);
+        mMagnitude = -mMagnitude;
+        if (mMagnitude > 0) mIndex = (mIndex + 1) % size;
+        return result;
+    }
+
+    /**
+     * Generates a series in which each element holds half of the share of the element before it.
+     */
+    static List<Double> skewedSeries(int size) {
+        List<Double> percents = new ArrayList<>(size);
+        double share = .5d;
+        double sum = 0d;
+        for (int i = 0; i < size; i++) {
+            percents.add(share);
+            sum += share;
+            share /= 2d;
+        }
+        percents.set(0, percents.get(0) + 1d - sum);
+        return percents;
+    }
+}
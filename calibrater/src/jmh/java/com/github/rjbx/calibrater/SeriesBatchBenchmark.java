@@ -0,0 +1,96 @@
+package com.github.rjbx.calibrater;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares calibrating many small series held as separate {@code List} of {@code Double}
+ * against sweeping them packed within a {@link SeriesBatch}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeriesBatchBenchmark {
+
+    @Param({"100000"})
+    public int count;
+
+    private List<List<Double>> mLists;
+    private SeriesBatch mBatch;
+    private int[] mIndices;
+    private double[] mMagnitudes;
+
+    @Setup(Level.Iteration) public void setUp() {
+        Random random = new Random(27);
+        List<double[]> series = new ArrayList<>(count);
+        mLists = new ArrayList<>(count);
+        mIndices = new int[count];
+        mMagnitudes = new double[count];
+        for (int i = 0; i < count; i++) {
+            double[] elements = new double[10 + random.nextInt(41)];
+            List<Double> list = new ArrayList<>(elements.length);
+            for (int j = 0; j < elements.length; j++) list.add(elements[j] = 1d / elements.length);
+            series.add(elements);
+            mLists.add(list);
+            mIndices[i] = random.nextInt(elements.length);
+            mMagnitudes[i] = Calibrater.STANDARD_MAGNITUDE;
+        }
+        mBatch = SeriesBatch.pack(series);
+    }
+
+    @Benchmark public int shiftLists() {
+        int adjusted = 0;
+        for (int i = 0; i < count; i++) {
+            if (Calibrater.shiftRatings(mLists.get(i), mIndices[i], mMagnitudes[i], Calibrater.STANDARD_PRECISION)) adjusted++;
+            mMagnitudes[i] = -mMagnitudes[i];
+        } return adjusted;
+    }
+
+    @Benchmark public int shiftBatch() {
+        int adjusted = mBatch.shiftRatings(mIndices, mMagnitudes,
+                Calibrater.STANDARD_PRECISION, RedistributionPolicy.EQUAL, null);
+        for (int i = 0; i < count; i++) mMagnitudes[i] = -mMagnitudes[i];
+        return adjusted;
+    }
+
+    @Benchmark public int shiftBatchParallel() {
+        int adjusted = mBatch.shiftRatings(mIndices, mMagnitudes,
+                Calibrater.STANDARD_PRECISION, RedistributionPolicy.EQUAL, ForkJoinPool.commonPool());
+        for (int i = 0; i < count; i++) mMagnitudes[i] = -mMagnitudes[i];
+        return adjusted;
+    }
+
+    @Benchmark public int recalibrateLists() {
+        int adjusted = 0;
+        for (List<Double> list : mLists) {
+            if (Calibrater.recalibrateRatings(list, true, Calibrater.STANDARD_PRECISION)) adjusted++;
+        } return adjusted;
+    }
+
+    @Benchmark public int recalibrateBatch() {
+        return mBatch.recalibrateRatings(true, Calibrater.STANDARD_PRECISION, null);
+    }
+
+    @Benchmark public int recalibrateBatchParallel() {
+        return mBatch.recalibrateRatings(true, Calibrater.STANDARD_PRECISION, ForkJoinPool.commonPool());
+    }
+}
@@ -0,0 +1,187 @@
+package com.github.rjbx.calibrater;
+
+import com.github.rjbx.calibrater.CalibrationMetrics.Operation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Long-running soak of {@link Calibrater} driving a seeded random sequence of shifts,
+ * removals, editor entries and resets against a single series, which is replenished
+ * once removals shrink it below half of its initial size.
+ * Each window of operations reports its throughput, the maximum difference of the sum of the
+ * series from the whole, the most redistribution passes taken by a single shift and the rate
+ * of allocation; the same values are reported over the whole run on completion.
+ * Configured through system properties:
+ * <ul>
+ *     <li>{@code soak.seed} seed of the random sequence; defaults to 1</li>
+ *     <li>{@code soak.ops} number of operations; defaults to 10^7</li>
+ *     <li>{@code soak.window} number of operations per report; defaults to 10^6</li>
+ *     <li>{@code soak.size} initial number of elements; defaults to 256</li>
+ *     <li>{@code soak.precision} precision of each operation; defaults to {@link Calibrater#STANDARD_PRECISION}</li>
+ *     <li>{@code soak.policy} {@code EQUAL}, {@code PROPORTIONAL} or {@code PRIORITY}; defaults to {@code EQUAL}</li>
+ *     <li>{@code soak.monitor} applies operations through a {@link DriftMonitor} if true; defaults to false</li>
+ *     <li>{@code soak.maxDrift} maximum difference from the whole permitted before failing</li>
+ *     <li>{@code soak.minOpsPerSecond} minimum throughput of any window after the first permitted before failing</li>
+ * </ul>
+ * When either threshold is specified and exceeded, the run exits with a non-zero status.
+ */
+public final class SoakBenchmark {
+
+    private final Random mRandom;
+    private final long mOps;
+    private final long mWindow;
+    private final int mSize;
+    private final int mPrecision;
+    private final RedistributionPolicy mPolicy;
+    private final boolean mMonitored;
+    private final List<Double> mPercents = new ArrayList<>();
+    private DriftMonitor mMonitor;
+    private final PassRecorder mPasses = new PassRecorder();
+
+    private SoakBenchmark(long seed, long ops, long window,
+            int size, int precision, RedistributionPolicy policy, boolean monitored) {
+        mRandom = new Random(seed);
+        mOps = ops;
+        mWindow = window;
+        mSize = size;
+        mPrecision = precision;
+        mPolicy = policy;
+        mMonitored = monitored;
+    }
+
+    public static void main(String[] args) {
+        String policyName = System.getProperty("soak.policy", "EQUAL");
+        RedistributionPolicy policy;
+        switch (policyName) {
+            case "PROPORTIONAL": policy = RedistributionPolicy.PROPORTIONAL; break;
+            case "PRIORITY": policy = RedistributionPolicy.priority(); break;
+            default: policy = RedistributionPolicy.EQUAL;
+        }
+        SoakBenchmark benchmark = new SoakBenchmark(
+                Long.getLong("soak.seed", 1L),
+                Long.getLong("soak.ops", 10_000_000L),
+                Long.getLong("soak.window", 1_000_000L),
+                Integer.getInteger("soak.size", 256),
+                Integer.getInteger("soak.precision", Calibrater.STANDARD_PRECISION),
+                policy,
+                Boolean.getBoolean("soak.monitor"));
+        String maxDrift = System.getProperty("soak.maxDrift");
+        String minOpsPerSecond = System.getProperty("soak.minOpsPerSecond");
+        Result result = benchmark.run();
+        boolean failed = false;
+        if (maxDrift != null && result.mMaxDrift > Double.parseDouble(maxDrift)) {
+            System.out.printf(Locale.US, "FAILED: drift %.3e exceeds %s%n", result.mMaxDrift, maxDrift);
+            failed = true;
+        }
+        if (minOpsPerSecond != null && result.mMinOpsPerSecond < Double.parseDouble(minOpsPerSecond)) {
+            System.out.printf(Locale.US, "FAILED: throughput %.0f ops/s below %s%n", result.mMinOpsPerSecond, minOpsPerSecond);
+            failed = true;
+        }
+        if (failed) System.exit(1);
+    }
+
+    private Result run() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocations = threads instanceof com.sun.management.ThreadMXBean
+                ? (com.sun.management.ThreadMXBean) threads : null;
+        long thread = Thread.currentThread().getId();
+
+        replenish();
+        if (mMonitored) mMonitor = DriftMonitor.attach(mPercents, mPrecision, mPolicy);
+        CalibrationObservers.install(mPasses);
+        Result result = new Result();
+        try {
+            long ops = 0L;
+            while (ops < mOps) {
+                long count = Math.min(mWindow, mOps - ops);
+                mPasses.mMax = 0;
+                double drift = 0d;
+                long elapsed = 0L;
+                long allocated = allocations == null ? -1L : allocations.getThreadAllocatedBytes(thread);
+                for (long i = 0; i < count; i++) {
+                    long start = System.nanoTime();
+                    apply();
+                    elapsed += System.nanoTime() - start;
+                    drift = Math.max(drift, drift()); // summed outside of the timed operation
+                }
+                if (allocated >= 0L) allocated = allocations.getThreadAllocatedBytes(thread) - allocated;
+                ops += count;
+
+                double opsPerSecond = count * 1e9d / elapsed;
+                System.out.printf(Locale.US, "%,d ops: %,.0f ops/s, drift %.3e, passes %d, %s%n",
+                        ops, opsPerSecond, drift, mPasses.mMax, allocated < 0L ? "allocation unavailable"
+                                : String.format(Locale.US, "%.1f B/op, %.1f MB/s",
+                                        (double) allocated / count, allocated / 1e6d / (elapsed / 1e9d)));
+                result.mMaxDrift = Math.max(result.mMaxDrift, drift);
+                result.mMaxPasses = Math.max(result.mMaxPasses, mPasses.mMax);
+                if (ops > count) result.mMinOpsPerSecond = Math.min(result.mMinOpsPerSecond, opsPerSecond);
+                result.mElapsed += elapsed;
+            }
+        } finally {
+            CalibrationObservers.uninstall(mPasses);
+        }
+        if (result.mMinOpsPerSecond == Double.MAX_VALUE) result.mMinOpsPerSecond = mOps * 1e9d / result.mElapsed;
+        System.out.printf(Locale.US, "total %,d ops: %,.0f ops/s, min window %,.0f ops/s, drift %.3e, passes %d%n",
+                mOps, mOps * 1e9d / result.mElapsed, result.mMinOpsPerSecond, result.mMaxDrift, result.mMaxPasses);
+        if (mMonitor != null) System.out.printf(Locale.US, "monitor: %,d recalibrations, %,d saved%n",
+                mMonitor.getRecalibrationCount(), mMonitor.getSavedRecalibrationCount());
+        return result;
+    }
+
+    /*
+     * Applies a single operation drawn from the mix of 90% shifts, 8% editor entries,
+     * 1.5% removals and .5% resets
+     */
+    private void apply() {
+        int index = mRandom.nextInt(mPercents.size());
+        int draw = mRandom.nextInt(1000);
+        if (draw < 980) {
+            double magnitude = draw < 900 ? (mRandom.nextDouble() * 2d - 1d) * Calibrater.STANDARD_MAGNITUDE
+                    : mRandom.nextDouble() * 2d / mPercents.size() - mPercents.get(index); // editor entry
+            if (mMonitor != null) mMonitor.shiftRatings(index, magnitude);
+            else Calibrater.shiftRatings(mPercents, index, magnitude, mPrecision, mPolicy);
+        } else if (draw < 995) {
+            if (mMonitor != null) mMonitor.removeRating(index);
+            else Calibrater.removeRating(mPercents, index, mPrecision);
+            if (mPercents.size() < mSize / 2) replenish();
+        } else if (mMonitor != null) mMonitor.resetRatings(true);
+        else Calibrater.resetRatings(mPercents, true, mPrecision);
+    }
+
+    private void replenish() {
+        while (mPercents.size() < mSize) mPercents.add(0d);
+        if (mMonitor != null) mMonitor.resetRatings(true);
+        else Calibrater.resetRatings(mPercents, true, mPrecision);
+    }
+
+    private double drift() {
+        double sum = 0d;
+        for (int i = 0; i < mPercents.size(); i++) sum += mPercents.get(i);
+        return Math.abs(1d - sum);
+    }
+
+    /**
+     * {@link CalibrationObserver} retaining the most passes taken by a single shift.
+     */
+    private static final class PassRecorder implements CalibrationObserver {
+
+        int mMax;
+
+        @Override public void onOperation(Operation operation, int size, int index, double magnitude,
+                boolean adjusted, int passes, int clamped, double residual, long nanos) {
+            if (passes > mMax) mMax = passes;
+        }
+    }
+
+    private static final class Result {
+        double mMaxDrift;
+        int mMaxPasses;
+        double mMinOpsPerSecond = Double.MAX_VALUE;
+        long mElapsed;
+    }
+}
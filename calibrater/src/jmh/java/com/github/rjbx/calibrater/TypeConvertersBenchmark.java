@@ -0,0 +1,65 @@
+package com.github.rjbx.calibrater;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the copying {@link TypeConverters} methods against views and exports
+ * written into caller-supplied buffers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:+UseParallelGC")
+public class TypeConvertersBenchmark {
+
+    @Param({"20", "1000"})
+    public int size;
+
+    private double[] mArray;
+    private List<Double> mList;
+    private float[] mFloatBuffer;
+    private double[] mDoubleBuffer;
+
+    @Setup public void setUp() {
+        mArray = new double[size];
+        for (int i = 0; i < size; i++) mArray[i] = 1d / size;
+        mList = TypeConverters.arrayDoubleToListDouble(mArray);
+        mFloatBuffer = new float[size];
+        mDoubleBuffer = new double[size];
+    }
+
+    @Benchmark public List<Double> importCopy() { return TypeConverters.arrayDoubleToListDouble(mArray); }
+
+    @Benchmark public List<Double> importView() { return TypeConverters.viewArrayDouble(mArray); }
+
+    @Benchmark public float[] exportFloatCopy() { return TypeConverters.listDoubleToArrayFloat(mList); }
+
+    @Benchmark public float[] exportFloatInto() { return TypeConverters.listDoubleToArrayFloat(mList, mFloatBuffer); }
+
+    @Benchmark public double[] exportDoubleCopy() { return TypeConverters.listDoubleToArrayDouble(mList); }
+
+    @Benchmark public double[] exportDoubleInto() { return TypeConverters.listDoubleToArrayDouble(mList, mDoubleBuffer); }
+
+    @Benchmark public boolean recalibrateCopiedList() {
+        return Calibrater.recalibrateRatings(TypeConverters.arrayDoubleToListDouble(mArray), true, Calibrater.STANDARD_PRECISION);
+    }
+
+    @Benchmark public boolean recalibrateView() {
+        return Calibrater.recalibrateRatings(TypeConverters.viewArrayDouble(mArray), true, Calibrater.STANDARD_PRECISION);
+    }
+}
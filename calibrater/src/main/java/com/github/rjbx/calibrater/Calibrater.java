@@ -1,5 +1,8 @@
 package com.github.rjbx.calibrater;
 
+import com.github.rjbx.calibrater.CalibrationMetrics.Operation;
+
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -10,6 +13,12 @@ public final class Calibrater {
     public static final int STANDARD_PRECISION = 4;
     public static final double STANDARD_MAGNITUDE = .01d;
 
+    /**
+     * Greatest number of decimal places to which the error from the whole can be resolved
+     * for {@code float} elements; greater precisions are limited to this value
+     */
+    public static final int FLOAT_PRECISION = 6;
+
     /**
      * Increments or decrements an element of a {@code List} of {@link Double} by the specified
      * magnitude while calibrating other {@code List} of {@link Double} elements to maintain
@@ -21,55 +30,342 @@ public final class Calibrater {
      * @return true if percent was adjusted and false otherwise
      */
     public static boolean shiftRatings(List<Double> percents, int index, double magnitude, int precision) {
+        return shiftRatings(percents, index, magnitude, precision, RedistributionPolicy.EQUAL);
+    }
+
+    /**
+     * Increments or decrements an element of a {@code List} of {@link Double} by the specified
+     * magnitude while calibrating other {@code List} of {@link Double} elements to maintain
+     * proportionality to the whole within the range of the specified precision.
+     * @param percents {@link Double} {@code List} elements to be adjusted if not proportionate
+     * @param index index of the array element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param policy strategy for distributing the offset among the other elements
+     * @return true if percent was adjusted and false otherwise
+     */
+    public static boolean shiftRatings(
+            List<Double> percents, int index, double magnitude, int precision, RedistributionPolicy policy) {
+        if (percents instanceof DoubleArrayView) { // adjust backing array in place
+            DoubleArrayView view = (DoubleArrayView) percents;
+            return shiftRatings(view.mArray, view.mFrom, view.mTo, index, magnitude, precision, policy);
+        }
+        double[] array = TypeConverters.listDoubleToArrayDouble(percents);
+        boolean result = shiftRatings(array, 0, array.length, index, magnitude, precision, policy);
+        if (result) for (int i = 0; i < array.length; i++) {
+            if (array[i] != percents.get(i)) percents.set(i, array[i]); // write back changed elements only
+        }
+        return result;
+    }
+
+    /**
+     * Increments or decrements an element of a {@code double} array by the specified
+     * magnitude while calibrating other {@code double} array elements to maintain
+     * proportionality to the whole within the range of the specified precision.
+     * @param percents {@code double} array elements to be adjusted if not proportionate
+     * @param index index of the array element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param policy strategy for distributing the offset among the other elements
+     * @return true if percent was adjusted and false otherwise
+     */
+    public static boolean shiftRatings(
+            double[] percents, int index, double magnitude, int precision, RedistributionPolicy policy) {
+        return shiftRatings(percents, 0, percents.length, index, magnitude, precision, policy);
+    }
+
+    /**
+     * Assigns equivalent percents to each {@code double} array element.
+     * @param percents {@code double} array elements to be reset if not equivalent
+     * @param forceReset applies reset even if sum of array elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean resetRatings(double[] percents, boolean forceReset, int precision) {
+        return resetRatings(percents, 0, percents.length, forceReset, precision);
+    }
+
+    /**
+     * Equally distributes to each {@code double} array element the difference between
+     * the whole and the sum of all array elements.
+     * @param percents {@code double} array to be calibrated closer to the whole
+     * @param forceReset applies reset even if sum of array elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean recalibrateRatings(double[] percents, boolean forceReset, int precision) {
+        return recalibrateRatings(percents, 0, percents.length, forceReset, precision);
+    }
+
+    /**
+     * Increments or decrements an element of a {@code float} array by the specified
+     * magnitude while calibrating other {@code float} array elements to maintain
+     * proportionality to the whole within the range of the specified precision.
+     * Elements are adjusted in place; precision is limited to {@link #FLOAT_PRECISION}.
+     * @param percents {@code float} array elements to be adjusted if not proportionate
+     * @param index index of the array element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param policy strategy for distributing the offset among the other elements
+     * @return true if percent was adjusted and false otherwise
+     */
+    public static boolean shiftRatings(
+            float[] percents, int index, double magnitude, int precision, RedistributionPolicy policy) {
+        return shiftRatings(percents, 0, percents.length, index, magnitude, precision, policy);
+    }
+
+    /**
+     * Assigns equivalent percents to each {@code float} array element.
+     * Precision is limited to {@link #FLOAT_PRECISION}.
+     * @param percents {@code float} array elements to be reset if not equivalent
+     * @param forceReset applies reset even if sum of array elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean resetRatings(float[] percents, boolean forceReset, int precision) {
+        return resetRatings(percents, 0, percents.length, forceReset, precision);
+    }
+
+    /**
+     * Equally distributes to each {@code float} array element the difference between
+     * the whole and the sum of all array elements.
+     * Precision is limited to {@link #FLOAT_PRECISION}.
+     * @param percents {@code float} array to be calibrated closer to the whole
+     * @param forceReset applies reset even if sum of array elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean recalibrateRatings(float[] percents, boolean forceReset, int precision) {
+        return recalibrateRatings(percents, 0, percents.length, forceReset, precision);
+    }
+
+    /*
+     * Shifts the series occupying the specified range of the array; index is relative to from.
+     */
+    static boolean shiftRatings(double[] percents, int from, int to, int index,
+            double magnitude, int precision, RedistributionPolicy policy) {
+        CalibrationObserver observer = CalibrationObservers.sObserver;
+        if (observer == null) return shift(percents, from, to, index, magnitude, precision, policy) >= 0;
+        boolean detailed = observer.isDetailed();
+        double[] before = detailed ? CalibrationMetrics.beforeShift(percents, from, to) : null;
+        long start = System.nanoTime();
+        int passes = shift(percents, from, to, index, magnitude, precision, policy);
+        long nanos = System.nanoTime() - start;
+        boolean adjusted = passes >= 0;
+        observer.onOperation(Operation.SHIFT, to - from, index, magnitude, adjusted, Math.max(passes, 0),
+                detailed ? CalibrationMetrics.countClamped(before, percents, from, to) : -1,
+                detailed ? 1d - Kernels.SCALAR.sum(percents, from, to) : Double.NaN, nanos);
+        return adjusted;
+    }
+
+    /*
+     * Shifts the series occupying the specified range of the array.
+     * Returns the number of redistribution passes taken, or -1 if no element was adjusted.
+     */
+    private static int shift(double[] percents, int from, int to, int index,
+            double magnitude, int precision, RedistributionPolicy policy) {
 
         if (precision > 16 || precision < 0 || magnitude > 1d || magnitude < -1d) {
             throw new IllegalArgumentException("Parameter value is out of bounds");
         }
 
-        if (magnitude == 0 || percents.size() < 2) {
-            return false; // nothing to adjust
+        if (magnitude == 0 || to - from < 2) {
+            return -1; // nothing to adjust
         }
 
-        if ((percents.get(index) == 0d && magnitude < 0d)
-        || (percents.get(index) == 1d && magnitude > 0d)) {
-            return false; // percent outside adjustable limits
+        if (index < 0 || index >= to - from) throw new IndexOutOfBoundsException();
+
+        int adjusted = from + index;
+        if ((percents[adjusted] == 0d && magnitude < 0d)
+        || (percents[adjusted] == 1d && magnitude > 0d)) {
+            return -1; // percent outside adjustable limits
         }
 
-        percents.set(index, percents.get(index) + magnitude);
-        if (percents.get(index) >= 1d) { // adjusted percent is whole so rest must be zero
-            percents.set(index, 1d);
-            for (int i = 0; i < percents.size(); i++) if (index != i) percents.set(i, 0d);
+        percents[adjusted] += magnitude;
+        if (percents[adjusted] >= 1d) { // adjusted percent is whole so rest must be zero
+            percents[adjusted] = 1d;
+            for (int i = from; i < to; i++) if (adjusted != i) percents[i] = 0d;
         } else {
 
             magnitude *= -1;
-            if (percents.get(index) <= 0d) {
-                magnitude += percents.get(index); // restore unallocated offset
-                percents.set(index, 0d); // set to limit
+            if (percents[adjusted] <= 0d) {
+                magnitude += percents[adjusted]; // restore unallocated offset
+                percents[adjusted] = 0d; // set to limit
             }
 
-            int excluded = 1; // prevent further allocation after maxing out all elements
-            double limit = magnitude < 0d ? 0d : 1d; // limit approached by offset percents
-            double error = Math.pow(10, -precision);
-
-            while (Math.abs(magnitude) >= Math.abs(error) && excluded <= percents.size()) { // offset expended or exclusions maxed
-                double allocation = (magnitude / (percents.size() - excluded)); // factor in exclusions on iterations
-                for (int i = 0; i < percents.size(); i++) {
-                    if (i != index && (percents.get(i) != 0d || magnitude > 0d)) { // ignore adjusted and exclude only once
-                        percents.set(i, percents.get(i) + allocation);
-                        magnitude -= allocation; // expend allocated for recalculating offset on iterations
-                        if (percents.get(i) + error  < limit * -1) { // below limit within margin of error
-                            if (percents.get(i) < 0d) magnitude += percents.get(i); // restore unallocated offset
-                            percents.set(i, limit); // set to limit
-                            excluded++; // decrease offset divisor for fewer allocations
-                        }
-                    } else if (percents.get(i) < 0) {
-                        percents.set(i, 0d);
-                        magnitude += percents.get(i);
-                    }
-                }
+            return policy.redistribute(percents, from, to, index, magnitude, precision);
+
+        } return 0;
+    }
+
+    /*
+     * Resets the series occupying the specified range of the array.
+     */
+    static boolean resetRatings(double[] percents, int from, int to, boolean forceReset, int precision) {
+        CalibrationObserver observer = CalibrationObservers.sObserver;
+        if (observer == null) return reset(percents, from, to, forceReset, precision);
+        long start = System.nanoTime();
+        boolean result = reset(percents, from, to, forceReset, precision);
+        long nanos = System.nanoTime() - start;
+        observer.onOperation(Operation.RESET, to - from, -1, 0d, result, 0, -1,
+                observer.isDetailed() ? 1d - Kernels.SCALAR.sum(percents, from, to) : Double.NaN, nanos);
+        return result;
+    }
+
+    private static boolean reset(double[] percents, int from, int to, boolean forceReset, int precision) {
+        double sum = Kernels.DEFAULT.sum(percents, from, to);
+        double error = Math.pow(10, -precision);
+        if (sum > 1d + error || sum < 1d - error || forceReset) { // elements are not proportionate
+            Kernels.DEFAULT.fill(percents, from, to, 1d / (to - from));
+            return true;
+        } else return false;
+    }
+
+    /*
+     * Recalibrates the series occupying the specified range of the array.
+     */
+    static boolean recalibrateRatings(double[] percents, int from, int to, boolean forceReset, int precision) {
+        CalibrationObserver observer = CalibrationObservers.sObserver;
+        if (observer == null) return recalibrate(percents, from, to, forceReset, precision);
+        long start = System.nanoTime();
+        boolean result = recalibrate(percents, from, to, forceReset, precision);
+        long nanos = System.nanoTime() - start;
+        observer.onOperation(Operation.RECALIBRATE, to - from, -1, 0d, result, 0, -1,
+                observer.isDetailed() ? 1d - Kernels.SCALAR.sum(percents, from, to) : Double.NaN, nanos);
+        return result;
+    }
+
+    private static boolean recalibrate(double[] percents, int from, int to, boolean forceReset, int precision) {
+        double sum = Kernels.DEFAULT.sum(percents, from, to);
+        double difference = (1d - sum) / (to - from);
+        double error = Math.pow(10, -precision);
+        if (sum > 1d + error || sum < 1d - error || forceReset) { // elements are not proportionate
+            Kernels.DEFAULT.addClamped(percents, from, to, difference);
+            return true;
+        } return false;
+    }
+
+    /*
+     * Shifts the series occupying the specified range of the float array; index is relative to from.
+     */
+    static boolean shiftRatings(float[] percents, int from, int to, int index,
+            double magnitude, int precision, RedistributionPolicy policy) {
+        CalibrationObserver observer = CalibrationObservers.sObserver;
+        if (observer == null) return shift(percents, from, to, index, magnitude, precision, policy) >= 0;
+        boolean detailed = observer.isDetailed();
+        double[] before = detailed ? CalibrationMetrics.beforeShift(percents, from, to) : null;
+        long start = System.nanoTime();
+        int passes = shift(percents, from, to, index, magnitude, precision, policy);
+        long nanos = System.nanoTime() - start;
+        boolean adjusted = passes >= 0;
+        observer.onOperation(Operation.SHIFT, to - from, index, magnitude, adjusted, Math.max(passes, 0),
+                detailed ? CalibrationMetrics.countClamped(before, percents, from, to) : -1,
+                detailed ? 1d - sum(percents, from, to) : Double.NaN, nanos);
+        return adjusted;
+    }
+
+    /*
+     * Shifts the series occupying the specified range of the float array.
+     * Returns the number of redistribution passes taken, or -1 if no element was adjusted.
+     */
+    private static int shift(float[] percents, int from, int to, int index,
+            double magnitude, int precision, RedistributionPolicy policy) {
+
+        if (precision > 16 || precision < 0 || magnitude > 1d || magnitude < -1d) {
+            throw new IllegalArgumentException("Parameter value is out of bounds");
+        }
+        precision = Math.min(precision, FLOAT_PRECISION);
+
+        if (magnitude == 0 || to - from < 2) {
+            return -1; // nothing to adjust
+        }
+
+        if (index < 0 || index >= to - from) throw new IndexOutOfBoundsException();
+
+        int adjusted = from + index;
+        if ((percents[adjusted] == 0f && magnitude < 0d)
+        || (percents[adjusted] == 1f && magnitude > 0d)) {
+            return -1; // percent outside adjustable limits
+        }
+
+        double percent = percents[adjusted] + magnitude; // adjusted at double precision before narrowing
+        if (percent >= 1d) { // adjusted percent is whole so rest must be zero
+            Arrays.fill(percents, from, to, 0f);
+            percents[adjusted] = 1f;
+        } else {
+
+            magnitude *= -1;
+            if (percent <= 0d) {
+                magnitude += percent; // restore unallocated offset
+                percent = 0d; // set to limit
             }
+            percents[adjusted] = (float) percent;
+            magnitude -= percents[adjusted] - percent; // offset rounding of the adjusted element
+
+            return policy.redistribute(percents, from, to, index, magnitude, precision);
 
-        } return true;
+        } return 0;
+    }
+
+    /*
+     * Resets the series occupying the specified range of the float array.
+     */
+    static boolean resetRatings(float[] percents, int from, int to, boolean forceReset, int precision) {
+        CalibrationObserver observer = CalibrationObservers.sObserver;
+        if (observer == null) return reset(percents, from, to, forceReset, precision);
+        long start = System.nanoTime();
+        boolean result = reset(percents, from, to, forceReset, precision);
+        long nanos = System.nanoTime() - start;
+        observer.onOperation(Operation.RESET, to - from, -1, 0d, result, 0, -1,
+                observer.isDetailed() ? 1d - sum(percents, from, to) : Double.NaN, nanos);
+        return result;
+    }
+
+    private static boolean reset(float[] percents, int from, int to, boolean forceReset, int precision) {
+        double error = Math.pow(10, -Math.min(precision, FLOAT_PRECISION));
+        double sum = sum(percents, from, to);
+        if (sum > 1d + error || sum < 1d - error || forceReset) { // elements are not proportionate
+            Arrays.fill(percents, from, to, (float) (1d / (to - from)));
+            return true;
+        } else return false;
+    }
+
+    /*
+     * Recalibrates the series occupying the specified range of the float array.
+     */
+    static boolean recalibrateRatings(float[] percents, int from, int to, boolean forceReset, int precision) {
+        CalibrationObserver observer = CalibrationObservers.sObserver;
+        if (observer == null) return recalibrate(percents, from, to, forceReset, precision);
+        long start = System.nanoTime();
+        boolean result = recalibrate(percents, from, to, forceReset, precision);
+        long nanos = System.nanoTime() - start;
+        observer.onOperation(Operation.RECALIBRATE, to - from, -1, 0d, result, 0, -1,
+                observer.isDetailed() ? 1d - sum(percents, from, to) : Double.NaN, nanos);
+        return result;
+    }
+
+    private static boolean recalibrate(float[] percents, int from, int to, boolean forceReset, int precision) {
+        double error = Math.pow(10, -Math.min(precision, FLOAT_PRECISION));
+        double sum = sum(percents, from, to);
+        double difference = (1d - sum) / (to - from);
+        if (sum > 1d + error || sum < 1d - error || forceReset) { // elements are not proportionate
+            for (int i = from; i < to; i++) {
+                double percent = percents[i] + difference;
+                if (percent > 1d) percent = 1d;
+                else if (percent < 0d) percent = 0d;
+                percents[i] = (float) percent;
+            }
+            return true;
+        } return false;
+    }
+
+    /*
+     * Sums float elements at double precision so that rounding does not compound with length.
+     */
+    private static double sum(float[] percents, int from, int to) {
+        double sum = 0d;
+        for (int i = from; i < to; i++) sum += percents[i];
+        return sum;
     }
 
     /**
@@ -80,11 +376,29 @@ public final class Calibrater {
      * @return true if values were adjusted; false otherwise
      */
     public static boolean resetRatings(List<Double> percents, boolean forceReset, int precision) {
+        if (percents instanceof DoubleArrayView) { // adjust backing array in place
+            DoubleArrayView view = (DoubleArrayView) percents;
+            return resetRatings(view.mArray, view.mFrom, view.mTo, forceReset, precision);
+        }
+        CalibrationObserver observer = CalibrationObservers.sObserver;
+        if (observer == null) return reset(percents, forceReset, precision);
+        long start = System.nanoTime();
+        boolean result = reset(percents, forceReset, precision);
+        long nanos = System.nanoTime() - start;
+        double sum = 0d;
+        if (observer.isDetailed()) for (double percent : percents) sum += percent;
+        observer.onOperation(Operation.RESET, percents.size(), -1, 0d, result, 0, -1,
+                observer.isDetailed() ? 1d - sum : Double.NaN, nanos);
+        return result;
+    }
+
+    private static boolean reset(List<Double> percents, boolean forceReset, int precision) {
         double sum = 0d;
         for (double percent : percents) sum += percent;
         double error = Math.pow(10, -precision);
         if (sum > 1d + error || sum < 1d - error || forceReset) { // elements are not proportionate
-            for (int i = 0; i < percents.size(); i++) percents.set(i, 1d / percents.size());
+            double percent = 1d / percents.size();
+            for (int i = 0; i < percents.size(); i++) if (percents.get(i) != percent) percents.set(i, percent);
             return true;
         } else return false;
     }
@@ -99,8 +413,267 @@ public final class Calibrater {
      * @return true if values were adjusted; false otherwise
      */
     public static boolean removeRating(List<Double> percents, int index, int precision) {
+        boolean observed = CalibrationObservers.isActive();
+        long start = observed ? System.nanoTime() : 0L;
         percents.remove(index);
-        return recalibrateRatings(percents, false, precision);
+        boolean result = recalibrateRatings(percents, false, precision);
+        if (observed) CalibrationObservers.report(Operation.REMOVE, percents.size(), index, 0d, result, start);
+        return result;
+    }
+
+    /**
+     * Inserts {@code Double} into {@code List} at the specified index, withdrawing its share
+     * of the whole from the other elements in accordance with {@link RedistributionPolicy#EQUAL}.
+     * @param percents {@code List} of {@code Double} elements into which to insert the element
+     * @param index location at which the element is to be inserted
+     * @param percent share of the whole to be held by the inserted element; between 0 and 1
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean insertRating(List<Double> percents, int index, double percent, int precision) {
+        return insertRating(percents, index, percent, precision, RedistributionPolicy.EQUAL);
+    }
+
+    /**
+     * Inserts {@code Double} into {@code List} at the specified index, withdrawing its share
+     * of the whole from the other elements in a single redistribution under the specified policy
+     * rather than recalibrating the series. An element inserted into an empty series holds the whole.
+     * @param percents {@code List} of {@code Double} elements into which to insert the element
+     * @param index location at which the element is to be inserted
+     * @param percent share of the whole to be held by the inserted element; between 0 and 1
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param policy strategy for withdrawing the share from the other elements
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean insertRating(
+            List<Double> percents, int index, double percent, int precision, RedistributionPolicy policy) {
+        int size = percents.size();
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException();
+        CalibrationObserver observer = CalibrationObservers.sObserver;
+        long start = observer != null ? System.nanoTime() : 0L;
+        double[] array = new double[size + 1];
+        for (int i = 0; i < size; i++) array[i < index ? i : i + 1] = percents.get(i);
+        array[index] = percent;
+        int passes = insert(array, index, 1, precision, policy);
+        percents.add(index, array[index]);
+        if (passes >= 0) for (int i = 0; i <= size; i++) {
+            if (i != index && array[i] != percents.get(i)) percents.set(i, array[i]);
+        }
+        if (observer != null) report(observer, Operation.INSERT, array, index, percent, passes, start);
+        return passes >= 0;
+    }
+
+    /**
+     * Appends the {@code List} of {@code Double} additions to the end of the series, withdrawing
+     * their combined share of the whole from the existing elements in a single redistribution under
+     * the specified policy, so that loading many elements costs no more than inserting one.
+     * Additions to an empty series are recalibrated to hold the whole.
+     * @param percents {@code List} of {@code Double} elements to which to append the additions
+     * @param additions {@code List} of {@code Double} shares of the whole, together no more than 1
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param policy strategy for withdrawing the share from the existing elements
+     * @return true if values were adjusted; false otherwise
+     */
+    public static boolean appendRatings(
+            List<Double> percents, List<Double> additions, int precision, RedistributionPolicy policy) {
+        int size = percents.size();
+        int count = additions.size();
+        if (count == 0) return false;
+        CalibrationObserver observer = CalibrationObservers.sObserver;
+        long start = observer != null ? System.nanoTime() : 0L;
+        double[] array = new double[size + count];
+        for (int i = 0; i < size; i++) array[i] = percents.get(i);
+        double share = 0d;
+        for (int i = 0; i < count; i++) share += array[size + i] = additions.get(i);
+        int passes = insert(array, size, count, precision, policy);
+        if (passes >= 0) for (int i = 0; i < size; i++) if (array[i] != percents.get(i)) percents.set(i, array[i]);
+        for (int i = size; i < array.length; i++) percents.add(array[i]);
+        if (observer != null) report(observer, Operation.INSERT, array, size, share, passes, start);
+        return passes >= 0;
+    }
+
+    /*
+     * Withdraws the share of the elements inserted at the specified location of the array
+     * from the remaining elements; multiple elements may only be inserted at the end.
+     * Returns the number of redistribution passes taken, or -1 if no element was adjusted.
+     */
+    private static int insert(double[] percents, int index, int count, int precision, RedistributionPolicy policy) {
+
+        double share = 0d;
+        for (int i = index; i < index + count; i++) {
+            if (!(percents[i] >= 0d && percents[i] <= 1d)) { // also rejects NaN
+                throw new IllegalArgumentException("Parameter value is out of bounds");
+            } share += percents[i];
+        }
+        if (precision > 16 || precision < 0 || share > 1d + Math.pow(10, -precision)) {
+            throw new IllegalArgumentException("Parameter value is out of bounds");
+        }
+
+        if (count == percents.length) { // inserted into empty series so must hold the whole
+            recalibrate(percents, 0, count, false, precision); // already whole if nothing changed
+            return 0;
+        }
+        if (share == 0d) return -1; // nothing to withdraw
+
+        if (count == 1) return policy.redistribute(percents, 0, percents.length, index, -share, precision);
+        return policy.redistribute(percents, 0, index, -1, -share, precision);
+    }
+
+    /*
+     * Returns the policy allocating among the elements compacted into an array holding only those
+     * at the specified ascending indices as it would among the same elements in place, or null if
+     * the allocation of the policy depends on location in a way that cannot be translated
+     */
+    static RedistributionPolicy compacted(RedistributionPolicy policy, int[] indices, int count) {
+        if (policy == RedistributionPolicy.EQUAL || policy == RedistributionPolicy.PROPORTIONAL) return policy;
+        if (policy instanceof PriorityRedistribution) return ((PriorityRedistribution) policy).compacted(indices, count);
+        return null;
+    }
+
+    /*
+     * Returns the policy translated onto the compacted elements; a policy which cannot be translated
+     * allocates among the compacted elements in ascending order of their locations
+     */
+    private static RedistributionPolicy compactedOrSelf(RedistributionPolicy policy, int[] indices) {
+        RedistributionPolicy compacted = compacted(policy, indices, indices.length);
+        return compacted != null ? compacted : policy;
+    }
+
+    private static void report(CalibrationObserver observer, Operation operation,
+            double[] percents, int index, double magnitude, int passes, long start) {
+        long nanos = System.nanoTime() - start;
+        observer.onOperation(operation, percents.length, index, magnitude, passes >= 0, Math.max(passes, 0), -1,
+                observer.isDetailed() ? 1d - Kernels.SCALAR.sum(percents, 0, percents.length) : Double.NaN, nanos);
+    }
+
+    /**
+     * Increments or decrements a group of {@code List} of {@code Double} elements together by the
+     * specified magnitude, distributing the magnitude among the group under one policy and its offset
+     * among the remaining elements under another in a single redistribution, so that members of
+     * the group do not absorb the offsets of each other as they would if shifted one at a time.
+     * The magnitude is limited to what the group can gain from or yield to the remaining elements.
+     * Policies allocating by location, such as {@link RedistributionPolicy#priority(int...)},
+     * address the elements by their locations within the series.
+     * @param percents {@code List} of {@code Double} elements to be adjusted if not proportionate
+     * @param indices distinct locations of the elements of the group
+     * @param magnitude combined amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param within strategy for distributing the magnitude among the group
+     * @param across strategy for distributing the offset among the other elements
+     * @return true if percents were adjusted and false otherwise
+     */
+    public static boolean shiftGroupRatings(List<Double> percents, int[] indices, double magnitude,
+            int precision, RedistributionPolicy within, RedistributionPolicy across) {
+        if (percents instanceof DoubleArrayView) { // adjust backing array in place
+            DoubleArrayView view = (DoubleArrayView) percents;
+            return shiftGroupRatings(view.mArray, view.mFrom, view.mTo, indices, magnitude, precision, within, across);
+        }
+        double[] array = TypeConverters.listDoubleToArrayDouble(percents);
+        boolean result = shiftGroupRatings(array, 0, array.length, indices, magnitude, precision, within, across);
+        if (result) for (int i = 0; i < array.length; i++) {
+            if (array[i] != percents.get(i)) percents.set(i, array[i]); // write back changed elements only
+        }
+        return result;
+    }
+
+    /**
+     * Increments or decrements the range of {@code List} of {@code Double} elements together
+     * in accordance with {@link #shiftGroupRatings(List, int[], double, int, RedistributionPolicy, RedistributionPolicy)}.
+     * @param percents {@code List} of {@code Double} elements to be adjusted if not proportionate
+     * @param from location of the first element of the group
+     * @param to location following the last element of the group
+     * @param magnitude combined amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param within strategy for distributing the magnitude among the group
+     * @param across strategy for distributing the offset among the other elements
+     * @return true if percents were adjusted and false otherwise
+     */
+    public static boolean shiftGroupRatings(List<Double> percents, int from, int to, double magnitude,
+            int precision, RedistributionPolicy within, RedistributionPolicy across) {
+        if (from < 0 || from > to || to > percents.size()) throw new IndexOutOfBoundsException();
+        int[] indices = new int[to - from];
+        for (int i = 0; i < indices.length; i++) indices[i] = from + i;
+        return shiftGroupRatings(percents, indices, magnitude, precision, within, across);
+    }
+
+    /**
+     * Increments or decrements a group of {@code double} array elements together
+     * in accordance with {@link #shiftGroupRatings(List, int[], double, int, RedistributionPolicy, RedistributionPolicy)}.
+     * @param percents {@code double} array elements to be adjusted if not proportionate
+     * @param indices distinct locations of the elements of the group
+     * @param magnitude combined amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param within strategy for distributing the magnitude among the group
+     * @param across strategy for distributing the offset among the other elements
+     * @return true if percents were adjusted and false otherwise
+     */
+    public static boolean shiftGroupRatings(double[] percents, int[] indices, double magnitude,
+            int precision, RedistributionPolicy within, RedistributionPolicy across) {
+        return shiftGroupRatings(percents, 0, percents.length, indices, magnitude, precision, within, across);
+    }
+
+    /*
+     * Shifts the group of the series occupying the specified range of the array; indices are relative to from.
+     */
+    static boolean shiftGroupRatings(double[] percents, int from, int to, int[] indices,
+            double magnitude, int precision, RedistributionPolicy within, RedistributionPolicy across) {
+        CalibrationObserver observer = CalibrationObservers.sObserver;
+        if (observer == null) return shiftGroup(percents, from, to, indices, magnitude, precision, within, across) >= 0;
+        long start = System.nanoTime();
+        int passes = shiftGroup(percents, from, to, indices, magnitude, precision, within, across);
+        long nanos = System.nanoTime() - start;
+        observer.onOperation(Operation.SHIFT, to - from, -1, magnitude, passes >= 0, Math.max(passes, 0), -1,
+                observer.isDetailed() ? 1d - Kernels.SCALAR.sum(percents, from, to) : Double.NaN, nanos);
+        return passes >= 0;
+    }
+
+    /*
+     * Gathers the group and the remaining elements into separate arrays, redistributes the magnitude
+     * within the group and the offset actually applied across the rest, then scatters both back.
+     * Returns the number of redistribution passes taken, or -1 if no element was adjusted.
+     */
+    private static int shiftGroup(double[] percents, int from, int to, int[] indices,
+            double magnitude, int precision, RedistributionPolicy within, RedistributionPolicy across) {
+
+        if (precision > 16 || precision < 0 || magnitude > 1d || magnitude < -1d) {
+            throw new IllegalArgumentException("Parameter value is out of bounds");
+        }
+
+        int size = to - from;
+        boolean[] member = new boolean[size];
+        for (int index : indices) {
+            if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+            if (member[index]) throw new IllegalArgumentException("Parameter value is out of bounds");
+            member[index] = true;
+        }
+
+        int count = indices.length;
+        if (magnitude == 0 || count == 0 || count == size) return -1; // nothing to adjust
+
+        int[] groupIndices = new int[count]; // both sides gathered in ascending order of location
+        int[] restIndices = new int[size - count];
+        double[] group = new double[count];
+        double[] rest = new double[size - count];
+        double groupSum = 0d;
+        double restSum = 0d;
+        for (int i = 0, g = 0, r = 0; i < size; i++) {
+            if (member[i]) { groupIndices[g] = i; groupSum += group[g++] = percents[from + i]; }
+            else { restIndices[r] = i; restSum += rest[r++] = percents[from + i]; }
+        }
+
+        double limit = magnitude > 0d // bounded by what either side can give or take
+                ? Math.min(count - groupSum, restSum) : Math.min(groupSum, rest.length - restSum);
+        if (!(limit >= Math.pow(10, -precision))) return -1; // group within error of adjustable limits
+        magnitude = Math.copySign(Math.min(Math.abs(magnitude), limit), magnitude);
+
+        int passes = compactedOrSelf(within, groupIndices).redistribute(group, 0, count, -1, magnitude, precision);
+        double applied = -groupSum; // offset the rest by what the group absorbed within its limits
+        for (double percent : group) applied += percent;
+        passes += compactedOrSelf(across, restIndices).redistribute(rest, 0, rest.length, -1, -applied, precision);
+
+        for (int i = 0; i < count; i++) percents[from + groupIndices[i]] = group[i];
+        for (int i = 0; i < rest.length; i++) percents[from + restIndices[i]] = rest[i];
+        return passes;
     }
 
     /**
@@ -112,15 +685,63 @@ public final class Calibrater {
      * @return true if values were adjusted; false otherwise
      */
     public static boolean recalibrateRatings(List<Double> percents, boolean forceReset, int precision) {
+        if (percents instanceof DoubleArrayView) { // adjust backing array in place
+            DoubleArrayView view = (DoubleArrayView) percents;
+            return recalibrateRatings(view.mArray, view.mFrom, view.mTo, forceReset, precision);
+        }
+        CalibrationObserver observer = CalibrationObservers.sObserver;
+        if (observer == null) return recalibrate(percents, forceReset, precision);
+        long start = System.nanoTime();
+        boolean result = recalibrate(percents, forceReset, precision);
+        long nanos = System.nanoTime() - start;
+        double sum = 0d;
+        if (observer.isDetailed()) for (double percent : percents) sum += percent;
+        observer.onOperation(Operation.RECALIBRATE, percents.size(), -1, 0d, result, 0, -1,
+                observer.isDetailed() ? 1d - sum : Double.NaN, nanos);
+        return result;
+    }
+
+    /**
+     * Retrieve the locations of the elements changed by an operation by more than
+     * {@link #changeTolerance(int, int)}, so that only those need be written back
+     * to the objects holding the series.
+     * @param before {@code double} array elements preceding the operation
+     * @param after {@code double} array elements following the operation, of the same length
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return {@code int} array of indices in ascending order
+     */
+    public static int[] changedIndices(double[] before, double[] after, int precision) {
+        if (before.length != after.length) throw new IllegalArgumentException("Parameter value is out of bounds");
+        double tolerance = changeTolerance(after.length, precision);
+        int[] changed = new int[after.length];
+        int count = 0;
+        for (int i = 0; i < after.length; i++) if (!(Math.abs(after[i] - before[i]) <= tolerance)) changed[count++] = i;
+        return count == changed.length ? changed : Arrays.copyOf(changed, count);
+    }
+
+    /**
+     * Retrieve the largest change to an element of a series of the specified size which counts
+     * as no change. The permitted error from the whole is divided among the elements, so that
+     * a series of which every element is left unchanged within the tolerance remains within
+     * the permitted error of the series as changed.
+     * @param size number of elements in the series
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return tolerance of each element
+     */
+    public static double changeTolerance(int size, int precision) {
+        return Math.pow(10, -precision) / Math.max(1, size);
+    }
+
+    private static boolean recalibrate(List<Double> percents, boolean forceReset, int precision) {
         double sum = 0d;
         for (double percent : percents) sum += percent;
         double difference = (1d - sum) / percents.size();
         double error = Math.pow(10, -precision);
         if (sum > 1d + error || sum < 1d - error || forceReset) { // elements are not proportionate
             for (int i = 0; i < percents.size(); i++) {
-                percents.set(i, percents.get(i) + difference);
-                if (percents.get(i) > 1d) percents.set(i, 1d);
-                else if (percents.get(i) < 0d) percents.set(i, 0d);
+                double previous = percents.get(i);
+                double percent = Math.max(0d, Math.min(1d, previous + difference));
+                if (percent != previous) percents.set(i, percent);
             }
             return true;
         } return false;
@@ -0,0 +1,45 @@
+package com.github.rjbx.calibrater;
+
+/**
+ * Data-parallel primitives over ranges of a {@code double} array applied by
+ * {@link Calibrater} when resetting and recalibrating.
+ * Implementations are discovered through {@link java.util.ServiceLoader} so that
+ * accelerated kernels may be supplied by separate artifacts; the first implementation
+ * reporting itself as supported replaces the scalar default.
+ */
+public interface CalibrationKernel {
+
+    /**
+     * Reports whether this kernel can be applied in the current runtime.
+     * @return true if supported; false otherwise
+     */
+    boolean isSupported();
+
+    /**
+     * Sums the elements in the specified range of the array.
+     * @param percents {@code double} array of elements to be summed
+     * @param from location of the first element to be summed
+     * @param to location following the last element to be summed
+     * @return sum of the elements
+     */
+    double sum(double[] percents, int from, int to);
+
+    /**
+     * Adds the addend to each element in the specified range of the array,
+     * limiting the result to the range of 0 and 1.
+     * @param percents {@code double} array of elements to be adjusted
+     * @param from location of the first element to be adjusted
+     * @param to location following the last element to be adjusted
+     * @param addend amount to be added to each element
+     */
+    void addClamped(double[] percents, int from, int to, double addend);
+
+    /**
+     * Assigns the value to each element in the specified range of the array.
+     * @param percents {@code double} array of elements to be assigned
+     * @param from location of the first element to be assigned
+     * @param to location following the last element to be assigned
+     * @param value value to be assigned
+     */
+    void fill(double[] percents, int from, int to, double value);
+}
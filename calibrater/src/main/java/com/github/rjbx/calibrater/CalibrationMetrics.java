@@ -0,0 +1,246 @@
+package com.github.rjbx.calibrater;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Opt-in recorder of the work performed by {@link Calibrater} operations.
+ * While no recorder is installed, operations only check for its absence and record nothing;
+ * once installed, each operation records its count, whether it adjusted any element,
+ * the redistribution passes and newly clamped elements of each shift, the residual error of the
+ * series from the whole and its latency, all of which can be exported through {@link #snapshot()}.
+ */
+public final class CalibrationMetrics implements CalibrationObserver {
+
+    /**
+     * Operations reported to {@link CalibrationObserver}s; {@code COMMIT} denotes a value
+     * entered through a controller, which is applied as a nested {@code SHIFT},
+     * and {@code INSERT} either a single insertion or a bulk append.
+     */
+    public enum Operation { SHIFT, RESET, RECALIBRATE, REMOVE, COMMIT, INSERT }
+
+    private static CalibrationMetrics sInstalled;
+
+    private static final ThreadLocal<double[]> SCRATCH = new ThreadLocal<>();
+
+    private final AtomicLongArray mCounts = new AtomicLongArray(Operation.values().length);
+    private final AtomicLongArray mAdjusted = new AtomicLongArray(Operation.values().length);
+    private final LatencyHistogram[] mLatencies = new LatencyHistogram[Operation.values().length];
+    private final AtomicLong mPasses = new AtomicLong();
+    private final AtomicLong mMaxPasses = new AtomicLong();
+    private final AtomicLong mClamped = new AtomicLong();
+    private final AtomicLong mMaxClamped = new AtomicLong();
+    private final AtomicLong mMaxResidual = new AtomicLong(); // bits of a non-negative double
+
+    private CalibrationMetrics() {
+        for (int i = 0; i < mLatencies.length; i++) mLatencies[i] = new LatencyHistogram();
+    }
+
+    /**
+     * Enables recording by installing a new recorder in place of any previously installed.
+     * @return {@link CalibrationMetrics} to which all subsequent operations report
+     */
+    public static synchronized CalibrationMetrics install() {
+        uninstall();
+        sInstalled = new CalibrationMetrics();
+        CalibrationObservers.install(sInstalled);
+        return sInstalled;
+    }
+
+    /**
+     * Disables recording; operations no longer report to any recorder.
+     */
+    public static synchronized void uninstall() {
+        if (sInstalled != null) CalibrationObservers.uninstall(sInstalled);
+        sInstalled = null;
+    }
+
+    /**
+     * Retrieve the installed recorder.
+     * @return {@link CalibrationMetrics} if recording is enabled; null otherwise
+     */
+    public static synchronized CalibrationMetrics installed() { return sInstalled; }
+
+    /**
+     * Clears all values recorded so far.
+     */
+    public void reset() {
+        for (int i = 0; i < mLatencies.length; i++) {
+            mCounts.set(i, 0L);
+            mAdjusted.set(i, 0L);
+            mLatencies[i].reset();
+        }
+        mPasses.set(0L);
+        mMaxPasses.set(0L);
+        mClamped.set(0L);
+        mMaxClamped.set(0L);
+        mMaxResidual.set(0L);
+    }
+
+    /**
+     * Retrieve an immutable copy of the values recorded so far.
+     * @return {@link Snapshot} of the recorded values
+     */
+    public Snapshot snapshot() { return new Snapshot(this); }
+
+    @Override public boolean isDetailed() { return true; }
+
+    @Override public void onOperation(Operation operation, int size, int index, double magnitude,
+            boolean adjusted, int passes, int clamped, double residual, long nanos) {
+        mCounts.incrementAndGet(operation.ordinal());
+        if (adjusted) mAdjusted.incrementAndGet(operation.ordinal());
+        mLatencies[operation.ordinal()].record(nanos);
+        if (operation == Operation.SHIFT && adjusted) {
+            mPasses.addAndGet(passes);
+            updateMax(mMaxPasses, passes);
+            if (clamped >= 0) {
+                mClamped.addAndGet(clamped);
+                updateMax(mMaxClamped, clamped);
+            }
+        }
+        if (!Double.isNaN(residual)) {
+            long bits = Double.doubleToLongBits(Math.abs(residual));
+            updateMax(mMaxResidual, bits); // ordering of non-negative double bits matches their values
+        }
+    }
+
+    /*
+     * Retains a copy of the series occupying the specified range in a per-thread scratch array.
+     */
+    static double[] beforeShift(double[] percents, int from, int to) {
+        double[] scratch = scratch(to - from);
+        System.arraycopy(percents, from, scratch, 0, to - from);
+        return scratch;
+    }
+
+    /*
+     * Retains a widened copy of the series occupying the specified range in a per-thread scratch array.
+     */
+    static double[] beforeShift(float[] percents, int from, int to) {
+        double[] scratch = scratch(to - from);
+        for (int i = from; i < to; i++) scratch[i - from] = percents[i];
+        return scratch;
+    }
+
+    /*
+     * Counts the elements of the series which have changed to a limit since the copy was retained.
+     */
+    static int countClamped(double[] before, double[] percents, int from, int to) {
+        int clamped = 0;
+        for (int i = from; i < to; i++) {
+            if ((percents[i] == 0d || percents[i] == 1d) && percents[i] != before[i - from]) clamped++;
+        } return clamped;
+    }
+
+    /*
+     * Counts the elements of the float series which have changed to a limit since the copy was retained.
+     */
+    static int countClamped(double[] before, float[] percents, int from, int to) {
+        int clamped = 0;
+        for (int i = from; i < to; i++) {
+            if ((percents[i] == 0f || percents[i] == 1f) && percents[i] != before[i - from]) clamped++;
+        } return clamped;
+    }
+
+    private static double[] scratch(int length) {
+        double[] scratch = SCRATCH.get();
+        if (scratch == null || scratch.length < length) SCRATCH.set(scratch = new double[length]);
+        return scratch;
+    }
+
+    private static void updateMax(AtomicLong max, long value) {
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value));
+    }
+
+    /**
+     * Immutable copy of the values recorded by {@link CalibrationMetrics}.
+     */
+    public static final class Snapshot {
+
+        private final long[] mCounts = new long[Operation.values().length];
+        private final long[] mAdjusted = new long[Operation.values().length];
+        private final long[][] mLatencies = new long[Operation.values().length][];
+        private final long[] mMaxLatencies = new long[Operation.values().length];
+        private final long mPasses;
+        private final long mMaxPasses;
+        private final long mClamped;
+        private final long mMaxClamped;
+        private final double mMaxResidual;
+
+        private Snapshot(CalibrationMetrics metrics) {
+            for (int i = 0; i < mCounts.length; i++) {
+                mCounts[i] = metrics.mCounts.get(i);
+                mAdjusted[i] = metrics.mAdjusted.get(i);
+                mLatencies[i] = metrics.mLatencies[i].copyCounts();
+                mMaxLatencies[i] = metrics.mLatencies[i].max();
+            }
+            mPasses = metrics.mPasses.get();
+            mMaxPasses = metrics.mMaxPasses.get();
+            mClamped = metrics.mClamped.get();
+            mMaxClamped = metrics.mMaxClamped.get();
+            mMaxResidual = Double.longBitsToDouble(metrics.mMaxResidual.get());
+        }
+
+        /** @return number of times the operation was invoked */
+        public long getCount(Operation operation) { return mCounts[operation.ordinal()]; }
+
+        /** @return number of times the operation adjusted any element */
+        public long getAdjustedCount(Operation operation) { return mAdjusted[operation.ordinal()]; }
+
+        /** @return total redistribution passes taken by all shifts */
+        public long getTotalPasses() { return mPasses; }
+
+        /** @return greatest number of redistribution passes taken by a single shift */
+        public long getMaxPasses() { return mMaxPasses; }
+
+        /** @return total elements driven to a limit by all shifts */
+        public long getTotalClamped() { return mClamped; }
+
+        /** @return greatest number of elements driven to a limit by a single shift */
+        public long getMaxClamped() { return mMaxClamped; }
+
+        /** @return greatest difference between the whole and the sum of a series following an operation */
+        public double getMaxResidual() { return mMaxResidual; }
+
+        /**
+         * Retrieve the latency at or below which the specified fraction of operations completed.
+         * @param operation operation for which to retrieve latency
+         * @param quantile fraction between 0 and 1
+         * @return latency in nanoseconds within the resolution of the histogram
+         */
+        public long getLatency(Operation operation, double quantile) {
+            return LatencyHistogram.valueAtQuantile(mLatencies[operation.ordinal()], quantile);
+        }
+
+        /** @return greatest latency in nanoseconds recorded for the operation */
+        public long getMaxLatency(Operation operation) { return mMaxLatencies[operation.ordinal()]; }
+
+        /**
+         * Export the recorded values as named entries suitable for a metrics registry.
+         * @return {@code Map} of metric names to values
+         */
+        public Map<String, Number> toMap() {
+            Map<String, Number> values = new LinkedHashMap<>();
+            for (Operation operation : Operation.values()) {
+                String name = operation.name().toLowerCase(Locale.US);
+                values.put(name + ".count", getCount(operation));
+                values.put(name + ".adjusted", getAdjustedCount(operation));
+                values.put(name + ".latency.p50", getLatency(operation, .5d));
+                values.put(name + ".latency.p99", getLatency(operation, .99d));
+                values.put(name + ".latency.max", getMaxLatency(operation));
+            }
+            values.put("shift.passes.total", mPasses);
+            values.put("shift.passes.max", mMaxPasses);
+            values.put("shift.clamped.total", mClamped);
+            values.put("shift.clamped.max", mMaxClamped);
+            values.put("residual.max", mMaxResidual);
+            return values;
+        }
+
+        @Override public String toString() { return toMap().toString(); }
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.rjbx.calibrater;
+
+import com.github.rjbx.calibrater.CalibrationMetrics.Operation;
+
+/**
+ * Receiver of reports on operations applied to percent series.
+ * Observers are installed through {@link CalibrationObservers}; while none are installed,
+ * operations only check for their absence and report nothing.
+ */
+public interface CalibrationObserver {
+
+    /**
+     * Reports whether this observer requires the elements clamped by a shift and the
+     * residual error of a series, which cost additional passes over the series to compute.
+     * @return true if details should be computed; false to report them as -1 and NaN respectively
+     */
+    default boolean isDetailed() { return false; }
+
+    /**
+     * Receives the report of a completed operation.
+     * @param operation operation applied
+     * @param size number of elements in the series following the operation
+     * @param index location of the adjusted or removed element, or -1 if not applicable
+     * @param magnitude amount of the adjustment, or 0 if not applicable
+     * @param adjusted whether any element was adjusted
+     * @param passes number of redistribution passes taken, or 0 if not applicable
+     * @param clamped number of elements driven to a limit, or -1 if not computed
+     * @param residual difference of the sum of the series from the whole, or NaN if not computed
+     * @param nanos duration of the operation in nanoseconds
+     */
+    void onOperation(Operation operation, int size, int index, double magnitude,
+            boolean adjusted, int passes, int clamped, double residual, long nanos);
+}
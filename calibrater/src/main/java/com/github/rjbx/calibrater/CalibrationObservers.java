@@ -0,0 +1,104 @@
+package com.github.rjbx.calibrater;
+
+import com.github.rjbx.calibrater.CalibrationMetrics.Operation;
+
+import java.util.Arrays;
+
+/**
+ * Registry of the {@link CalibrationObserver}s to which operations on percent series are reported.
+ */
+public final class CalibrationObservers {
+
+    /*
+     * Observer to which operations report, or null while none are installed
+     */
+    static volatile CalibrationObserver sObserver;
+
+    private static CalibrationObserver[] sInstalled = new CalibrationObserver[0];
+
+    private CalibrationObservers() {}
+
+    /**
+     * Installs the observer so that it receives reports on all subsequent operations.
+     * @param observer {@link CalibrationObserver} to be installed
+     */
+    public static synchronized void install(CalibrationObserver observer) {
+        CalibrationObserver[] installed = Arrays.copyOf(sInstalled, sInstalled.length + 1);
+        installed[sInstalled.length] = observer;
+        update(installed);
+    }
+
+    /**
+     * Uninstalls the observer so that it no longer receives reports.
+     * @param observer {@link CalibrationObserver} to be uninstalled
+     */
+    public static synchronized void uninstall(CalibrationObserver observer) {
+        for (int i = 0; i < sInstalled.length; i++) {
+            if (sInstalled[i] != observer) continue;
+            CalibrationObserver[] installed = new CalibrationObserver[sInstalled.length - 1];
+            System.arraycopy(sInstalled, 0, installed, 0, i);
+            System.arraycopy(sInstalled, i + 1, installed, i, installed.length - i);
+            update(installed);
+            return;
+        }
+    }
+
+    /**
+     * Reports whether any observer is installed, so that callers can avoid
+     * measuring operations which would not be reported.
+     * @return true if an observer is installed; false otherwise
+     */
+    public static boolean isActive() { return sObserver != null; }
+
+    /**
+     * Reports an operation applied outside of {@link Calibrater}, such as a controller commit,
+     * to the installed observers.
+     * @param operation operation applied
+     * @param size number of elements in the series following the operation
+     * @param index location of the adjusted or removed element, or -1 if not applicable
+     * @param magnitude amount of the adjustment, or 0 if not applicable
+     * @param adjusted whether any element was adjusted
+     * @param start value of {@link System#nanoTime()} when the operation began
+     */
+    public static void report(Operation operation, int size, int index,
+            double magnitude, boolean adjusted, long start) {
+        CalibrationObserver observer = sObserver;
+        if (observer == null) return;
+        observer.onOperation(operation, size, index, magnitude,
+                adjusted, 0, -1, Double.NaN, System.nanoTime() - start);
+    }
+
+    private static void update(CalibrationObserver[] installed) {
+        sInstalled = installed;
+        switch (installed.length) {
+            case 0: sObserver = null; break;
+            case 1: sObserver = installed[0]; break;
+            default: sObserver = new Composite(installed);
+        }
+    }
+
+    /**
+     * {@link CalibrationObserver} forwarding reports to each of several observers.
+     */
+    private static final class Composite implements CalibrationObserver {
+
+        private final CalibrationObserver[] mObservers;
+        private final boolean mDetailed;
+
+        Composite(CalibrationObserver[] observers) {
+            mObservers = observers;
+            boolean detailed = false;
+            for (CalibrationObserver observer : observers) detailed |= observer.isDetailed();
+            mDetailed = detailed;
+        }
+
+        @Override public boolean isDetailed() { return mDetailed; }
+
+        @Override public void onOperation(Operation operation, int size, int index, double magnitude,
+                boolean adjusted, int passes, int clamped, double residual, long nanos) {
+            for (CalibrationObserver observer : mObservers) {
+                observer.onOperation(operation, size, index, magnitude, adjusted, passes, clamped, residual, nanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.rjbx.calibrater;
+
+import java.util.Random;
+
+/**
+ * Rounding of the elements of a percent series to whole display units, such as whole percents
+ * or tenths of a percent, which sum exactly to 100 percent. Each element is first rounded down;
+ * the units left over are then assigned one each to the elements with the largest remainders,
+ * ties going to the lower index. The elements receiving a unit are chosen by linear-time selection
+ * rather than by sorting, and the threshold remainder is retained so that rounding again after
+ * only a few elements have changed revisits only those elements, unless the number of units
+ * left over no longer matches the elements above the threshold.
+ * The rounded values sum exactly to the whole whenever the series sums to the whole within
+ * one display unit, as does any series calibrated to a precision above {@code decimals + 2}.
+ */
+public final class DisplayRounding {
+
+    private final int mDecimals;
+    private final long mTotal;
+    private final Random mRandom = new Random(0L);
+    private int[] mUnits = new int[0];
+    private long[] mFloors = new long[0];
+    private double[] mRemainders = new double[0];
+    private int[] mOrder = new int[0];
+    private long mFloorSum;
+    private int mUpCount;
+    private double mThresholdRemainder;
+    private int mThresholdIndex;
+
+    private DisplayRounding(int decimals) {
+        mDecimals = decimals;
+        long total = 100L;
+        for (int i = 0; i < decimals; i++) total *= 10L;
+        mTotal = total;
+    }
+
+    /**
+     * Generates a {@link DisplayRounding} to the specified number of decimal places of a percent.
+     * @param decimals number of decimal places of a percent to display; 0 for whole percents
+     * @return {@link DisplayRounding} retaining the state of its latest rounding
+     */
+    public static DisplayRounding withDecimals(int decimals) {
+        if (decimals < 0 || decimals > 7) throw new IllegalArgumentException("Parameter value is out of bounds");
+        return new DisplayRounding(decimals);
+    }
+
+    /**
+     * Retrieve the number of display units making up the whole, such as 100 for whole percents.
+     * @return units of the whole
+     */
+    public long getTotal() { return mTotal; }
+
+    /**
+     * Rounds every element of the series.
+     * @param percents {@code double} array elements summing to the whole
+     * @return display units of each element, which are updated in place by subsequent rounding
+     *         and are not to be modified
+     */
+    public int[] round(double[] percents) {
+        int size = percents.length;
+        if (mUnits.length != size) {
+            mUnits = new int[size];
+            mFloors = new long[size];
+            mRemainders = new double[size];
+            mOrder = new int[size];
+        }
+        mFloorSum = 0L;
+        for (int i = 0; i < size; i++) {
+            split(percents, i);
+            mFloorSum += mFloors[i];
+        }
+        select();
+        return mUnits;
+    }
+
+    /**
+     * Rounds the series following changes to the specified elements only, revisiting all elements
+     * only if the number of units left over has moved past the retained threshold.
+     * @param percents {@code double} array elements summing to the whole, of the size last rounded
+     * @param changed indices of the elements changed since the last rounding
+     * @return display units of each element, which are updated in place by subsequent rounding
+     *         and are not to be modified
+     */
+    public int[] update(double[] percents, int... changed) {
+        if (percents.length != mUnits.length) return round(percents);
+        for (int index : changed) {
+            boolean wasUp = mUnits[index] > mFloors[index];
+            mFloorSum -= mFloors[index];
+            split(percents, index);
+            mFloorSum += mFloors[index];
+            boolean up = isUp(index);
+            mUpCount += (up ? 1 : 0) - (wasUp ? 1 : 0);
+            mUnits[index] = (int) mFloors[index] + (up ? 1 : 0);
+        }
+        if (mUpCount != leftover()) select(); // elements above the threshold are no longer those to round up
+        return mUnits;
+    }
+
+    /**
+     * Formats the display units of the specified element of the latest rounding as a percent.
+     * @param index location of the element
+     * @return formatted value such as {@code 12.5%}
+     */
+    public String format(int index) {
+        long units = mUnits[index];
+        if (mDecimals == 0) return units + "%";
+        long scale = mTotal / 100L;
+        StringBuilder fraction = new StringBuilder(Long.toString(units % scale));
+        while (fraction.length() < mDecimals) fraction.insert(0, '0');
+        return (units / scale) + "." + fraction + "%";
+    }
+
+    private void split(double[] percents, int index) {
+        double exact = Math.max(0d, percents[index]) * mTotal;
+        double floor = Math.floor(exact);
+        mFloors[index] = (long) floor;
+        mRemainders[index] = exact - floor;
+    }
+
+    private int leftover() { return (int) Math.max(0L, Math.min(mUnits.length, mTotal - mFloorSum)); }
+
+    private boolean isUp(int index) {
+        double remainder = mRemainders[index];
+        return remainder > mThresholdRemainder || (remainder == mThresholdRemainder && index <= mThresholdIndex);
+    }
+
+    /*
+     * Selects the elements to round up as those with the largest remainders and retains the threshold
+     */
+    private void select() {
+        int size = mUnits.length;
+        int count = leftover();
+        if (count == 0) {
+            mThresholdRemainder = Double.POSITIVE_INFINITY;
+            mThresholdIndex = -1;
+        } else if (count == size) {
+            mThresholdRemainder = Double.NEGATIVE_INFINITY;
+            mThresholdIndex = size;
+        } else {
+            for (int i = 0; i < size; i++) mOrder[i] = i;
+            int threshold = nth(count - 1);
+            mThresholdRemainder = mRemainders[threshold];
+            mThresholdIndex = threshold;
+        }
+        for (int i = 0; i < size; i++) mUnits[i] = (int) mFloors[i] + (isUp(i) ? 1 : 0);
+        mUpCount = count;
+    }
+
+    /*
+     * Quickselect over the order array for the element of the specified rank
+     * by descending remainder and ascending index
+     */
+    private int nth(int rank) {
+        int low = 0;
+        int high = mUnits.length - 1;
+        while (low < high) {
+            int pivot = mOrder[low + mRandom.nextInt(high - low + 1)];
+            int lt = low;
+            int gt = high;
+            int i = low;
+            while (i <= gt) { // three-way partition of elements ranked before, at and after the pivot
+                int comparison = compare(mOrder[i], pivot);
+                if (comparison < 0) swap(lt++, i++);
+                else if (comparison > 0) swap(i, gt--);
+                else i++;
+            }
+            if (rank < lt) high = lt - 1;
+            else if (rank > gt) low = gt + 1;
+            else return mOrder[rank];
+        }
+        return mOrder[low];
+    }
+
+    private int compare(int a, int b) {
+        if (mRemainders[a] != mRemainders[b]) return mRemainders[a] > mRemainders[b] ? -1 : 1;
+        return Integer.compare(a, b);
+    }
+
+    private void swap(int a, int b) {
+        int swapped = mOrder[a];
+        mOrder[a] = mOrder[b];
+        mOrder[b] = swapped;
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.rjbx.calibrater;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Fixed-size {@code List} of {@code Double} reading and writing through to a range of a
+ * {@code double} array without copying.
+ */
+final class DoubleArrayView extends AbstractList<Double> implements RandomAccess {
+
+    final double[] mArray;
+    final int mFrom;
+    final int mTo;
+
+    DoubleArrayView(double[] array, int from, int to) {
+        if (from < 0 || to > array.length || from > to) throw new IndexOutOfBoundsException();
+        mArray = array;
+        mFrom = from;
+        mTo = to;
+    }
+
+    @Override public Double get(int index) { return mArray[mFrom + checkIndex(index)]; }
+
+    @Override public Double set(int index, Double element) {
+        int i = mFrom + checkIndex(index);
+        double previous = mArray[i];
+        mArray[i] = element;
+        return previous;
+    }
+
+    @Override public int size() { return mTo - mFrom; }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= mTo - mFrom) throw new IndexOutOfBoundsException();
+        return index;
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.rjbx.calibrater;
+
+import java.nio.DoubleBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Fixed-size {@code List} of {@code Double} reading and writing through to the remaining
+ * elements of a {@link DoubleBuffer} without copying.
+ */
+final class DoubleBufferView extends AbstractList<Double> implements RandomAccess {
+
+    private final DoubleBuffer mBuffer;
+
+    DoubleBufferView(DoubleBuffer buffer) { mBuffer = buffer.slice(); }
+
+    @Override public Double get(int index) { return mBuffer.get(index); }
+
+    @Override public Double set(int index, Double element) {
+        double previous = mBuffer.get(index);
+        mBuffer.put(index, element);
+        return previous;
+    }
+
+    @Override public int size() { return mBuffer.limit(); }
+}
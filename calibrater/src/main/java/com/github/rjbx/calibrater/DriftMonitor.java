@@ -0,0 +1,136 @@
+package com.github.rjbx.calibrater;
+
+import java.util.List;
+
+/**
+ * Monitor attached to a percent series which estimates the error accumulated by operations
+ * applied through it and recalibrates the series only as the estimate nears the permitted error,
+ * in place of recalibrating after every operation.
+ * Shifts are redistributed to {@link #GUARD_DIGITS} more decimal places than the series precision,
+ * so that each contributes no more than the tightened tolerance and the rounding of its
+ * additions to the estimate; operations which sum the series anyway replace the estimate
+ * with the measured error.
+ */
+public final class DriftMonitor {
+
+    /**
+     * Number of decimal places beyond the series precision to which shifts are redistributed.
+     */
+    public static final int GUARD_DIGITS = 2;
+
+    private final List<Double> mPercents;
+    private final int mPrecision;
+    private final RedistributionPolicy mPolicy;
+    private final double mThreshold;
+    private final double mShiftError;
+    private double mEstimate;
+    private long mOperations;
+    private long mRecalibrations;
+
+    private DriftMonitor(List<Double> percents, int precision, RedistributionPolicy policy) {
+        mPercents = percents;
+        mPrecision = precision;
+        mPolicy = policy;
+        mThreshold = Math.pow(10, -precision) / 2d;
+        mShiftError = Math.pow(10, -Math.min(precision + GUARD_DIGITS, 16));
+        mEstimate = measure();
+    }
+
+    /**
+     * Generates a {@link DriftMonitor} attached to the specified series.
+     * @param percents {@code List} of {@code Double} elements adjusted through the monitor
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param policy strategy for distributing the offset of each shift among the other elements
+     * @return {@link DriftMonitor} applying operations to the series
+     */
+    public static DriftMonitor attach(List<Double> percents, int precision, RedistributionPolicy policy) {
+        if (precision > 16 || precision < 0) {
+            throw new IllegalArgumentException("Parameter value is out of bounds");
+        }
+        return new DriftMonitor(percents, precision, policy);
+    }
+
+    /**
+     * Increments or decrements an element of the series by the specified magnitude
+     * in accordance with {@link Calibrater#shiftRatings(List, int, double, int, RedistributionPolicy)},
+     * recalibrating the series if the estimated error nears the permitted error.
+     * @param index location of the element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @return true if percent was adjusted and false otherwise
+     */
+    public boolean shiftRatings(int index, double magnitude) {
+        int precision = Math.min(mPrecision + GUARD_DIGITS, 16);
+        boolean result = Calibrater.shiftRatings(mPercents, index, magnitude, precision, mPolicy);
+        if (!result) return false;
+        mOperations++;
+        if (mPercents.get(index) == 1d) mEstimate = 0d; // remaining elements are zero so sum is whole
+        else mEstimate += mShiftError + mPercents.size() * Math.ulp(1d);
+        if (mEstimate >= mThreshold) recalibrate();
+        return true;
+    }
+
+    /**
+     * Assigns equivalent percents to each element
+     * in accordance with {@link Calibrater#resetRatings(List, boolean, int)}.
+     * @param forceReset applies reset even if sum of elements is as precise as specified
+     * @return true if values were adjusted; false otherwise
+     */
+    public boolean resetRatings(boolean forceReset) {
+        boolean result = Calibrater.resetRatings(mPercents, forceReset, mPrecision);
+        mOperations++;
+        mEstimate = measure();
+        return result;
+    }
+
+    /**
+     * Removes the element at the specified index and distributes the whole among the remaining
+     * elements in accordance with {@link Calibrater#removeRating(List, int, int)}.
+     * @param index location of the element to be removed
+     * @return true if values were adjusted; false otherwise
+     */
+    public boolean removeRating(int index) {
+        boolean result = Calibrater.removeRating(mPercents, index, mPrecision);
+        mOperations++;
+        mEstimate = measure();
+        return result;
+    }
+
+    /**
+     * Retrieve the estimated difference of the sum of the series from the whole.
+     * @return estimated error
+     */
+    public double getEstimate() { return mEstimate; }
+
+    /**
+     * Retrieve the number of operations applied to the series through the monitor.
+     * @return number of operations
+     */
+    public long getOperationCount() { return mOperations; }
+
+    /**
+     * Retrieve the number of recalibrations triggered by the estimated error.
+     * @return number of recalibrations
+     */
+    public long getRecalibrationCount() { return mRecalibrations; }
+
+    /**
+     * Retrieve the number of recalibrations saved in comparison with
+     * recalibrating the series after every operation.
+     * @return number of operations not followed by a recalibration
+     */
+    public long getSavedRecalibrationCount() { return mOperations - mRecalibrations; }
+
+    private void recalibrate() {
+        mEstimate = measure(); // replace the estimate before committing to a full pass
+        if (mEstimate < mThreshold) return;
+        Calibrater.recalibrateRatings(mPercents, true, mPrecision);
+        mRecalibrations++;
+        mEstimate = measure();
+    }
+
+    private double measure() {
+        double sum = 0d;
+        for (double percent : mPercents) sum += percent;
+        return Math.abs(1d - sum);
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.rjbx.calibrater;
+
+/**
+ * {@link RedistributionPolicy} splitting the offset equally among non-excluded elements.
+ */
+final class EqualRedistribution implements RedistributionPolicy {
+
+    @Override public int redistribute(double[] percents, int from, int to, int index, double offset, int precision) {
+
+        int passes = 0;
+        int size = to - from;
+        int adjusted = index < 0 ? -1 : from + index;
+        int excluded = index < 0 ? 0 : 1; // prevent further allocation after maxing out all elements
+        double limit = offset < 0d ? 0d : 1d; // limit approached by offset percents
+        double error = Math.pow(10, -precision);
+
+        while (Math.abs(offset) >= Math.abs(error) && excluded <= size) { // offset expended or exclusions maxed
+            passes++;
+            double allocation = (offset / (size - excluded)); // factor in exclusions on iterations
+            for (int i = from; i < to; i++) {
+                if (i != adjusted && (percents[i] != 0d || offset > 0d)) { // ignore adjusted and exclude only once
+                    percents[i] += allocation;
+                    offset -= allocation; // expend allocated for recalculating offset on iterations
+                    if (percents[i] + error  < limit * -1) { // below limit within margin of error
+                        if (percents[i] < 0d) offset += percents[i]; // restore unallocated offset
+                        percents[i] = limit; // set to limit
+                        excluded++; // decrease offset divisor for fewer allocations
+                    }
+                } else if (percents[i] < 0) {
+                    percents[i] = 0d;
+                    offset += percents[i];
+                }
+            }
+        } return passes;
+    }
+
+    @Override public int redistribute(float[] percents, int from, int to, int index, double offset, int precision) {
+
+        int passes = 0;
+        int size = to - from;
+        int adjusted = index < 0 ? -1 : from + index;
+        int excluded = index < 0 ? 0 : 1; // prevent further allocation after maxing out all elements
+        double limit = offset < 0d ? 0d : 1d; // limit approached by offset percents
+        double error = Math.pow(10, -precision);
+
+        while (Math.abs(offset) >= Math.abs(error) && excluded <= size) { // offset expended or exclusions maxed
+            passes++;
+            double remaining = offset;
+            double allocation = (offset / (size - excluded)); // factor in exclusions on iterations
+            for (int i = from; i < to; i++) {
+                if (i != adjusted && (percents[i] != 0f || offset > 0d)) { // ignore adjusted and exclude only once
+                    float percent = (float) (percents[i] + allocation);
+                    offset -= (double) percent - percents[i]; // expend only what survived narrowing
+                    percents[i] = percent;
+                    if (percents[i] + error  < limit * -1) { // below limit within margin of error
+                        if (percents[i] < 0d) offset += percents[i]; // restore unallocated offset
+                        percents[i] = (float) limit; // set to limit
+                        excluded++; // decrease offset divisor for fewer allocations
+                    }
+                } else if (percents[i] < 0) {
+                    percents[i] = 0f;
+                    offset += percents[i];
+                }
+            }
+            if (offset == remaining) { // allocations too fine to survive narrowing so expend the rest in turn
+                for (int i = from; i < to && Math.abs(offset) >= Math.abs(error); i++) {
+                    if (i == adjusted) continue;
+                    float percent = (float) Math.max(0d, Math.min(1d, percents[i] + offset));
+                    offset -= (double) percent - percents[i];
+                    percents[i] = percent;
+                } break;
+            }
+        } return passes;
+    }
+}
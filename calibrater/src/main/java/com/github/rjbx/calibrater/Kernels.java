@@ -0,0 +1,34 @@
+package com.github.rjbx.calibrater;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Holder for the {@link CalibrationKernel} selected for the current runtime.
+ */
+final class Kernels {
+
+    /**
+     * System property which, when set to {@code scalar}, bypasses discovery of accelerated kernels
+     */
+    static final String PROPERTY_KERNEL = "com.github.rjbx.calibrater.kernel";
+
+    static final CalibrationKernel SCALAR = new ScalarKernel();
+    static final CalibrationKernel DEFAULT = load();
+
+    private Kernels() {}
+
+    private static CalibrationKernel load() {
+        if ("scalar".equals(System.getProperty(PROPERTY_KERNEL))) return SCALAR;
+        try {
+            Iterator<CalibrationKernel> kernels = ServiceLoader.load(CalibrationKernel.class).iterator();
+            while (kernels.hasNext()) {
+                CalibrationKernel kernel = kernels.next();
+                if (kernel.isSupported()) return kernel;
+            }
+        } catch (ServiceConfigurationError | LinkageError e) {
+            // kernel depends on a runtime feature which is unavailable so fall back to scalar
+        } return SCALAR;
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.rjbx.calibrater;
+
+import java.util.Arrays;
+
+/**
+ * Percent series addressing its elements by stable handles rather than by position.
+ * Elements are held densely in a {@code double} array with each handle mapped to its slot
+ * and each slot to its handle, so that a handle is resolved in constant time and removal
+ * moves only the last element into the vacated slot rather than shifting all that follow.
+ * Handles are never reused, so a handle to a removed element remains invalid; the order
+ * of the remaining slots changes with each removal while their handles do not.
+ */
+public final class KeyedSeries {
+
+    private double[] mPercents;
+    private int[] mHandles; // handle of each slot
+    private int[] mSlots; // slot of each handle or -1 once removed
+    private int mSize;
+
+    private KeyedSeries(double[] percents) {
+        mPercents = percents;
+        mSize = percents.length;
+        mHandles = new int[Math.max(4, mSize)];
+        mSlots = new int[mHandles.length];
+        for (int i = 0; i < mSize; i++) mHandles[i] = mSlots[i] = i;
+        Arrays.fill(mSlots, mSize, mSlots.length, -1);
+        if (mPercents.length < mHandles.length) mPercents = Arrays.copyOf(mPercents, mHandles.length);
+    }
+
+    /**
+     * Generates a {@link KeyedSeries} from a copy of the elements of a {@code double} array,
+     * with the handle of each element equal to its index within the array.
+     * @param percents {@code double} array elements
+     * @return {@link KeyedSeries} holding the elements
+     */
+    public static KeyedSeries of(double[] percents) { return new KeyedSeries(percents.clone()); }
+
+    /**
+     * Retrieve the number of elements in the series.
+     * @return number of elements
+     */
+    public int size() { return mSize; }
+
+    /**
+     * Reports whether the handle refers to an element of the series.
+     * @param handle handle of the element
+     * @return true if the element has not been removed; false otherwise
+     */
+    public boolean contains(int handle) { return handle >= 0 && handle < mSlots.length && mSlots[handle] >= 0; }
+
+    /**
+     * Retrieve the current location within the series of the element referred to by the handle.
+     * @param handle handle of the element
+     * @return slot of the element
+     */
+    public int slotOf(int handle) {
+        if (!contains(handle)) throw new IllegalArgumentException("Handle does not refer to an element");
+        return mSlots[handle];
+    }
+
+    /**
+     * Retrieve the handle of the element at the specified location within the series.
+     * @param slot location of the element
+     * @return handle of the element
+     */
+    public int handleAt(int slot) {
+        if (slot < 0 || slot >= mSize) throw new IndexOutOfBoundsException();
+        return mHandles[slot];
+    }
+
+    /**
+     * Retrieve the percent value of the element referred to by the handle.
+     * @param handle handle of the element
+     * @return percent value
+     */
+    public double get(int handle) { return mPercents[slotOf(handle)]; }
+
+    /**
+     * Retrieve a copy of the elements of the series in slot order.
+     * @return {@code double} array
+     */
+    public double[] toArray() { return Arrays.copyOf(mPercents, mSize); }
+
+    /**
+     * Increments or decrements the element referred to by the handle by the specified magnitude
+     * in accordance with {@link Calibrater#shiftRatings(double[], int, double, int, RedistributionPolicy)}.
+     * @param handle handle of the element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param policy strategy for distributing the offset among the other elements
+     * @return true if percent was adjusted and false otherwise
+     */
+    public boolean shiftRatings(int handle, double magnitude, int precision, RedistributionPolicy policy) {
+        return Calibrater.shiftRatings(mPercents, 0, mSize, slotOf(handle), magnitude, precision, policy);
+    }
+
+    /**
+     * Removes the element referred to by the handle by moving the last element into its slot,
+     * then distributes the whole among the remaining elements in accordance with
+     * {@link Calibrater#recalibrateRatings(double[], boolean, int)}.
+     * @param handle handle of the element to be removed
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public boolean removeRating(int handle, int precision) {
+        int slot = slotOf(handle);
+        int last = --mSize;
+        mPercents[slot] = mPercents[last];
+        mHandles[slot] = mHandles[last];
+        mSlots[mHandles[slot]] = slot;
+        mSlots[handle] = -1;
+        mPercents[last] = 0d;
+        return Calibrater.recalibrateRatings(mPercents, 0, mSize, false, precision);
+    }
+
+    /**
+     * Assigns equivalent percents to each element
+     * in accordance with {@link Calibrater#resetRatings(double[], boolean, int)}.
+     * @param forceReset applies reset even if sum of elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public boolean resetRatings(boolean forceReset, int precision) {
+        return Calibrater.resetRatings(mPercents, 0, mSize, forceReset, precision);
+    }
+
+    /**
+     * Equally distributes to each element the difference between the whole and the sum
+     * of all elements in accordance with {@link Calibrater#recalibrateRatings(double[], boolean, int)}.
+     * @param forceReset applies recalibration even if sum of elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public boolean recalibrateRatings(boolean forceReset, int precision) {
+        return Calibrater.recalibrateRatings(mPercents, 0, mSize, forceReset, precision);
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.rjbx.calibrater;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear histogram of nanosecond latencies in the manner of an HDR histogram:
+ * each power-of-two range is divided into {@code 2^SUB_BUCKET_BITS} equal sub-buckets,
+ * bounding the relative error of recorded values to about 3% across the whole range of {@code long}.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray mCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong mTotal = new AtomicLong();
+    private final AtomicLong mMax = new AtomicLong();
+
+    void record(long nanos) {
+        if (nanos < 0L) nanos = 0L;
+        mCounts.incrementAndGet(index(nanos));
+        mTotal.incrementAndGet();
+        long max;
+        while (nanos > (max = mMax.get()) && !mMax.compareAndSet(max, nanos));
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) mCounts.set(i, 0L);
+        mTotal.set(0L);
+        mMax.set(0L);
+    }
+
+    long[] copyCounts() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) counts[i] = mCounts.get(i);
+        return counts;
+    }
+
+    long max() { return mMax.get(); }
+
+    /**
+     * Retrieve the value at or below which the specified fraction of recorded values fall.
+     * @param counts bucket counts copied from a histogram
+     * @param quantile fraction between 0 and 1
+     * @return upper bound of the bucket containing the quantile, or 0 if nothing was recorded
+     */
+    static long valueAtQuantile(long[] counts, double quantile) {
+        long total = 0L;
+        for (long count : counts) total += count;
+        if (total == 0L) return 0L;
+        long rank = Math.max(1L, (long) Math.ceil(quantile * total));
+        long seen = 0L;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return upperBound(i);
+        } return upperBound(counts.length - 1);
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+        int bucket = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return bucket * SUB_BUCKET_COUNT + (int) (value >>> bucket);
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKET_COUNT * 2) return index;
+        int bucket = index / SUB_BUCKET_COUNT - 1;
+        long sub = index - bucket * SUB_BUCKET_COUNT;
+        return ((sub + 1) << bucket) - 1;
+    }
+}
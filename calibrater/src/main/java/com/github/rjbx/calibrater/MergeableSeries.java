@@ -0,0 +1,515 @@
+package com.github.rjbx.calibrater;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Percent series which replicas, such as the devices of a user, adjust independently while offline
+ * and later merge into the same series without coordination, as a delta-state conflict-free
+ * replicated data type. Elements are addressed by key, and the value of each element is its share
+ * when inserted plus the contributions of every replica which adjusted it. Each replica writes only its
+ * own contribution, stamped with its own clock, and merging keeps for each element and replica the
+ * contribution with the later stamp; merges are therefore commutative, associative and idempotent, and
+ * concurrent adjustments combine rather than overwrite one another. The share of an element inserted
+ * concurrently by more than one replica is instead that of the insertion with the later stamp, while
+ * the shares each insertion withdrew from the other elements are rescaled by normalization.
+ * A removal wins over concurrent adjustments of the element, so a key is not to be reused once removed.
+ * As concurrent adjustments need not together preserve the whole, values are normalized on read:
+ * negative sums are limited to 0 and all sums scaled in proportion to their total, which every replica
+ * holding the same contributions computes identically. The next local adjustment records the
+ * normalization in the contributions of its replica.
+ * Replicas synchronize by exchanging a {@link Delta} holding only the contributions stamped after
+ * the {@link #versions()} of the receiving replica.
+ */
+public final class MergeableSeries {
+
+    private final String mReplica;
+    private final TreeMap<String, Element> mElements = new TreeMap<>(); // by key, including those removed
+    private final TreeMap<String, Long> mVersions = new TreeMap<>(); // latest stamp held of each replica
+
+    private MergeableSeries(String replica) {
+        if (replica == null) throw new IllegalArgumentException("Parameter value is out of bounds");
+        mReplica = replica;
+    }
+
+    /**
+     * Generates an empty {@link MergeableSeries} for the specified replica, which obtains
+     * the elements of other replicas by {@link #merge(Delta)}.
+     * @param replica identifier unique among the replicas of the series
+     * @return {@link MergeableSeries} holding no elements
+     */
+    public static MergeableSeries create(String replica) { return new MergeableSeries(replica); }
+
+    /**
+     * Generates a {@link MergeableSeries} for the specified replica holding the elements as its own
+     * contributions. Only one replica should be so seeded; the others are to merge its state.
+     * @param replica identifier unique among the replicas of the series
+     * @param keys distinct keys of the elements
+     * @param percents {@code double} array elements at the same locations as their keys
+     * @return {@link MergeableSeries} holding the elements
+     */
+    public static MergeableSeries of(String replica, List<String> keys, double[] percents) {
+        if (keys.size() != percents.length) throw new IllegalArgumentException("Parameter value is out of bounds");
+        MergeableSeries series = new MergeableSeries(replica);
+        long stamp = series.tick();
+        for (int i = 0; i < percents.length; i++) {
+            if (series.mElements.containsKey(keys.get(i))) throw new IllegalArgumentException("Key has already been used");
+            series.assign(keys.get(i), stamp, percents[i]);
+        }
+        return series;
+    }
+
+    /**
+     * Retrieve the identifier of the replica adjusting this series.
+     * @return identifier of the replica
+     */
+    public String getReplica() { return mReplica; }
+
+    /**
+     * Retrieve the keys of the elements of the series in ascending order,
+     * which is the order of the elements on every replica.
+     * @return {@code List} of keys
+     */
+    public List<String> keys() {
+        List<String> keys = new ArrayList<>();
+        for (Map.Entry<String, Element> entry : mElements.entrySet()) {
+            if (!entry.getValue().isRemoved()) keys.add(entry.getKey());
+        }
+        return keys;
+    }
+
+    /**
+     * Retrieve the number of elements in the series.
+     * @return number of elements
+     */
+    public int size() { return keys().size(); }
+
+    /**
+     * Reports whether the key refers to an element of the series.
+     * @param key key of the element
+     * @return true if the element has been added and not removed; false otherwise
+     */
+    public boolean contains(String key) {
+        Element element = mElements.get(key);
+        return element != null && !element.isRemoved();
+    }
+
+    /**
+     * Retrieve the normalized percent value of the element referred to by the key.
+     * @param key key of the element
+     * @return percent value
+     */
+    public double get(String key) {
+        List<String> keys = keys();
+        return normalize(sums(keys))[indexOf(keys, key)];
+    }
+
+    /**
+     * Retrieve the normalized elements of the series in the order of their keys.
+     * @return {@code double} array
+     */
+    public double[] toArray() { return normalize(sums(keys())); }
+
+    /**
+     * Retrieve the latest stamp held of each replica, against which another replica
+     * computes the {@link Delta} to be merged into this series.
+     * @return unmodifiable {@code Map} of stamps by replica
+     */
+    public Map<String, Long> versions() { return Collections.unmodifiableMap(new TreeMap<>(mVersions)); }
+
+    /**
+     * Increments or decrements the element referred to by the key by the specified magnitude
+     * in accordance with {@link Calibrater#shiftRatings(double[], int, double, int, RedistributionPolicy)},
+     * recording the change to each element as the contribution of this replica.
+     * @param key key of the element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param policy strategy for distributing the offset among the other elements
+     * @return true if percent was adjusted and false otherwise
+     */
+    public boolean shiftRatings(String key, double magnitude, int precision, RedistributionPolicy policy) {
+        if (Double.isNaN(magnitude)) throw new IllegalArgumentException("Parameter value is out of bounds");
+        List<String> keys = keys();
+        int index = indexOf(keys, key);
+        double[] sums = sums(keys);
+        double[] before = normalize(sums);
+        double[] after = before.clone();
+        if (!Calibrater.shiftRatings(after, index, magnitude, precision, policy)) return false;
+        record(keys, sums, before, after, -1, precision);
+        return true;
+    }
+
+    /**
+     * Inserts an element under the key, withdrawing its share of the whole from the other elements
+     * in accordance with {@link Calibrater#insertRating(List, int, double, int, RedistributionPolicy)}
+     * and recording the change to each element as the contribution of this replica.
+     * @param key key of the element, which must not have been used before
+     * @param percent share of the whole to be held by the inserted element; between 0 and 1
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param policy strategy for withdrawing the share from the other elements
+     * @return true if values were adjusted; false otherwise
+     */
+    public boolean insertRating(String key, double percent, int precision, RedistributionPolicy policy) {
+        if (mElements.containsKey(key)) throw new IllegalArgumentException("Key has already been used");
+        List<String> keys = keys();
+        int index = -Collections.binarySearch(keys, key) - 1;
+        double[] current = sums(keys);
+        double[] normalized = normalize(current);
+        List<Double> percents = TypeConverters.arrayDoubleToListDouble(normalized);
+        double[] sums = insert(current, index);
+        double[] before = insert(normalized, index);
+        boolean result = Calibrater.insertRating(percents, index, percent, precision, policy);
+        keys.add(index, key);
+        record(keys, sums, before, TypeConverters.listDoubleToArrayDouble(percents), index, precision);
+        return result;
+    }
+
+    /**
+     * Removes the element referred to by the key, of which the share of the whole is distributed
+     * among the remaining elements in proportion to their values by normalization.
+     * @param key key of the element to be removed
+     */
+    public void removeRating(String key) {
+        indexOf(keys(), key);
+        mElements.get(key).remove(mReplica, tick());
+    }
+
+    /**
+     * Retrieve the contributions stamped after the specified stamps, together with the stamps held
+     * by this series, which once merged bring the replica holding the specified stamps up to date
+     * with this series. An empty {@code Map} retrieves the full state.
+     * @param versions latest stamp held of each replica by the receiving replica
+     * @return {@link Delta} to be merged into the receiving replica
+     */
+    public Delta deltaSince(Map<String, Long> versions) {
+        Delta.Builder delta = new Delta.Builder();
+        for (Map.Entry<String, Element> entry : mElements.entrySet()) {
+            Element element = entry.getValue();
+            if (element.isRemoved()) { // contributions superseded by the removal
+                if (isAfter(versions, element.mRemovedBy, element.mRemovedAt)) {
+                    delta.add(entry.getKey(), element.mRemovedBy, element.mRemovedAt, Delta.REMOVAL, 0d);
+                }
+                continue;
+            }
+            if (element.mInsertedBy != null && isAfter(versions, element.mInsertedBy, element.mInsertedAt)) {
+                delta.add(entry.getKey(), element.mInsertedBy, element.mInsertedAt, Delta.SHARE, element.mShare);
+            }
+            for (Map.Entry<String, Contribution> contribution : element.mContributions.entrySet()) {
+                long stamp = contribution.getValue().mStamp;
+                if (isAfter(versions, contribution.getKey(), stamp)) {
+                    delta.add(entry.getKey(), contribution.getKey(), stamp, Delta.CONTRIBUTION,
+                            contribution.getValue().mValue);
+                }
+            }
+        }
+        return delta.build(mVersions);
+    }
+
+    /**
+     * Merges the contributions of another replica into this series, keeping for each element and replica
+     * the contribution with the later stamp, and for each element the share inserted with the later stamp,
+     * ties broken by replica; merging the same {@link Delta} more than once, or merging
+     * deltas in any order, converges on the same series.
+     * @param delta contributions retrieved from another replica by {@link #deltaSince(Map)}
+     */
+    public void merge(Delta delta) {
+        for (int i = 0; i < delta.size(); i++) {
+            String key = delta.mKeys[i];
+            String replica = delta.mReplicas[i];
+            long stamp = delta.mStamps[i];
+            Element element = mElements.get(key);
+            if (element == null) mElements.put(key, element = new Element());
+            if (element.isRemoved()) continue; // removal wins
+            if (delta.mKinds[i] == Delta.REMOVAL) {
+                element.remove(replica, stamp);
+                continue;
+            }
+            if (delta.mKinds[i] == Delta.SHARE) {
+                element.insert(replica, stamp, delta.mValues[i]);
+                continue;
+            }
+            Contribution contribution = element.mContributions.get(replica);
+            if (contribution == null) element.mContributions.put(replica, new Contribution(stamp, delta.mValues[i]));
+            else if (stamp > contribution.mStamp) {
+                contribution.mStamp = stamp;
+                contribution.mValue = delta.mValues[i];
+            }
+        }
+        for (Map.Entry<String, Long> version : delta.mVersions.entrySet()) {
+            Long held = mVersions.get(version.getKey());
+            if (held == null || held < version.getValue()) mVersions.put(version.getKey(), version.getValue());
+        }
+    }
+
+    /*
+     * Records the change to each element as the contribution of this replica under a new stamp,
+     * and the share of the inserted element if any; if the sums had drifted from their normalized
+     * values, all elements are recorded so that the normalization is held in the contributions
+     * rather than only computed on read
+     */
+    private void record(List<String> keys, double[] sums, double[] before, double[] after, int inserted, int precision) {
+        double tolerance = Calibrater.changeTolerance(sums.length, precision);
+        boolean drifted = false;
+        for (int i = 0; i < sums.length && !drifted; i++) drifted = Math.abs(sums[i] - before[i]) > tolerance;
+        long stamp = tick();
+        for (int i = 0; i < after.length; i++) {
+            if (i == inserted) assign(keys.get(i), stamp, after[i]);
+            else if (drifted || after[i] != before[i]) contribute(keys.get(i), stamp, after[i] - sums[i]);
+        }
+    }
+
+    private void assign(String key, long stamp, double share) {
+        Element element = mElements.get(key);
+        if (element == null) mElements.put(key, element = new Element());
+        element.insert(mReplica, stamp, share);
+    }
+
+    private void contribute(String key, long stamp, double change) {
+        Element element = mElements.get(key);
+        if (element == null) mElements.put(key, element = new Element());
+        Contribution contribution = element.mContributions.get(mReplica);
+        if (contribution == null) element.mContributions.put(mReplica, new Contribution(stamp, change));
+        else {
+            contribution.mStamp = stamp;
+            contribution.mValue += change;
+        }
+    }
+
+    private long tick() {
+        Long held = mVersions.get(mReplica);
+        long stamp = held == null ? 1L : held + 1L;
+        mVersions.put(mReplica, stamp);
+        return stamp;
+    }
+
+    /*
+     * Sums the share and the contributions to each element in the order of their replicas,
+     * so that every replica holding the same contributions arrives at the same sums
+     */
+    private double[] sums(List<String> keys) {
+        double[] sums = new double[keys.size()];
+        for (int i = 0; i < sums.length; i++) {
+            Element element = mElements.get(keys.get(i));
+            sums[i] = element.mShare;
+            for (Contribution contribution : element.mContributions.values()) sums[i] += contribution.mValue;
+        }
+        return sums;
+    }
+
+    private static double[] normalize(double[] sums) {
+        double[] percents = new double[sums.length];
+        double total = 0d;
+        for (int i = 0; i < sums.length; i++) total += percents[i] = Math.max(0d, sums[i]);
+        for (int i = 0; i < sums.length; i++) percents[i] = total > 0d ? percents[i] / total : 1d / sums.length;
+        return percents;
+    }
+
+    private static double[] insert(double[] array, int index) {
+        double[] inserted = new double[array.length + 1];
+        System.arraycopy(array, 0, inserted, 0, index);
+        System.arraycopy(array, index, inserted, index + 1, array.length - index);
+        return inserted;
+    }
+
+    private static int indexOf(List<String> keys, String key) {
+        int index = Collections.binarySearch(keys, key);
+        if (index < 0) throw new IllegalArgumentException("Key does not refer to an element");
+        return index;
+    }
+
+    private static boolean isAfter(Map<String, Long> versions, String replica, long stamp) {
+        Long held = versions.get(replica);
+        return held == null || stamp > held;
+    }
+
+    /**
+     * Share of an element with the stamp of its insertion, contributions of each replica to the element,
+     * and the stamp of its removal if removed.
+     */
+    private static final class Element {
+
+        final TreeMap<String, Contribution> mContributions = new TreeMap<>();
+        String mInsertedBy;
+        long mInsertedAt;
+        double mShare;
+        String mRemovedBy;
+        long mRemovedAt;
+
+        boolean isRemoved() { return mRemovedBy != null; }
+
+        /*
+         * Keeps the share inserted with the later stamp, ties broken by replica
+         */
+        void insert(String replica, long stamp, double share) {
+            if (mInsertedBy != null && (stamp < mInsertedAt
+                    || stamp == mInsertedAt && replica.compareTo(mInsertedBy) <= 0)) return;
+            mInsertedBy = replica;
+            mInsertedAt = stamp;
+            mShare = share;
+        }
+
+        void remove(String replica, long stamp) {
+            mRemovedBy = replica;
+            mRemovedAt = stamp;
+            mContributions.clear();
+            mShare = 0d;
+        }
+    }
+
+    /**
+     * Contribution of a replica to an element with the stamp of its latest change.
+     */
+    private static final class Contribution {
+
+        long mStamp;
+        double mValue;
+
+        Contribution(long stamp, double value) {
+            mStamp = stamp;
+            mValue = value;
+        }
+    }
+
+    /**
+     * Contributions, inserted shares and removals exchanged between replicas, with the stamps held
+     * by the sending replica, encoded with each key and replica written once for transmission.
+     */
+    public static final class Delta {
+
+        // Kinds of the entries of a delta
+        private static final byte CONTRIBUTION = 0;
+        private static final byte REMOVAL = 1;
+        private static final byte SHARE = 2;
+
+        private final Map<String, Long> mVersions;
+        private final String[] mKeys;
+        private final String[] mReplicas;
+        private final long[] mStamps;
+        private final byte[] mKinds;
+        private final double[] mValues;
+
+        private Delta(Map<String, Long> versions, String[] keys, String[] replicas,
+                long[] stamps, byte[] kinds, double[] values) {
+            mVersions = versions;
+            mKeys = keys;
+            mReplicas = replicas;
+            mStamps = stamps;
+            mKinds = kinds;
+            mValues = values;
+        }
+
+        /**
+         * Retrieve the number of contributions, inserted shares and removals held.
+         * @return number of entries
+         */
+        public int size() { return mKeys.length; }
+
+        /**
+         * Encodes the delta for transmission to another replica.
+         * @return {@code byte} array
+         */
+        public byte[] toBytes() {
+            Map<String, Integer> names = new LinkedHashMap<>();
+            for (String replica : mVersions.keySet()) name(names, replica);
+            for (int i = 0; i < mKeys.length; i++) {
+                name(names, mKeys[i]);
+                name(names, mReplicas[i]);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(names.size());
+                for (String name : names.keySet()) out.writeUTF(name);
+                out.writeInt(mVersions.size());
+                for (Map.Entry<String, Long> version : mVersions.entrySet()) {
+                    out.writeInt(names.get(version.getKey()));
+                    out.writeLong(version.getValue());
+                }
+                out.writeInt(mKeys.length);
+                for (int i = 0; i < mKeys.length; i++) {
+                    out.writeInt(names.get(mKeys[i]));
+                    out.writeInt(names.get(mReplicas[i]));
+                    out.writeLong(mStamps[i]);
+                    out.writeByte(mKinds[i]);
+                    if (mKinds[i] != REMOVAL) out.writeDouble(mValues[i]);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e); // not thrown by an in-memory stream
+            }
+            return bytes.toByteArray();
+        }
+
+        /**
+         * Decodes a delta encoded by {@link #toBytes()}.
+         * @param bytes {@code byte} array
+         * @return {@link Delta} to be merged
+         */
+        public static Delta fromBytes(byte[] bytes) {
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+                String[] names = new String[in.readInt()];
+                for (int i = 0; i < names.length; i++) names[i] = in.readUTF();
+                Map<String, Long> versions = new TreeMap<>();
+                for (int i = in.readInt(); i > 0; i--) versions.put(names[in.readInt()], in.readLong());
+                int size = in.readInt();
+                Builder delta = new Builder();
+                for (int i = 0; i < size; i++) {
+                    String key = names[in.readInt()];
+                    String replica = names[in.readInt()];
+                    long stamp = in.readLong();
+                    byte kind = in.readByte();
+                    if (kind != CONTRIBUTION && kind != REMOVAL && kind != SHARE) throw new IOException();
+                    delta.add(key, replica, stamp, kind, kind == REMOVAL ? 0d : in.readDouble());
+                }
+                return delta.build(versions);
+            } catch (IOException | RuntimeException e) {
+                throw new IllegalArgumentException("Parameter value is out of bounds", e);
+            }
+        }
+
+        private static void name(Map<String, Integer> names, String name) {
+            if (!names.containsKey(name)) names.put(name, names.size());
+        }
+
+        /**
+         * Accumulator of the entries of a delta.
+         */
+        private static final class Builder {
+
+            private final List<String> mKeys = new ArrayList<>();
+            private final List<String> mReplicas = new ArrayList<>();
+            private long[] mStamps = new long[8];
+            private byte[] mKinds = new byte[8];
+            private double[] mValues = new double[8];
+
+            void add(String key, String replica, long stamp, byte kind, double value) {
+                int i = mKeys.size();
+                if (i == mStamps.length) {
+                    mStamps = Arrays.copyOf(mStamps, i * 2);
+                    mKinds = Arrays.copyOf(mKinds, i * 2);
+                    mValues = Arrays.copyOf(mValues, i * 2);
+                }
+                mKeys.add(key);
+                mReplicas.add(replica);
+                mStamps[i] = stamp;
+                mKinds[i] = kind;
+                mValues[i] = value;
+            }
+
+            Delta build(Map<String, Long> versions) {
+                int size = mKeys.size();
+                return new Delta(new TreeMap<>(versions), mKeys.toArray(new String[size]),
+                        mReplicas.toArray(new String[size]), Arrays.copyOf(mStamps, size),
+                        Arrays.copyOf(mKinds, size), Arrays.copyOf(mValues, size));
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.rjbx.calibrater;
+
+import java.util.Arrays;
+
+/**
+ * {@link RedistributionPolicy} allocating the offset to one non-excluded element at a time
+ * in a specified order until the offset is expended.
+ */
+final class PriorityRedistribution implements RedistributionPolicy {
+
+    private final int[] mOrder;
+
+    PriorityRedistribution(int[] order) {
+        for (int i : order) if (i < 0) throw new IllegalArgumentException("Parameter value is out of bounds");
+        mOrder = order.clone();
+    }
+
+    @Override public int redistribute(double[] percents, int from, int to, int index, double offset, int precision) {
+
+        double error = Math.pow(10, -precision);
+        int size = to - from;
+        boolean[] visited = new boolean[size];
+        if (index >= 0) visited[index] = true;
+
+        for (int i : mOrder) {
+            if (Math.abs(offset) < error) return 1; // offset expended
+            if (i >= size || visited[i]) continue;
+            visited[i] = true;
+            offset = absorb(percents, from + i, offset);
+        }
+        for (int i = 0; i < size; i++) {
+            if (Math.abs(offset) < error) return 1; // offset expended
+            if (visited[i]) continue;
+            offset = absorb(percents, from + i, offset);
+        } return 1;
+    }
+
+    @Override public int redistribute(float[] percents, int from, int to, int index, double offset, int precision) {
+
+        double error = Math.pow(10, -precision);
+        int size = to - from;
+        boolean[] visited = new boolean[size];
+        if (index >= 0) visited[index] = true;
+
+        for (int i : mOrder) {
+            if (Math.abs(offset) < error) return 1; // offset expended
+            if (i >= size || visited[i]) continue;
+            visited[i] = true;
+            offset = absorb(percents, from + i, offset);
+        }
+        for (int i = 0; i < size; i++) {
+            if (Math.abs(offset) < error) return 1; // offset expended
+            if (visited[i]) continue;
+            offset = absorb(percents, from + i, offset);
+        } return 1;
+    }
+
+    /*
+     * Derives the policy visiting the same elements of a series compacted into an array
+     * holding only the elements at the specified ascending indices
+     */
+    PriorityRedistribution compacted(int[] indices, int count) {
+        int[] order = new int[mOrder.length];
+        int size = 0;
+        for (int i : mOrder) {
+            int position = Arrays.binarySearch(indices, 0, count, i);
+            if (position >= 0) order[size++] = position;
+        }
+        return new PriorityRedistribution(Arrays.copyOf(order, size));
+    }
+
+    /**
+     * Allocates to the specified element as much of the offset as its limits allow.
+     * @return remainder of the offset
+     */
+    private static double absorb(double[] percents, int i, double offset) {
+        double allocation = offset < 0d ? Math.max(offset, -percents[i]) : Math.min(offset, 1d - percents[i]);
+        percents[i] += allocation;
+        return offset - allocation;
+    }
+
+    private static double absorb(float[] percents, int i, double offset) {
+        double allocation = offset < 0d ? Math.max(offset, -percents[i]) : Math.min(offset, 1d - percents[i]);
+        float percent = (float) (percents[i] + allocation);
+        offset -= percent - percents[i]; // expend only what survived narrowing
+        percents[i] = percent;
+        return offset;
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.rjbx.calibrater;
+
+/**
+ * {@link RedistributionPolicy} splitting the offset among non-excluded elements
+ * in proportion to their current weight.
+ */
+final class ProportionalRedistribution implements RedistributionPolicy {
+
+    @Override public int redistribute(double[] percents, int from, int to, int index, double offset, int precision) {
+
+        double error = Math.pow(10, -precision);
+        if (Math.abs(offset) < error) return 0; // nothing to distribute
+
+        int adjusted = index < 0 ? -1 : from + index;
+        double weight = 0d;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (i == adjusted) continue;
+            weight += percents[i];
+            count++;
+        }
+        if (count == 0) return 0; // no elements to absorb offset
+
+        if (weight <= 0d) { // no weight to scale so split equally
+            if (offset < 0d) return 0; // nothing to withdraw
+            double allocation = Math.min(offset / count, 1d);
+            for (int i = from; i < to; i++) if (i != adjusted) percents[i] = allocation;
+            return 1;
+        }
+
+        double ratio = 1d + offset / weight; // each element scaled by the same factor
+        for (int i = from; i < to; i++) {
+            if (i == adjusted) continue;
+            double percent = percents[i] * ratio;
+            if (percent < 0d) percent = 0d; // guard against rounding past limits
+            else if (percent > 1d) percent = 1d;
+            percents[i] = percent;
+        } return 1;
+    }
+
+    @Override public int redistribute(float[] percents, int from, int to, int index, double offset, int precision) {
+
+        double error = Math.pow(10, -precision);
+        if (Math.abs(offset) < error) return 0; // nothing to distribute
+
+        int adjusted = index < 0 ? -1 : from + index;
+        double weight = 0d; // accumulated at double precision to avoid compounding rounding
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (i == adjusted) continue;
+            weight += percents[i];
+            count++;
+        }
+        if (count == 0) return 0; // no elements to absorb offset
+
+        if (weight <= 0d) { // no weight to scale so split equally
+            if (offset < 0d) return 0; // nothing to withdraw
+            float allocation = (float) Math.min(offset / count, 1d);
+            for (int i = from; i < to; i++) if (i != adjusted) percents[i] = allocation;
+            return 1;
+        }
+
+        double ratio = 1d + offset / weight; // each element scaled by the same factor
+        for (int i = from; i < to; i++) {
+            if (i == adjusted) continue;
+            float percent = (float) (percents[i] * ratio);
+            if (percent < 0f) percent = 0f; // guard against rounding past limits
+            else if (percent > 1f) percent = 1f;
+            percents[i] = percent;
+        } return 1;
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.rjbx.calibrater;
+
+/**
+ * Strategy for distributing the offset of an adjustment among the elements of a percent series
+ * other than the adjusted element.
+ */
+public interface RedistributionPolicy {
+
+    /**
+     * Splits the offset equally among the remaining elements, repeating passes
+     * as elements reach their limits until the offset is expended.
+     */
+    RedistributionPolicy EQUAL = new EqualRedistribution();
+
+    /**
+     * Splits the offset among the remaining elements in proportion to their current weight
+     * in a single pass; elements cannot overshoot their limits so no exclusion passes are needed.
+     */
+    RedistributionPolicy PROPORTIONAL = new ProportionalRedistribution();
+
+    /**
+     * Generates a policy which allocates the offset to one element at a time in the specified order,
+     * each element absorbing as much as its limits allow before the next is visited.
+     * @param order indices in order of allocation; unlisted elements follow in ascending order
+     * @return {@link RedistributionPolicy} allocating in the specified order
+     */
+    static RedistributionPolicy priority(int... order) { return new PriorityRedistribution(order); }
+
+    /**
+     * Distributes the offset among the elements of a series within a {@code double} array
+     * other than the adjusted element while keeping each element within the range of 0 and 1.
+     * @param percents {@code double} array containing the series elements to absorb the offset
+     * @param from location of the first element of the series within the array
+     * @param to location following the last element of the series within the array
+     * @param index location of the adjusted element relative to {@code from} to be excluded,
+     *              or -1 to include all elements
+     * @param offset amount to be distributed; negative values are withdrawn from the elements
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return number of passes over the elements taken to expend the offset
+     */
+    int redistribute(double[] percents, int from, int to, int index, double offset, int precision);
+
+    /**
+     * Distributes the offset among the elements of a series within a {@code float} array
+     * other than the adjusted element while keeping each element within the range of 0 and 1.
+     * By default the series is widened into a temporary {@code double} array for
+     * {@link #redistribute(double[], int, int, int, double, int)} and narrowed back;
+     * implementations may override to operate on the {@code float} elements directly.
+     * @param percents {@code float} array containing the series elements to absorb the offset
+     * @param from location of the first element of the series within the array
+     * @param to location following the last element of the series within the array
+     * @param index location of the adjusted element relative to {@code from} to be excluded,
+     *              or -1 to include all elements
+     * @param offset amount to be distributed; negative values are withdrawn from the elements
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return number of passes over the elements taken to expend the offset
+     */
+    default int redistribute(float[] percents, int from, int to, int index, double offset, int precision) {
+        double[] widened = new double[to - from];
+        for (int i = 0; i < widened.length; i++) widened[i] = percents[from + i];
+        int passes = redistribute(widened, 0, widened.length, index, offset, precision);
+        for (int i = 0; i < widened.length; i++) percents[from + i] = (float) widened[i];
+        return passes;
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.rjbx.calibrater;
+
+import java.util.Arrays;
+
+/**
+ * {@link CalibrationKernel} iterating one element at a time; applied wherever
+ * no accelerated kernel is available.
+ */
+final class ScalarKernel implements CalibrationKernel {
+
+    @Override public boolean isSupported() { return true; }
+
+    @Override public double sum(double[] percents, int from, int to) {
+        double sum = 0d;
+        for (int i = from; i < to; i++) sum += percents[i];
+        return sum;
+    }
+
+    @Override public void addClamped(double[] percents, int from, int to, double addend) {
+        for (int i = from; i < to; i++) {
+            percents[i] += addend;
+            if (percents[i] > 1d) percents[i] = 1d;
+            else if (percents[i] < 0d) percents[i] = 0d;
+        }
+    }
+
+    @Override public void fill(double[] percents, int from, int to, double value) {
+        Arrays.fill(percents, from, to, value);
+    }
+}
@@ -0,0 +1,205 @@
+package com.github.rjbx.calibrater;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Engine for calibrating many percent series at once.
+ * The elements of all series are packed end to end into a single {@code double} array
+ * with the boundaries of each series recorded in an offsets index, so that operations applied
+ * across every series sweep contiguous memory without per-series allocation or boxing.
+ */
+public final class SeriesBatch {
+
+    /*
+     * Number of series below which a parallel sweep is applied on the calling thread
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private final double[] mPercents;
+    private final int[] mOffsets;
+
+    /**
+     * Initialize the batch from packed elements and the offsets index describing them.
+     * @param percents elements of all series packed end to end
+     * @param offsets location of the first element of each series followed by the
+     *                number of packed elements; must be nondecreasing
+     */
+    private SeriesBatch(double[] percents, int[] offsets) {
+        mPercents = percents;
+        mOffsets = offsets;
+    }
+
+    /**
+     * Generates a {@link SeriesBatch} by copying each series into a single packed array.
+     * @param series {@code List} of {@code double} arrays each holding the elements of a series
+     * @return {@link SeriesBatch} holding copies of the series
+     */
+    public static SeriesBatch pack(List<double[]> series) {
+        int[] offsets = new int[series.size() + 1];
+        for (int i = 0; i < series.size(); i++) offsets[i + 1] = offsets[i] + series.get(i).length;
+        double[] percents = new double[offsets[series.size()]];
+        for (int i = 0; i < series.size(); i++) {
+            double[] elements = series.get(i);
+            System.arraycopy(elements, 0, percents, offsets[i], elements.length);
+        }
+        return new SeriesBatch(percents, offsets);
+    }
+
+    /**
+     * Generates a {@link SeriesBatch} backed by the specified arrays without copying.
+     * @param percents elements of all series packed end to end
+     * @param offsets location of the first element of each series followed by the
+     *                number of packed elements; must be nondecreasing
+     * @return {@link SeriesBatch} writing through to the specified arrays
+     */
+    public static SeriesBatch wrap(double[] percents, int[] offsets) {
+        if (offsets.length == 0 || offsets[0] != 0 || offsets[offsets.length - 1] != percents.length) {
+            throw new IllegalArgumentException("Offsets must span the packed elements");
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            if (offsets[i] < offsets[i - 1]) throw new IllegalArgumentException("Offsets must be nondecreasing");
+        }
+        return new SeriesBatch(percents, offsets);
+    }
+
+    /**
+     * Retrieve the number of series in the batch.
+     * @return number of series
+     */
+    public int size() { return mOffsets.length - 1; }
+
+    /**
+     * Retrieve the number of elements in the specified series.
+     * @param series location of the series within the batch
+     * @return number of elements
+     */
+    public int length(int series) { return mOffsets[series + 1] - mOffsets[series]; }
+
+    /**
+     * Retrieve the percent value of an element of the specified series.
+     * @param series location of the series within the batch
+     * @param index location of the element within the series
+     * @return percent value
+     */
+    public double get(int series, int index) {
+        if (index < 0 || index >= length(series)) throw new IndexOutOfBoundsException();
+        return mPercents[mOffsets[series] + index];
+    }
+
+    /**
+     * Retrieve a copy of the elements of the specified series.
+     * @param series location of the series within the batch
+     * @return {@code double} array
+     */
+    public double[] toArray(int series) {
+        double[] elements = new double[length(series)];
+        System.arraycopy(mPercents, mOffsets[series], elements, 0, elements.length);
+        return elements;
+    }
+
+    /**
+     * Increments or decrements an element of the specified series by the specified magnitude
+     * in accordance with {@link Calibrater#shiftRatings(double[], int, double, int, RedistributionPolicy)}.
+     * @param series location of the series within the batch
+     * @param index location of the element within the series
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param policy strategy for distributing the offset among the other elements
+     * @return true if percent was adjusted and false otherwise
+     */
+    public boolean shiftRatings(
+            int series, int index, double magnitude, int precision, RedistributionPolicy policy) {
+        return Calibrater.shiftRatings(
+                mPercents, mOffsets[series], mOffsets[series + 1], index, magnitude, precision, policy);
+    }
+
+    /**
+     * Increments or decrements one element of every series in a single sweep.
+     * @param indices location of the element to be adjusted within each series
+     * @param magnitudes amount of the adjustment for each series; zero leaves the series unchanged
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param policy strategy for distributing the offset among the other elements
+     * @param pool pool across which to divide ranges of series, or null to sweep on the calling thread
+     * @return number of series adjusted
+     */
+    public int shiftRatings(int[] indices, double[] magnitudes,
+            int precision, RedistributionPolicy policy, ForkJoinPool pool) {
+        if (indices.length != size() || magnitudes.length != size()) {
+            throw new IllegalArgumentException("Parameter length does not match the number of series");
+        }
+        return sweep(pool, (from, to, series) -> Calibrater.shiftRatings(
+                mPercents, from, to, indices[series], magnitudes[series], precision, policy));
+    }
+
+    /**
+     * Assigns equivalent percents to the elements of every series in a single sweep
+     * in accordance with {@link Calibrater#resetRatings(double[], boolean, int)}.
+     * @param forceReset applies reset even if sum of series elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param pool pool across which to divide ranges of series, or null to sweep on the calling thread
+     * @return number of series adjusted
+     */
+    public int resetRatings(boolean forceReset, int precision, ForkJoinPool pool) {
+        return sweep(pool, (from, to, series) -> Calibrater.resetRatings(mPercents, from, to, forceReset, precision));
+    }
+
+    /**
+     * Calibrates every series closer to the whole in a single sweep
+     * in accordance with {@link Calibrater#recalibrateRatings(double[], boolean, int)}.
+     * @param forceReset applies recalibration even if sum of series elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param pool pool across which to divide ranges of series, or null to sweep on the calling thread
+     * @return number of series adjusted
+     */
+    public int recalibrateRatings(boolean forceReset, int precision, ForkJoinPool pool) {
+        return sweep(pool, (from, to, series) -> Calibrater.recalibrateRatings(mPercents, from, to, forceReset, precision));
+    }
+
+    /**
+     * Operation applied to a single series occupying a range of the packed array.
+     */
+    private interface SeriesOperation {
+        boolean apply(int from, int to, int series);
+    }
+
+    private int sweep(ForkJoinPool pool, SeriesOperation operation) {
+        if (pool == null || size() <= SEQUENTIAL_THRESHOLD) return sweep(0, size(), operation);
+        return pool.invoke(new SweepTask(0, size(), operation));
+    }
+
+    private int sweep(int first, int last, SeriesOperation operation) {
+        int adjusted = 0;
+        for (int series = first; series < last; series++) {
+            if (operation.apply(mOffsets[series], mOffsets[series + 1], series)) adjusted++;
+        } return adjusted;
+    }
+
+    /**
+     * Task dividing a range of series until small enough to be swept sequentially.
+     */
+    private final class SweepTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int mFirst;
+        private final int mLast;
+        private final SeriesOperation mOperation;
+
+        SweepTask(int first, int last, SeriesOperation operation) {
+            mFirst = first;
+            mLast = last;
+            mOperation = operation;
+        }
+
+        @Override protected Integer compute() {
+            if (mLast - mFirst <= SEQUENTIAL_THRESHOLD) return sweep(mFirst, mLast, mOperation);
+            int middle = (mFirst + mLast) >>> 1;
+            SweepTask left = new SweepTask(mFirst, middle, mOperation);
+            left.fork();
+            int right = new SweepTask(middle, mLast, mOperation).compute();
+            return left.join() + right;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.github.rjbx.calibrater;
+
+import java.util.Arrays;
+
+/**
+ * Immutable version of a percent series from which each operation derives a new version
+ * rather than adjusting the series in place. Elements are held in chunks of 32 at the leaves
+ * of a trie, and a derived version shares with its source every chunk, and every node above
+ * such chunks, which the operation left unchanged; keeping many versions, forking a what-if
+ * version by applying operations to an earlier one, or diffing two versions therefore costs
+ * in proportion to the chunks that differ rather than to the size of the series.
+ * How many chunks an operation changes depends on the operation: a shift offset by
+ * {@link RedistributionPolicy#priority(int...)} changes only the chunks of the elements
+ * absorbing the offset, while an equal redistribution, a reset or a removal changes every
+ * element and so shares no chunks.
+ */
+public final class SeriesVersion {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private final Object mRoot; // double[] leaf if mShift is 0; otherwise Object[] of children
+    private final int mShift;
+    private final int mSize;
+
+    private SeriesVersion(Object root, int shift, int size) {
+        mRoot = root;
+        mShift = shift;
+        mSize = size;
+    }
+
+    /**
+     * Generates a {@link SeriesVersion} from a copy of the elements of a {@code double} array.
+     * @param percents {@code double} array elements
+     * @return {@link SeriesVersion} holding the elements
+     */
+    public static SeriesVersion of(double[] percents) { return derive(percents, null); }
+
+    /**
+     * Retrieve the number of elements in the series.
+     * @return number of elements
+     */
+    public int size() { return mSize; }
+
+    /**
+     * Retrieve the percent value of the specified element.
+     * @param index location of the element
+     * @return percent value
+     */
+    public double get(int index) {
+        if (index < 0 || index >= mSize) throw new IndexOutOfBoundsException();
+        Object node = mRoot;
+        for (int shift = mShift; shift > 0; shift -= BITS) node = ((Object[]) node)[(index >>> shift) & MASK];
+        return ((double[]) node)[index & MASK];
+    }
+
+    /**
+     * Retrieve a copy of the elements of the series.
+     * @return {@code double} array
+     */
+    public double[] toArray() {
+        double[] percents = new double[mSize];
+        copy(mRoot, mShift, 0, percents);
+        return percents;
+    }
+
+    /**
+     * Derives the version in which the specified element is incremented or decremented by the magnitude
+     * in accordance with {@link Calibrater#shiftRatings(double[], int, double, int, RedistributionPolicy)}.
+     * @param index index of the element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param policy strategy for distributing the offset among the other elements
+     * @return derived {@link SeriesVersion}, or this version if no element was adjusted
+     */
+    public SeriesVersion shiftRatings(int index, double magnitude, int precision, RedistributionPolicy policy) {
+        double[] percents = toArray();
+        if (!Calibrater.shiftRatings(percents, 0, mSize, index, magnitude, precision, policy)) return this;
+        return derive(percents, this);
+    }
+
+    /**
+     * Derives the version from which the specified element is removed and the whole distributed
+     * among the remaining elements in accordance with {@link Calibrater#recalibrateRatings(double[], boolean, int)}.
+     * @param index location of the element to be removed
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return derived {@link SeriesVersion}
+     */
+    public SeriesVersion removeRating(int index, int precision) {
+        if (index < 0 || index >= mSize) throw new IndexOutOfBoundsException();
+        double[] percents = new double[mSize - 1];
+        copy(mRoot, mShift, 0, percents, index);
+        Calibrater.recalibrateRatings(percents, 0, percents.length, false, precision);
+        return derive(percents, this);
+    }
+
+    /**
+     * Derives the version in which equivalent percents are assigned to each element
+     * in accordance with {@link Calibrater#resetRatings(double[], boolean, int)}.
+     * @param forceReset applies reset even if sum of elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return derived {@link SeriesVersion}, or this version if no element was adjusted
+     */
+    public SeriesVersion resetRatings(boolean forceReset, int precision) {
+        double[] percents = toArray();
+        if (!Calibrater.resetRatings(percents, 0, mSize, forceReset, precision)) return this;
+        return derive(percents, this);
+    }
+
+    /**
+     * Derives the version in which the difference between the whole and the sum of all elements
+     * is equally distributed in accordance with {@link Calibrater#recalibrateRatings(double[], boolean, int)}.
+     * @param forceReset applies recalibration even if sum of elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return derived {@link SeriesVersion}, or this version if no element was adjusted
+     */
+    public SeriesVersion recalibrateRatings(boolean forceReset, int precision) {
+        double[] percents = toArray();
+        if (!Calibrater.recalibrateRatings(percents, 0, mSize, forceReset, precision)) return this;
+        return derive(percents, this);
+    }
+
+    /**
+     * Retrieve the locations at which the elements of this version differ from those of the other,
+     * visiting only the chunks which the versions do not share. Locations held by only one of the
+     * versions are included.
+     * @param other version to be compared
+     * @return {@code int} array of indices in ascending order
+     */
+    public int[] diff(SeriesVersion other) {
+        Object a = mRoot;
+        Object b = other.mRoot;
+        for (int s = mShift; s < other.mShift; s += BITS) b = ((Object[]) b)[0]; // align the taller root
+        for (int s = other.mShift; s < mShift; s += BITS) a = ((Object[]) a)[0];
+        int common = Math.min(mSize, other.mSize);
+        int longest = Math.max(mSize, other.mSize);
+        Indices changed = new Indices(longest - common + 16);
+        diff(a, b, Math.min(mShift, other.mShift), 0, common, changed);
+        for (int i = common; i < longest; i++) changed.add(i);
+        return Arrays.copyOf(changed.mValues, changed.mCount);
+    }
+
+    /*
+     * Counts the leaves of this version held by reference in the other at the same location
+     */
+    int sharedChunks(SeriesVersion other) {
+        if (mShift != other.mShift) return 0;
+        return shared(mRoot, other.mRoot, mShift);
+    }
+
+    private static int shared(Object a, Object b, int shift) {
+        if (a == b) return shift == 0 ? 1 : leaves(a, shift);
+        if (shift == 0) return 0;
+        Object[] x = (Object[]) a;
+        Object[] y = (Object[]) b;
+        int count = 0;
+        for (int i = 0; i < Math.min(x.length, y.length); i++) count += shared(x[i], y[i], shift - BITS);
+        return count;
+    }
+
+    private static int leaves(Object node, int shift) {
+        if (shift == 0) return 1;
+        int count = 0;
+        for (Object child : (Object[]) node) count += leaves(child, shift - BITS);
+        return count;
+    }
+
+    /*
+     * Collects the indices below limit at which the elements under the nodes differ
+     */
+    private static void diff(Object a, Object b, int shift, int offset, int limit, Indices changed) {
+        if (a == b || offset >= limit) return;
+        if (shift == 0) {
+            double[] x = (double[]) a;
+            double[] y = (double[]) b;
+            for (int i = 0; i < WIDTH && offset + i < limit; i++) {
+                if (Double.doubleToLongBits(x[i]) != Double.doubleToLongBits(y[i])) changed.add(offset + i);
+            }
+            return;
+        }
+        Object[] x = (Object[]) a;
+        Object[] y = (Object[]) b;
+        for (int i = 0; i < Math.min(x.length, y.length); i++) {
+            diff(x[i], y[i], shift - BITS, offset + (i << shift), limit, changed);
+        }
+    }
+
+    /**
+     * Builds the version holding the specified elements, reusing each node of the previous version
+     * which holds the same elements at the same location.
+     */
+    private static SeriesVersion derive(double[] percents, SeriesVersion previous) {
+        int shift = 0;
+        while ((long) WIDTH << shift < percents.length) shift += BITS;
+        Object aligned = null;
+        if (previous != null && previous.mShift >= shift) {
+            aligned = previous.mRoot;
+            for (int s = previous.mShift; s > shift; s -= BITS) aligned = ((Object[]) aligned)[0];
+        }
+        return new SeriesVersion(build(percents, shift, 0, aligned), shift, percents.length);
+    }
+
+    private static Object build(double[] percents, int shift, int offset, Object previous) {
+        if (shift == 0) {
+            if (previous != null && matches((double[]) previous, percents, offset)) return previous;
+            return Arrays.copyOfRange(percents, offset, offset + WIDTH); // zero beyond the last element
+        }
+        int span = 1 << shift;
+        int count = Math.max(1, Math.min(WIDTH, (percents.length - offset + span - 1) / span));
+        Object[] children = previous != null ? (Object[]) previous : null;
+        Object[] node = new Object[count];
+        boolean same = children != null && children.length == count;
+        for (int i = 0; i < count; i++) {
+            Object child = children != null && i < children.length ? children[i] : null;
+            node[i] = build(percents, shift - BITS, offset + i * span, child);
+            same &= node[i] == child;
+        }
+        return same ? previous : node;
+    }
+
+    private static boolean matches(double[] leaf, double[] percents, int offset) {
+        for (int i = 0; i < WIDTH; i++) {
+            double percent = offset + i < percents.length ? percents[offset + i] : 0d;
+            if (Double.doubleToLongBits(leaf[i]) != Double.doubleToLongBits(percent)) return false;
+        }
+        return true;
+    }
+
+    private static void copy(Object node, int shift, int offset, double[] percents) {
+        copy(node, shift, offset, percents, -1);
+    }
+
+    /*
+     * Copies the elements below the node into the array, omitting the element at the skipped index
+     */
+    private static int copy(Object node, int shift, int offset, double[] percents, int skipped) {
+        if (shift == 0) {
+            double[] leaf = (double[]) node;
+            for (int i = 0; i < WIDTH; i++) {
+                int index = offset + i;
+                if (index == skipped) continue;
+                int target = skipped >= 0 && index > skipped ? index - 1 : index;
+                if (target >= percents.length) break;
+                percents[target] = leaf[i];
+            }
+            return offset + WIDTH;
+        }
+        for (Object child : (Object[]) node) offset = copy(child, shift - BITS, offset, percents, skipped);
+        return offset;
+    }
+
+    /**
+     * Growable {@code int} array of indices.
+     */
+    private static final class Indices {
+
+        int[] mValues;
+        int mCount;
+
+        Indices(int capacity) { mValues = new int[capacity]; }
+
+        void add(int index) {
+            if (mCount == mValues.length) mValues = Arrays.copyOf(mValues, mCount * 2);
+            mValues[mCount++] = index;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.github.rjbx.calibrater;
+
+import java.util.Arrays;
+
+/**
+ * Percent series which stores only its non-zero elements while few elements hold a share
+ * of the whole, switching automatically between sparse and dense representations by fill ratio.
+ * While sparse, the elements are held as sorted index and value arrays and each operation
+ * iterates over the non-zero elements only; operations which would assign a share to every
+ * element are applied to the dense representation.
+ */
+public final class SparseSeries {
+
+    /*
+     * Fill ratio at or below which a dense series becomes sparse
+     */
+    static final double SPARSE_RATIO = .125d;
+
+    /*
+     * Fill ratio above which a sparse series becomes dense
+     */
+    static final double DENSE_RATIO = .25d;
+
+    private int mLength;
+    private double[] mDense; // null while sparse
+    private int[] mIndices; // sorted; null while dense
+    private double[] mValues;
+    private int mCount;
+
+    private SparseSeries(double[] percents, int length) {
+        mDense = percents;
+        mLength = length;
+        updateRepresentation();
+    }
+
+    /**
+     * Generates a {@link SparseSeries} from a copy of the elements of a {@code double} array.
+     * @param percents {@code double} array elements
+     * @return {@link SparseSeries} holding the elements in the representation suited to their fill ratio
+     */
+    public static SparseSeries of(double[] percents) {
+        return new SparseSeries(percents.clone(), percents.length);
+    }
+
+    /**
+     * Retrieve the number of elements in the series including those equal to zero.
+     * @return number of elements
+     */
+    public int size() { return mLength; }
+
+    /**
+     * Retrieve the number of elements in the series not equal to zero.
+     * @return number of non-zero elements
+     */
+    public int nonZeroCount() { return mDense == null ? mCount : countNonZero(); }
+
+    /**
+     * Reports whether the series is currently held in the sparse representation.
+     * @return true if sparse; false if dense
+     */
+    public boolean isSparse() { return mDense == null; }
+
+    /**
+     * Retrieve the percent value of the specified element.
+     * @param index location of the element
+     * @return percent value
+     */
+    public double get(int index) {
+        if (index < 0 || index >= mLength) throw new IndexOutOfBoundsException();
+        if (mDense != null) return mDense[index];
+        int position = Arrays.binarySearch(mIndices, 0, mCount, index);
+        return position < 0 ? 0d : mValues[position];
+    }
+
+    /**
+     * Retrieve a copy of the elements of the series.
+     * @return {@code double} array
+     */
+    public double[] toArray() {
+        if (mDense != null) return Arrays.copyOf(mDense, mLength);
+        double[] percents = new double[mLength];
+        for (int i = 0; i < mCount; i++) percents[mIndices[i]] = mValues[i];
+        return percents;
+    }
+
+    /**
+     * Increments or decrements an element of the series by the specified magnitude
+     * in accordance with {@link Calibrater#shiftRatings(double[], int, double, int, RedistributionPolicy)}.
+     * While sparse, only withdrawals from the other elements, and additions to them which
+     * the policy scales by weight, are applied without switching to the dense representation.
+     * @param index location of the element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param policy strategy for distributing the offset among the other elements
+     * @return true if percent was adjusted and false otherwise
+     */
+    public boolean shiftRatings(int index, double magnitude, int precision, RedistributionPolicy policy) {
+
+        if (mDense != null) {
+            boolean result = Calibrater.shiftRatings(mDense, 0, mLength, index, magnitude, precision, policy);
+            if (result) updateRepresentation();
+            return result;
+        }
+
+        if (precision > 16 || precision < 0 || magnitude > 1d || magnitude < -1d) {
+            throw new IllegalArgumentException("Parameter value is out of bounds");
+        }
+
+        if (magnitude == 0 || mLength < 2) {
+            return false; // nothing to adjust
+        }
+
+        if (index < 0 || index >= mLength) throw new IndexOutOfBoundsException();
+
+        int position = Arrays.binarySearch(mIndices, 0, mCount, index);
+        double percent = position < 0 ? 0d : mValues[position];
+        if ((percent == 0d && magnitude < 0d) || (percent == 1d && magnitude > 0d)) {
+            return false; // percent outside adjustable limits
+        }
+
+        percent += magnitude;
+        if (percent >= 1d) { // adjusted percent is whole so rest must be zero
+            mIndices[0] = index;
+            mValues[0] = 1d;
+            mCount = 1;
+            return true;
+        }
+
+        double offset = -magnitude;
+        if (percent <= 0d) {
+            offset += percent; // restore unallocated offset
+            percent = 0d; // set to limit
+        }
+
+        if (position < 0) position = insert(-position - 1, index);
+        RedistributionPolicy compacted = Calibrater.compacted(policy, mIndices, mCount);
+        if (compacted == null // allocation by location of unknown policy only applies in place
+                || (offset > 0d && !(policy == RedistributionPolicy.PROPORTIONAL && otherWeight(position) > 0d))) {
+            densify(); // zero elements would receive a share of the offset
+            mDense[index] = percent;
+            policy.redistribute(mDense, 0, mLength, index, offset, precision);
+            updateRepresentation();
+            return true;
+        }
+
+        mValues[position] = percent;
+        compacted.redistribute(mValues, 0, mCount, position, offset, precision);
+        compact();
+        updateRepresentation();
+        return true;
+    }
+
+    /**
+     * Assigns equivalent percents to each element
+     * in accordance with {@link Calibrater#resetRatings(double[], boolean, int)}.
+     * @param forceReset applies reset even if sum of elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public boolean resetRatings(boolean forceReset, int precision) {
+        if (mDense == null) {
+            double sum = Kernels.DEFAULT.sum(mValues, 0, mCount);
+            double error = Math.pow(10, -precision);
+            if (!(sum > 1d + error || sum < 1d - error || forceReset)) return false;
+            densify();
+        }
+        boolean result = Calibrater.resetRatings(mDense, 0, mLength, forceReset, precision);
+        updateRepresentation();
+        return result;
+    }
+
+    /**
+     * Removes the element at the specified index and distributes the whole among the
+     * remaining elements in accordance with {@link #recalibrateRatings(boolean, int)}.
+     * @param index location of the element to be removed
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public boolean removeRating(int index, int precision) {
+        if (index < 0 || index >= mLength) throw new IndexOutOfBoundsException();
+        if (mDense != null) {
+            System.arraycopy(mDense, index + 1, mDense, index, mLength - index - 1);
+        } else {
+            int position = Arrays.binarySearch(mIndices, 0, mCount, index);
+            int next = position < 0 ? -position - 1 : position + 1;
+            for (int i = next; i < mCount; i++) mIndices[i]--; // close the gap left by the removal
+            if (position >= 0) {
+                System.arraycopy(mIndices, next, mIndices, position, mCount - next);
+                System.arraycopy(mValues, next, mValues, position, mCount - next);
+                mCount--;
+            }
+        }
+        mLength--;
+        return recalibrateRatings(false, precision);
+    }
+
+    /**
+     * Equally distributes to each element the difference between the whole and the sum
+     * of all elements in accordance with {@link Calibrater#recalibrateRatings(double[], boolean, int)}.
+     * While sparse, a surplus is withdrawn from the non-zero elements only, as zero elements
+     * would be limited to zero; a deficit is distributed over the dense representation.
+     * @param forceReset applies recalibration even if sum of elements is as precise as specified
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return true if values were adjusted; false otherwise
+     */
+    public boolean recalibrateRatings(boolean forceReset, int precision) {
+        if (mDense != null) {
+            boolean result = Calibrater.recalibrateRatings(mDense, 0, mLength, forceReset, precision);
+            if (result) updateRepresentation();
+            return result;
+        }
+        double sum = Kernels.DEFAULT.sum(mValues, 0, mCount);
+        double difference = (1d - sum) / mLength;
+        double error = Math.pow(10, -precision);
+        if (!(sum > 1d + error || sum < 1d - error || forceReset)) return false; // elements are proportionate
+        if (difference > 0d) {
+            densify(); // every element would receive a share of the difference
+            Kernels.DEFAULT.addClamped(mDense, 0, mLength, difference);
+        } else {
+            Kernels.DEFAULT.addClamped(mValues, 0, mCount, difference);
+            compact();
+        }
+        updateRepresentation();
+        return true;
+    }
+
+    private double otherWeight(int position) {
+        double weight = 0d;
+        for (int i = 0; i < mCount; i++) if (i != position) weight += mValues[i];
+        return weight;
+    }
+
+    /*
+     * Opens a slot for the specified index at the specified position of the sparse arrays
+     */
+    private int insert(int position, int index) {
+        if (mCount == mIndices.length) {
+            int capacity = Math.max(4, mCount * 2);
+            mIndices = Arrays.copyOf(mIndices, capacity);
+            mValues = Arrays.copyOf(mValues, capacity);
+        }
+        System.arraycopy(mIndices, position, mIndices, position + 1, mCount - position);
+        System.arraycopy(mValues, position, mValues, position + 1, mCount - position);
+        mIndices[position] = index;
+        mValues[position] = 0d;
+        mCount++;
+        return position;
+    }
+
+    /*
+     * Drops entries from the sparse arrays which no longer hold a share of the whole
+     */
+    private void compact() {
+        int count = 0;
+        for (int i = 0; i < mCount; i++) {
+            if (mValues[i] == 0d) continue;
+            mIndices[count] = mIndices[i];
+            mValues[count++] = mValues[i];
+        }
+        mCount = count;
+    }
+
+    private int countNonZero() {
+        int count = 0;
+        for (int i = 0; i < mLength; i++) if (mDense[i] != 0d) count++;
+        return count;
+    }
+
+    private void densify() {
+        double[] dense = new double[mLength];
+        for (int i = 0; i < mCount; i++) dense[mIndices[i]] = mValues[i];
+        mDense = dense;
+        mIndices = null;
+        mValues = null;
+        mCount = 0;
+    }
+
+    private void sparsify(int count) {
+        mIndices = new int[Math.max(4, count)];
+        mValues = new double[mIndices.length];
+        mCount = 0;
+        for (int i = 0; i < mLength; i++) {
+            if (mDense[i] == 0d) continue;
+            mIndices[mCount] = i;
+            mValues[mCount++] = mDense[i];
+        }
+        mDense = null;
+    }
+
+    private void updateRepresentation() {
+        if (mDense != null) {
+            int count = countNonZero();
+            if (count <= mLength * SPARSE_RATIO) sparsify(count);
+        } else if (mCount > mLength * DENSE_RATIO) densify();
+    }
+}
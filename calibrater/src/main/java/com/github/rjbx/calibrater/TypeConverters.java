@@ -1,7 +1,9 @@
 package com.github.rjbx.calibrater;
 
+import java.nio.DoubleBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Utility class for converting between decimal array types
@@ -40,10 +42,7 @@ public final class TypeConverters {
      * Generates a {@code float} array from a {@code List} of {@code Double}.
      */
     public static float[] listDoubleToArrayFloat(List<Double> doubleList) {
-        Double[] doubleArray = doubleList.toArray(new Double[0]);
-        float[] floatArray = new float[doubleArray.length];
-        for (int i = 0; i < doubleArray.length; i++) floatArray[i] = doubleArray[i].floatValue();
-        return floatArray;
+        return listDoubleToArrayFloat(doubleList, new float[doubleList.size()]);
     }
 
     /**
@@ -59,9 +58,81 @@ public final class TypeConverters {
      * Generates a {@code List} of {@code double} from a {@code List} of {@code Double}.
      */
     public static double[] listDoubleToArrayDouble(List<Double> doubleList) {
-        Double[] doubleBoxedArray = doubleList.toArray(new Double[0]);
-        double[] doublePrimativeArray = new double[doubleBoxedArray.length];
-        for (int i = 0; i < doubleBoxedArray.length; i++) doublePrimativeArray[i] = doubleBoxedArray[i];
-        return doublePrimativeArray;
+        return listDoubleToArrayDouble(doubleList, new double[doubleList.size()]);
+    }
+
+    /**
+     * Generates a {@code List} of {@code Double} which reads and writes through to a
+     * {@code double} array without copying; the {@code List} cannot change size.
+     */
+    public static List<Double> viewArrayDouble(double[] doubleArray) {
+        return new DoubleArrayView(doubleArray, 0, doubleArray.length);
+    }
+
+    /**
+     * Generates a {@code List} of {@code Double} which reads and writes through to a range of a
+     * {@code double} array without copying; the {@code List} cannot change size.
+     */
+    public static List<Double> viewArrayDouble(double[] doubleArray, int from, int to) {
+        return new DoubleArrayView(doubleArray, from, to);
+    }
+
+    /**
+     * Generates a {@code List} of {@code Double} which reads and writes through to the remaining
+     * elements of a {@link DoubleBuffer} without copying; the {@code List} cannot change size.
+     */
+    public static List<Double> viewBufferDouble(DoubleBuffer doubleBuffer) {
+        return new DoubleBufferView(doubleBuffer);
+    }
+
+    /**
+     * Writes a {@code List} of {@code Double} into a {@code float} array,
+     * allocating a new array only if the specified array is too small.
+     * @return the specified array if large enough; otherwise the newly allocated array
+     */
+    public static float[] listDoubleToArrayFloat(List<Double> doubleList, float[] floatArray) {
+        int size = doubleList.size();
+        if (floatArray.length < size) floatArray = new float[size];
+        if (doubleList instanceof DoubleArrayView) {
+            DoubleArrayView view = (DoubleArrayView) doubleList;
+            for (int i = 0; i < size; i++) floatArray[i] = (float) view.mArray[view.mFrom + i];
+        } else if (doubleList instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) floatArray[i] = doubleList.get(i).floatValue();
+        } else {
+            int i = 0;
+            for (Double d : doubleList) floatArray[i++] = d.floatValue();
+        } return floatArray;
+    }
+
+    /**
+     * Writes a {@code List} of {@code Double} into a {@code double} array,
+     * allocating a new array only if the specified array is too small.
+     * @return the specified array if large enough; otherwise the newly allocated array
+     */
+    public static double[] listDoubleToArrayDouble(List<Double> doubleList, double[] doubleArray) {
+        int size = doubleList.size();
+        if (doubleArray.length < size) doubleArray = new double[size];
+        if (doubleList instanceof DoubleArrayView) {
+            DoubleArrayView view = (DoubleArrayView) doubleList;
+            System.arraycopy(view.mArray, view.mFrom, doubleArray, 0, size);
+        } else if (doubleList instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) doubleArray[i] = doubleList.get(i);
+        } else {
+            int i = 0;
+            for (Double d : doubleList) doubleArray[i++] = d;
+        } return doubleArray;
+    }
+
+    /**
+     * Writes a {@code List} of {@code Double} into a {@link DoubleBuffer} at its current position,
+     * advancing the position by the number of elements written.
+     * @return the specified buffer
+     */
+    public static DoubleBuffer listDoubleToBufferDouble(List<Double> doubleList, DoubleBuffer doubleBuffer) {
+        if (doubleList instanceof DoubleArrayView) {
+            DoubleArrayView view = (DoubleArrayView) doubleList;
+            doubleBuffer.put(view.mArray, view.mFrom, view.size());
+        } else for (Double d : doubleList) doubleBuffer.put(d);
+        return doubleBuffer;
     }
 }
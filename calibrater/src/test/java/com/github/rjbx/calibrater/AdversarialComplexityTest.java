@@ -0,0 +1,83 @@
+package com.github.rjbx.calibrater;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods bounding the cost of shifts on the {@link AdversarialSeries} shapes as series grow.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class AdversarialComplexityTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    private static final int[] SIZES = { 1 << 12, 1 << 14, 1 << 16, 1 << 18 };
+
+    private static final RedistributionPolicy[] POLICIES = {
+            RedistributionPolicy.EQUAL, RedistributionPolicy.PROPORTIONAL, RedistributionPolicy.priority()
+    };
+
+    /**
+     * Asserts whether the exclusion passes of equal redistribution grow no faster than
+     * the logarithm of the series size and every shape maintains the whole.
+     */
+    @Test public final void testEqualPassesLogarithmic() {
+
+        for (int precision : new int[] { PRECISION, 12 }) {
+            for (AdversarialSeries shape : AdversarialSeries.values()) {
+                for (int size = 1 << 8; size <= 1 << 16; size <<= 2) {
+                    double[] percents = shape.generate(size, precision);
+                    double magnitude = shape.magnitude(precision);
+                    percents[size - 1] += magnitude;
+                    int passes = RedistributionPolicy.EQUAL.redistribute(
+                            percents, 0, size, size - 1, -magnitude, precision);
+                    int log = 32 - Integer.numberOfLeadingZeros(size);
+                    assertTrue(shape + " at " + size + " took " + passes + " passes", passes <= log);
+                    double sum = 0d;
+                    for (double percent : percents) sum += percent;
+                    assertEquals(1d, sum, ERROR);
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts whether a shift on every shape takes no more redistribution passes, as reported
+     * to a {@link CalibrationObserver}, than the logarithm of the series size for every policy,
+     * so that its cost grows no faster than n log n. Latency is measured by
+     * {@code AdversarialGrowthBenchmark} in the jmh source set rather than asserted here.
+     */
+    @Test public final void testShiftPassesBounded() {
+
+        int[] reported = new int[2]; // operations and passes of the latest
+        CalibrationObserver observer = (operation, size, index, magnitude, adjusted, passes, clamped, residual, nanos) -> {
+            reported[0]++;
+            reported[1] = passes;
+        };
+        CalibrationObservers.install(observer);
+        try {
+            for (AdversarialSeries shape : AdversarialSeries.values()) {
+                for (RedistributionPolicy policy : POLICIES) {
+                    for (int size : SIZES) {
+                        double[] percents = shape.generate(size, PRECISION);
+                        int operations = reported[0];
+                        assertTrue(Calibrater.shiftRatings(
+                                percents, size - 1, shape.magnitude(PRECISION), PRECISION, policy));
+                        assertEquals(operations + 1, reported[0]);
+                        int log = 32 - Integer.numberOfLeadingZeros(size);
+                        assertTrue(shape + " with " + policy.getClass().getSimpleName() + " at " + size
+                                + " took " + reported[1] + " passes", reported[1] >= 1 && reported[1] <= log);
+                        double sum = 0d;
+                        for (double percent : percents) sum += percent;
+                        assertEquals(1d, sum, ERROR);
+                    }
+                }
+            }
+        } finally {
+            CalibrationObservers.uninstall(observer);
+        }
+    }
+}
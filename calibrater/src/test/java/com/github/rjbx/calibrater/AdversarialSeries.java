@@ -0,0 +1,100 @@
+package com.github.rjbx.calibrater;
+
+/**
+ * Generators of series shapes on which the cost of a shift depends most on its input,
+ * each paired with the shift of its last element which withdraws from the rest of the series.
+ * The first element absorbs whatever the rest of the series cannot.
+ */
+enum AdversarialSeries {
+
+    /**
+     * Most elements are a hundredth of the permitted error, so nearly all are driven to zero
+     * by the first pass and the offset is carried by the absorbing element.
+     */
+    NEAR_ZERO_TAIL {
+        @Override double[] generate(int size, int precision) {
+            double[] percents = new double[size];
+            double tail = Math.pow(10, -precision - 2);
+            for (int i = 1; i < size; i++) percents[i] = tail * (1 + i % 7) / 4d;
+            return fill(percents);
+        }
+    },
+
+    /**
+     * Elements alternate between near zero and an equal share of the whole,
+     * so that every other element is driven to zero by the first pass.
+     */
+    ALTERNATING {
+        @Override double[] generate(int size, int precision) {
+            double[] percents = new double[size];
+            for (int i = 1; i < size; i++) percents[i] = i % 2 == 0 ? 1e-9d : .5d / size;
+            return fill(percents);
+        }
+    },
+
+    /**
+     * Elements are grouped so that each pass drives half of the remaining elements to zero
+     * and carries a quarter of its offset into the next, maximizing the number of passes.
+     */
+    CASCADE {
+        @Override double[] generate(int size, int precision) {
+            double[] percents = new double[size];
+            double offset = MAGNITUDE;
+            double allocated = 0d;
+            int remaining = size - 2;
+            int next = 1;
+            while (remaining > 1 && next < size - 1) {
+                double allocation = offset / remaining;
+                double value = allocated + allocation / 2d; // survives prior passes and is zeroed by this one
+                int group = remaining / 2;
+                for (int i = 0; i < group && next < size - 1; i++) percents[next++] = value;
+                allocated += allocation;
+                offset = group * allocation / 2d;
+                remaining -= group;
+            }
+            while (next < size - 1) percents[next++] = allocated; // remainder expended exactly
+            return fill(percents);
+        }
+    },
+
+    /**
+     * Elements are equal and the magnitude of the shift exceeds the permitted error by half,
+     * so that the offset of each allocation approaches the error threshold.
+     */
+    NEAR_ERROR {
+        @Override double[] generate(int size, int precision) {
+            double[] percents = new double[size];
+            for (int i = 1; i < size; i++) percents[i] = .5d / size;
+            return fill(percents);
+        }
+
+        @Override double magnitude(int precision) { return 1.5d * Math.pow(10, -precision); }
+    };
+
+    /*
+     * Amount by which the last element is incremented unless the shape specifies otherwise
+     */
+    static final double MAGNITUDE = .25d;
+
+    /**
+     * Generates the series with the first element holding the remainder of the whole.
+     * @param size number of elements
+     * @param precision precision of the shift to be applied
+     * @return {@code double} array elements summing to the whole
+     */
+    abstract double[] generate(int size, int precision);
+
+    /**
+     * Retrieve the amount by which the last element is to be incremented.
+     * @param precision precision of the shift to be applied
+     * @return magnitude of the shift
+     */
+    double magnitude(int precision) { return MAGNITUDE; }
+
+    private static double[] fill(double[] percents) {
+        double sum = 0d;
+        for (int i = 1; i < percents.length; i++) sum += percents[i];
+        percents[0] = 1d - sum;
+        return percents;
+    }
+}
@@ -226,6 +226,194 @@ public class CalibraterTest {
         assertTrue(Calibrater.resetRatings(percents, false, PRECISION));
     }
 
+    /**
+     * Asserts whether incrementing and decrementing through the range of possible values for
+     * a {@code float} array maintains the whole within the error permitted for {@code float} elements.
+     */
+    @Test public final void testShiftFloatArrayRepeatRange() {
+
+        double error = Math.pow(10, -Calibrater.FLOAT_PRECISION);
+        RedistributionPolicy[] policies = {
+                RedistributionPolicy.EQUAL, RedistributionPolicy.PROPORTIONAL, RedistributionPolicy.priority()
+        };
+        for (RedistributionPolicy policy : policies) {
+            float[] percents = { .25f, .25f, .25f, .25f };
+            int multiplier = 0;
+            for (double magnitude = 0.01d; magnitude < 0.1d; magnitude += 0.01d) {
+                for (int index = 0; index < percents.length; index++) {
+                    while (percents[index] < 1f) {
+                        Calibrater.shiftRatings(percents, index, magnitude, PRECISION, policy);
+                        multiplier++;
+                    }
+                    while (percents[index] > .1f) {
+                        Calibrater.shiftRatings(percents, index, -magnitude, PRECISION, policy);
+                        multiplier++;
+                    }
+                    double sum = 0d;
+                    for (float percent : percents) {
+                        assertTrue(percent >= 0f && percent <= 1f);
+                        sum += percent;
+                    }
+                    assertEquals(1d, sum, ERROR + error * multiplier);
+                }
+            }
+        }
+    }
+
+    /**
+     * Asserts whether calibrating a {@code float} array at a precision beyond that of
+     * {@code float} elements is limited to {@link Calibrater#FLOAT_PRECISION}.
+     */
+    @Test public final void testFloatArrayPrecisionGuard() {
+
+        float[] percents = new float[1000];
+        assertTrue(Calibrater.resetRatings(percents, false, 16));
+        assertFalse(Calibrater.recalibrateRatings(percents, false, 16)); // sum within float error
+        assertFalse(Calibrater.resetRatings(percents, false, 16));
+
+        percents[0] += 1e-5f;
+        assertTrue(Calibrater.recalibrateRatings(percents, false, 16));
+        double sum = 0d;
+        for (float percent : percents) sum += percent;
+        assertEquals(1d, sum, Math.pow(10, -Calibrater.FLOAT_PRECISION));
+
+        assertTrue(Calibrater.shiftRatings(percents, 3, .5d, 16, RedistributionPolicy.EQUAL));
+        assertEquals(.501f, percents[3], 1e-6f);
+    }
+
+    /**
+     * Asserts whether inserting an element withdraws its share from the other elements
+     * under each policy while maintaining the whole, and whether an element inserted
+     * into an empty series holds the whole.
+     */
+    @Test public final void testInsertRating() {
+
+        List<Double> percents = new ArrayList<>(Arrays.asList(.4d, .4d, .2d));
+        assertTrue(Calibrater.insertRating(percents, 1, .1d, PRECISION));
+        assertEquals(4, percents.size());
+        assertEquals(.1d, percents.get(1), ERROR);
+        assertEquals(.4d - .1d / 3d, percents.get(0), ERROR);
+        assertEquals(.2d - .1d / 3d, percents.get(3), ERROR);
+        assertSum(percents);
+
+        assertTrue(Calibrater.insertRating(percents, 4, .5d, PRECISION, RedistributionPolicy.PROPORTIONAL));
+        assertEquals(.5d, percents.get(4), ERROR);
+        assertEquals((.2d - .1d / 3d) / 2d, percents.get(3), ERROR);
+        assertSum(percents);
+
+        assertFalse(Calibrater.insertRating(percents, 0, 0d, PRECISION));
+        assertEquals(6, percents.size());
+        assertSum(percents);
+
+        List<Double> empty = new ArrayList<>();
+        assertTrue(Calibrater.insertRating(empty, 0, .3d, PRECISION));
+        assertEquals(1d, empty.get(0), ERROR);
+        empty.clear();
+        assertTrue(Calibrater.insertRating(empty, 0, 1d, PRECISION)); // already holds the whole
+        assertEquals(1d, empty.get(0), 0d);
+
+        try {
+            Calibrater.insertRating(percents, 0, 1.5d, PRECISION);
+            fail();
+        } catch (IllegalArgumentException expected) {}
+        assertEquals(6, percents.size());
+    }
+
+    /**
+     * Asserts whether appending many elements withdraws their combined share from the existing
+     * elements in a single redistribution while maintaining the whole.
+     */
+    @Test public final void testAppendRatings() {
+
+        List<Double> percents = new ArrayList<>(Arrays.asList(.5d, .5d));
+        List<Double> additions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) additions.add(.004d);
+        assertTrue(Calibrater.appendRatings(percents, additions, PRECISION, RedistributionPolicy.EQUAL));
+        assertEquals(102, percents.size());
+        assertEquals(.3d, percents.get(0), ERROR);
+        assertEquals(.004d, percents.get(101), ERROR);
+        assertSum(percents);
+
+        List<Double> loaded = new ArrayList<>();
+        assertTrue(Calibrater.appendRatings(loaded, Arrays.asList(.2d, .2d), PRECISION, RedistributionPolicy.EQUAL));
+        assertEquals(.5d, loaded.get(1), ERROR);
+        assertFalse(Calibrater.appendRatings(loaded, new ArrayList<>(), PRECISION, RedistributionPolicy.EQUAL));
+
+        try {
+            Calibrater.appendRatings(percents, Arrays.asList(.6d, .6d), PRECISION, RedistributionPolicy.EQUAL);
+            fail();
+        } catch (IllegalArgumentException expected) {}
+        assertEquals(102, percents.size());
+    }
+
+    /**
+     * Asserts whether only elements changed by more than the tolerance of the precision
+     * are reported as changed, and whether a series left unchanged within tolerance
+     * remains within the permitted error.
+     */
+    @Test public final void testChangedIndices() {
+
+        double[] before = { .25d, .25d, .25d, .25d };
+        double[] after = before.clone();
+        double tolerance = Calibrater.changeTolerance(after.length, PRECISION);
+        assertTrue(Calibrater.shiftRatings(after, 1, .1d, PRECISION, RedistributionPolicy.priority(2)));
+        after[3] += tolerance / 2;
+        after[0] -= tolerance;
+        assertTrue(Arrays.equals(new int[] { 1, 2 }, Calibrater.changedIndices(before, after, PRECISION)));
+        assertEquals(ERROR, tolerance * after.length, 0d);
+        assertEquals(0, Calibrater.changedIndices(after, after.clone(), PRECISION).length);
+    }
+
+    private static void assertSum(List<Double> percents) {
+        double sum = 0d;
+        for (double percent : percents) sum += percent;
+        assertEquals(1d, sum, ERROR);
+    }
+
+    /**
+     * Asserts whether shifting a group moves it by the magnitude as a unit, distributed within it
+     * and across the rest by their policies, and is limited by what the rest can yield.
+     */
+    @Test public final void testShiftGroupRatings() {
+
+        List<Double> percents = new ArrayList<>(Arrays.asList(.1d, .2d, .3d, .4d));
+        assertTrue(Calibrater.shiftGroupRatings(percents, new int[] { 0, 2 }, .2d, PRECISION,
+                RedistributionPolicy.PROPORTIONAL, RedistributionPolicy.PROPORTIONAL));
+        assertEquals(.15d, percents.get(0), ERROR);
+        assertEquals(.45d, percents.get(2), ERROR);
+        assertEquals(.2d * 2 / 3, percents.get(1), ERROR);
+        assertEquals(.4d * 2 / 3, percents.get(3), ERROR);
+
+        assertTrue(Calibrater.shiftGroupRatings(percents, 1, 4, -.3d, PRECISION,
+                RedistributionPolicy.EQUAL, RedistributionPolicy.EQUAL));
+        assertEquals(.45d, percents.get(0), ERROR);
+        double sum = 0d;
+        for (double percent : percents) sum += percent;
+        assertEquals(1d, sum, ERROR);
+
+        double[] array = { .5d, .3d, .2d };
+        assertTrue(Calibrater.shiftGroupRatings(array, new int[] { 0, 1 }, .5d, PRECISION,
+                RedistributionPolicy.priority(1), RedistributionPolicy.EQUAL));
+        assertEquals(.5d, array[1], ERROR);
+        assertEquals(0d, array[2], ERROR);
+        assertFalse(Calibrater.shiftGroupRatings(array, new int[] { 0, 1 }, .1d, PRECISION,
+                RedistributionPolicy.EQUAL, RedistributionPolicy.EQUAL));
+
+        double[] single = { .2d, .2d, .2d, .2d, .2d };
+        double[] grouped = single.clone();
+        Calibrater.shiftRatings(single, 0, .1d, PRECISION, RedistributionPolicy.priority(3));
+        assertTrue(Calibrater.shiftGroupRatings(grouped, new int[] { 0 }, .1d, PRECISION,
+                RedistributionPolicy.EQUAL, RedistributionPolicy.priority(3)));
+        assertEquals(.1d, grouped[3], ERROR); // priority addresses locations within the series
+        for (int i = 0; i < single.length; i++) assertEquals(single[i], grouped[i], ERROR);
+
+        try {
+            Calibrater.shiftGroupRatings(array, new int[] { 0, 0 }, .1d, PRECISION,
+                    RedistributionPolicy.EQUAL, RedistributionPolicy.EQUAL);
+            fail(); // duplicate member not rejected
+        } catch (IllegalArgumentException expected) {}
+    }
+
     /**
      * Asserts whether shifting a {@code List} of {@code Double} with invalid magnitudes and precisions throws
      * the expected exception.
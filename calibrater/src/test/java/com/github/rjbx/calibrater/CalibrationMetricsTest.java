@@ -0,0 +1,95 @@
+package com.github.rjbx.calibrater;
+
+import com.github.rjbx.calibrater.CalibrationMetrics.Operation;
+import com.github.rjbx.calibrater.CalibrationMetrics.Snapshot;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the {@link CalibrationMetrics} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class CalibrationMetricsTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+
+    @After public final void tearDown() { CalibrationMetrics.uninstall(); }
+
+    /**
+     * Asserts whether operations are recorded only while a recorder is installed.
+     */
+    @Test public final void testRecordsOnlyWhileInstalled() {
+
+        List<Double> percents = new ArrayList<>(Arrays.asList(.25d, .25d, .25d, .25d));
+        Calibrater.shiftRatings(percents, 0, .1d, PRECISION);
+        assertNull(CalibrationMetrics.installed());
+
+        CalibrationMetrics metrics = CalibrationMetrics.install();
+        Calibrater.shiftRatings(percents, 0, .1d, PRECISION);
+        Calibrater.shiftRatings(percents, 0, 0d, PRECISION);
+        Calibrater.recalibrateRatings(percents, false, PRECISION);
+        Calibrater.resetRatings(percents, true, PRECISION);
+        Calibrater.removeRating(percents, 3, PRECISION);
+        CalibrationMetrics.uninstall();
+        Calibrater.shiftRatings(percents, 0, .1d, PRECISION);
+
+        Snapshot snapshot = metrics.snapshot();
+        assertEquals(2, snapshot.getCount(Operation.SHIFT));
+        assertEquals(1, snapshot.getAdjustedCount(Operation.SHIFT));
+        assertEquals(2, snapshot.getCount(Operation.RECALIBRATE)); // including that of the removal
+        assertEquals(1, snapshot.getAdjustedCount(Operation.RECALIBRATE));
+        assertEquals(1, snapshot.getCount(Operation.RESET));
+        assertEquals(1, snapshot.getCount(Operation.REMOVE));
+        assertTrue(snapshot.getMaxResidual() < Math.pow(10, -PRECISION));
+        assertTrue(snapshot.getLatency(Operation.SHIFT, .5d) <= snapshot.getLatency(Operation.SHIFT, 1d));
+        assertEquals(snapshot.getCount(Operation.SHIFT), snapshot.toMap().get("shift.count"));
+
+        metrics.reset();
+        assertEquals(0, metrics.snapshot().getCount(Operation.SHIFT));
+    }
+
+    /**
+     * Asserts whether the passes and clamped elements of shifts are recorded.
+     */
+    @Test public final void testRecordsPassesAndClamped() {
+
+        CalibrationMetrics metrics = CalibrationMetrics.install();
+        double[] percents = { .97d, .01d, .01d, .01d };
+        Calibrater.shiftRatings(percents, 0, .03d, PRECISION, RedistributionPolicy.EQUAL);
+        Snapshot snapshot = metrics.snapshot();
+        assertEquals(0, snapshot.getMaxPasses()); // adjusted element became whole
+        assertEquals(4, snapshot.getMaxClamped()); // adjusted element included
+
+        Calibrater.shiftRatings(percents, 1, .5d, PRECISION, RedistributionPolicy.EQUAL);
+        snapshot = metrics.snapshot();
+        assertTrue(snapshot.getMaxPasses() > 1); // offset withdrawn from one of three elements per pass
+        assertEquals(snapshot.getMaxPasses(), snapshot.getTotalPasses());
+        assertEquals(4, snapshot.getTotalClamped());
+    }
+
+    /**
+     * Asserts whether the latency histogram bounds recorded values within its resolution.
+     */
+    @Test public final void testHistogramResolution() {
+
+        for (long value = 1L; value > 0L && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            long bound = LatencyHistogram.upperBound(LatencyHistogram.index(value));
+            assertTrue(bound >= value);
+            assertTrue(bound - value <= value / 32 + 1);
+        }
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1L; value <= 100L; value++) histogram.record(value * 1000L);
+        long median = LatencyHistogram.valueAtQuantile(histogram.copyCounts(), .5d);
+        assertEquals(50_000d, median, 50_000d / 32);
+        assertEquals(100_000L, histogram.max());
+    }
+}
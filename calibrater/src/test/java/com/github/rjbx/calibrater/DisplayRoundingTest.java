@@ -0,0 +1,108 @@
+package com.github.rjbx.calibrater;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test methods for the {@link DisplayRounding} class.
+ * Rounding is compared against a reference which sorts every element by remainder.
+ */
+public class DisplayRoundingTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+
+    /**
+     * Asserts whether rounding sums exactly to the whole and matches the sorted reference
+     * for series with many tied remainders as well as arbitrary series.
+     */
+    @Test public final void testRoundMatchesSortedReference() {
+
+        DisplayRounding rounding = DisplayRounding.withDecimals(0);
+        int[] thirds = rounding.round(new double[] { 1d / 3, 1d / 3, 1d / 3 });
+        assertArrayEquals(new int[] { 34, 33, 33 }, thirds);
+        assertEquals("34%", rounding.format(0));
+
+        Random random = new Random(1);
+        for (int decimals = 0; decimals < 3; decimals++) {
+            rounding = DisplayRounding.withDecimals(decimals);
+            for (int trial = 0; trial < 200; trial++) {
+                double[] percents = new double[1 + random.nextInt(300)];
+                double total = 0d;
+                for (int i = 0; i < percents.length; i++) {
+                    percents[i] = random.nextInt(4) == 0 ? 1d : random.nextDouble();
+                    total += percents[i];
+                }
+                for (int i = 0; i < percents.length; i++) percents[i] /= total;
+                int[] units = rounding.round(percents);
+                assertEquals(rounding.getTotal(), sum(units));
+                assertArrayEquals(reference(percents, rounding.getTotal()), units);
+            }
+        }
+        assertEquals("12.5%", formatted(.125d));
+        assertEquals("0.5%", formatted(.005d));
+    }
+
+    /**
+     * Asserts whether rounding again after shifting single elements agrees with rounding every element.
+     */
+    @Test public final void testUpdateMatchesRound() {
+
+        double[] percents = new double[97];
+        Arrays.fill(percents, 1d / 97);
+        DisplayRounding incremental = DisplayRounding.withDecimals(1);
+        DisplayRounding full = DisplayRounding.withDecimals(1);
+        incremental.round(percents);
+
+        Random random = new Random(2);
+        for (int i = 0; i < 1000; i++) {
+            int index = random.nextInt(percents.length);
+            double[] before = percents.clone();
+            Calibrater.shiftRatings(percents, 0, percents.length, index, (random.nextDouble() - .5d) * .02d,
+                    PRECISION, RedistributionPolicy.priority((index + 1) % percents.length));
+            int[] changed = changed(before, percents);
+            assertArrayEquals(full.round(percents), incremental.update(percents, changed));
+        }
+    }
+
+    private static String formatted(double percent) {
+        DisplayRounding rounding = DisplayRounding.withDecimals(1);
+        rounding.round(new double[] { percent, 1d - percent });
+        return rounding.format(0);
+    }
+
+    private static int[] changed(double[] before, double[] after) {
+        int count = 0;
+        int[] indices = new int[after.length];
+        for (int i = 0; i < after.length; i++) if (before[i] != after[i]) indices[count++] = i;
+        return Arrays.copyOf(indices, count);
+    }
+
+    private static long sum(int[] units) {
+        long sum = 0L;
+        for (int unit : units) sum += unit;
+        return sum;
+    }
+
+    private static int[] reference(double[] percents, long total) {
+        int[] units = new int[percents.length];
+        Integer[] order = new Integer[percents.length];
+        double[] remainders = new double[percents.length];
+        long floorSum = 0L;
+        for (int i = 0; i < percents.length; i++) {
+            double exact = percents[i] * total;
+            units[i] = (int) Math.floor(exact);
+            remainders[i] = exact - units[i];
+            floorSum += units[i];
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> remainders[a] != remainders[b]
+                ? Double.compare(remainders[b], remainders[a]) : Integer.compare(a, b));
+        for (int i = 0; i < total - floorSum; i++) units[order[i]]++;
+        return units;
+    }
+}
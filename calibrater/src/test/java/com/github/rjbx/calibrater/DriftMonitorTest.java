@@ -0,0 +1,66 @@
+package com.github.rjbx.calibrater;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the {@link DriftMonitor} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class DriftMonitorTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    /**
+     * Asserts whether the series remains proportionate to the whole after every random operation
+     * while recalibrating less often than once per operation.
+     */
+    @Test public final void testRandomOperationsMaintainWhole() {
+
+        RedistributionPolicy[] policies = {
+                RedistributionPolicy.EQUAL, RedistributionPolicy.PROPORTIONAL, RedistributionPolicy.priority(3, 1)
+        };
+        for (RedistributionPolicy policy : policies) {
+            Random random = new Random(34);
+            List<Double> percents = new ArrayList<>();
+            for (int i = 0; i < 200; i++) percents.add(.005d);
+            DriftMonitor monitor = DriftMonitor.attach(percents, PRECISION, policy);
+            for (int i = 0; i < 5000; i++) {
+                int index = random.nextInt(percents.size());
+                double magnitude = (random.nextDouble() - .5d) * .02d;
+                if (i % 500 == 499) monitor.removeRating(index);
+                else monitor.shiftRatings(index, magnitude);
+                double sum = 0d;
+                for (double percent : percents) sum += percent;
+                assertEquals(1d, sum, ERROR);
+                assertTrue(monitor.getEstimate() < ERROR);
+            }
+            assertTrue(monitor.getSavedRecalibrationCount() > monitor.getRecalibrationCount());
+            assertEquals(monitor.getOperationCount(),
+                    monitor.getSavedRecalibrationCount() + monitor.getRecalibrationCount());
+        }
+    }
+
+    /**
+     * Asserts whether a shift to the whole clears the estimate without recalibrating.
+     */
+    @Test public final void testWholeShiftClearsEstimate() {
+
+        List<Double> percents = new ArrayList<>();
+        for (int i = 0; i < 4; i++) percents.add(.25d);
+        DriftMonitor monitor = DriftMonitor.attach(percents, PRECISION, RedistributionPolicy.EQUAL);
+        monitor.shiftRatings(0, .1d);
+        assertTrue(monitor.getEstimate() > 0d);
+        monitor.shiftRatings(2, 1d);
+        assertEquals(0d, monitor.getEstimate(), 0d);
+        assertEquals(0, monitor.getRecalibrationCount());
+        assertEquals(2, monitor.getSavedRecalibrationCount());
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.rjbx.calibrater;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test methods for the {@link KeyedSeries} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class KeyedSeriesTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    /**
+     * Asserts whether handles continue to refer to the same elements after removals
+     * move the last element into each vacated slot, while the whole is maintained.
+     */
+    @Test public final void testHandlesSurviveRemoval() {
+
+        KeyedSeries series = KeyedSeries.of(new double[] { .1d, .2d, .3d, .4d });
+        series.shiftRatings(3, .1d, PRECISION, RedistributionPolicy.EQUAL);
+        assertEquals(.5d, series.get(3), ERROR);
+        double retained = series.get(2);
+
+        assertTrue(series.removeRating(1, PRECISION));
+        assertEquals(3, series.size());
+        assertFalse(series.contains(1));
+        assertEquals(1, series.slotOf(3)); // last element moved into the vacated slot
+        assertEquals(3, series.handleAt(1));
+        assertEquals(2, series.slotOf(2));
+        assertSum(series);
+        assertTrue(series.get(2) > retained); // share of the removed element distributed
+        assertTrue(series.get(3) > .5d);
+
+        double before = series.get(0);
+        series.shiftRatings(2, .05d, PRECISION, RedistributionPolicy.EQUAL);
+        assertTrue(series.get(0) < before);
+        assertSum(series);
+
+        series.removeRating(3, PRECISION);
+        series.removeRating(0, PRECISION);
+        assertEquals(1, series.size());
+        assertEquals(0, series.slotOf(2));
+        assertEquals(1d, series.get(2), ERROR);
+    }
+
+    /**
+     * Asserts whether a handle to a removed element is rejected rather than resolved
+     * to whichever element has since taken its slot.
+     */
+    @Test public final void testRemovedHandleRejected() {
+
+        KeyedSeries series = KeyedSeries.of(new double[] { .5d, .5d });
+        series.removeRating(0, PRECISION);
+        assertFalse(series.contains(0));
+        assertFalse(series.contains(2));
+        assertFalse(series.contains(-1));
+        try {
+            series.get(0);
+            fail();
+        } catch (IllegalArgumentException expected) {}
+        try {
+            series.removeRating(0, PRECISION);
+            fail();
+        } catch (IllegalArgumentException expected) {}
+        assertEquals(1, series.size());
+        assertEquals(1d, series.get(1), ERROR);
+    }
+
+    private static void assertSum(KeyedSeries series) {
+        double sum = 0d;
+        for (double percent : series.toArray()) sum += percent;
+        assertEquals(1d, sum, ERROR);
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.rjbx.calibrater;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the {@link MergeableSeries} class.
+ * Replicas are simulated in process, exchanging deltas in shuffled order and more than once.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class MergeableSeriesTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    /**
+     * Asserts whether replicas adjusting, inserting and removing elements while offline converge
+     * on identical series holding the whole once every delta has been merged, in whichever order.
+     */
+    @Test public final void testReplicasConverge() {
+
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 10; i++) keys.add("k" + i);
+        double[] percents = new double[10];
+        Arrays.fill(percents, .1d);
+        MergeableSeries seed = MergeableSeries.of("a", keys, percents);
+        List<MergeableSeries> replicas = new ArrayList<>(Arrays.asList(
+                seed, MergeableSeries.create("b"), MergeableSeries.create("c")));
+        for (MergeableSeries replica : replicas) replica.merge(seed.deltaSince(replica.versions()));
+
+        Random random = new Random(7);
+        for (int round = 0; round < 5; round++) {
+            for (MergeableSeries replica : replicas) { // offline edits
+                for (int i = 0; i < 20; i++) {
+                    List<String> current = replica.keys();
+                    String key = current.get(random.nextInt(current.size()));
+                    replica.shiftRatings(key, (random.nextDouble() - .5d) / 5, PRECISION,
+                            random.nextBoolean() ? RedistributionPolicy.EQUAL : RedistributionPolicy.PROPORTIONAL);
+                }
+                replica.insertRating(replica.getReplica() + round, .05d, PRECISION, RedistributionPolicy.PROPORTIONAL);
+                if (round % 2 == 1) replica.removeRating(replica.keys().get(random.nextInt(replica.size())));
+            }
+            List<MergeableSeries.Delta> deltas = new ArrayList<>();
+            for (MergeableSeries sender : replicas) for (MergeableSeries receiver : replicas) {
+                if (sender != receiver) deltas.add(sender.deltaSince(receiver.versions()));
+            }
+            deltas.addAll(deltas.subList(0, 2)); // redelivered
+            Collections.shuffle(deltas, random);
+            for (MergeableSeries.Delta delta : deltas) for (MergeableSeries replica : replicas) replica.merge(delta);
+
+            double[] expected = replicas.get(0).toArray();
+            for (MergeableSeries replica : replicas) {
+                assertEquals(replicas.get(0).keys(), replica.keys());
+                assertArrayEquals(expected, replica.toArray(), 0d);
+                assertEquals(replicas.get(0).versions(), replica.versions());
+            }
+            double sum = 0d;
+            for (double percent : expected) sum += percent;
+            assertEquals(1d, sum, ERROR);
+        }
+    }
+
+    /**
+     * Asserts whether replicas concurrently inserting an element under the same key converge
+     * on the element holding the share of a single insertion rather than their sum.
+     */
+    @Test public final void testConcurrentInsertsConverge() {
+
+        List<String> keys = Arrays.asList("k0", "k1", "k2", "k3", "k4");
+        double[] percents = { .2d, .2d, .2d, .2d, .2d };
+        MergeableSeries p = MergeableSeries.of("p", keys, percents);
+        MergeableSeries q = MergeableSeries.create("q");
+        q.merge(p.deltaSince(q.versions()));
+
+        assertTrue(p.insertRating("new", .2d, PRECISION, RedistributionPolicy.EQUAL));
+        assertTrue(q.insertRating("new", .2d, PRECISION, RedistributionPolicy.EQUAL));
+        MergeableSeries.Delta fromP = MergeableSeries.Delta.fromBytes(p.deltaSince(q.versions()).toBytes());
+        MergeableSeries.Delta fromQ = MergeableSeries.Delta.fromBytes(q.deltaSince(p.versions()).toBytes());
+        p.merge(fromQ);
+        q.merge(fromP);
+        q.merge(fromP); // redelivered
+
+        assertEquals(p.keys(), q.keys());
+        assertArrayEquals(p.toArray(), q.toArray(), 0d);
+        assertEquals(6, p.size());
+        assertEquals(.2d / .8d, p.get("new"), ERROR); // each withdrew .2 from the others, which are rescaled
+        double sum = 0d;
+        for (double percent : p.toArray()) sum += percent;
+        assertEquals(1d, sum, ERROR);
+    }
+
+    /**
+     * Asserts whether a delta holds only the contributions the receiving replica lacks,
+     * survives encoding and brings the receiving replica up to date with the sender.
+     */
+    @Test public final void testDeltaHoldsOnlyChanges() {
+
+        List<String> keys = new ArrayList<>();
+        double[] percents = new double[100];
+        for (int i = 0; i < 100; i++) { keys.add(String.format("k%03d", i)); percents[i] = .01d; }
+        MergeableSeries a = MergeableSeries.of("a", keys, percents);
+        MergeableSeries b = MergeableSeries.create("b");
+        MergeableSeries.Delta state = a.deltaSince(b.versions());
+        assertEquals(100, state.size());
+        b.merge(MergeableSeries.Delta.fromBytes(state.toBytes()));
+
+        assertTrue(a.shiftRatings("k005", .01d, PRECISION, RedistributionPolicy.priority(7)));
+        MergeableSeries.Delta delta = a.deltaSince(b.versions());
+        assertEquals(2, delta.size());
+        assertTrue(delta.toBytes().length < state.toBytes().length / 10);
+        b.merge(MergeableSeries.Delta.fromBytes(delta.toBytes()));
+        assertArrayEquals(a.toArray(), b.toArray(), 0d);
+        assertEquals(.02d, b.get("k005"), ERROR);
+        assertEquals(0, a.deltaSince(b.versions()).size());
+
+        b.removeRating("k005");
+        a.shiftRatings("k005", .01d, PRECISION, RedistributionPolicy.EQUAL); // concurrent with removal
+        a.merge(b.deltaSince(a.versions()));
+        b.merge(a.deltaSince(b.versions()));
+        assertFalse(a.contains("k005"));
+        assertArrayEquals(a.toArray(), b.toArray(), 0d);
+        assertEquals(99, b.size());
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.rjbx.calibrater;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the {@link RedistributionPolicy} implementations.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class RedistributionPolicyTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    /**
+     * Asserts whether proportional redistribution preserves the ratios between the offset elements
+     * and expends the offset in a single pass.
+     */
+    @Test public final void testProportionalPreservesRatios() {
+
+        List<Double> percents = Arrays.asList(.1d, .6d, .2d, .1d);
+        Calibrater.shiftRatings(percents, 0, .3d, PRECISION, RedistributionPolicy.PROPORTIONAL);
+        assertEquals(.4d, percents.get(0), ERROR);
+        assertEquals(3d, percents.get(1) / percents.get(2), ERROR);
+        assertEquals(2d, percents.get(2) / percents.get(3), ERROR);
+        assertSum(percents);
+
+        double[] array = TypeConverters.listDoubleToArrayDouble(percents);
+        assertEquals(1, RedistributionPolicy.PROPORTIONAL.redistribute(array, 0, array.length, 0, -.2d, PRECISION));
+        assertEquals(.4d, array[0], 0d);
+        assertEquals(.4d, array[1] + array[2] + array[3], ERROR);
+    }
+
+    /**
+     * Asserts whether proportional redistribution splits the offset equally when the remaining
+     * elements have no weight.
+     */
+    @Test public final void testProportionalFromZeroWeight() {
+
+        List<Double> percents = Arrays.asList(1d, 0d, 0d, 0d);
+        Calibrater.shiftRatings(percents, 0, -.3d, PRECISION, RedistributionPolicy.PROPORTIONAL);
+        for (int i = 1; i < percents.size(); i++) assertEquals(.1d, percents.get(i), ERROR);
+        assertSum(percents);
+    }
+
+    /**
+     * Asserts whether priority redistribution allocates to elements in the specified order.
+     */
+    @Test public final void testPriorityAllocatesInOrder() {
+
+        List<Double> percents = Arrays.asList(.25d, .25d, .25d, .25d);
+        RedistributionPolicy policy = RedistributionPolicy.priority(3, 2);
+        Calibrater.shiftRatings(percents, 0, .3d, PRECISION, policy);
+        assertEquals(.55d, percents.get(0), ERROR);
+        assertEquals(.25d, percents.get(1), ERROR);
+        assertEquals(.2d, percents.get(2), ERROR);
+        assertEquals(0d, percents.get(3), ERROR);
+
+        Calibrater.shiftRatings(percents, 0, -.5d, PRECISION, policy);
+        assertEquals(.05d, percents.get(0), ERROR);
+        assertEquals(.5d, percents.get(3), ERROR);
+        assertSum(percents);
+    }
+
+    /**
+     * Asserts whether repeated shifts through the range of possible values maintain the whole
+     * for each built-in policy.
+     */
+    @Test public final void testPoliciesMaintainWhole() {
+
+        RedistributionPolicy[] policies = {
+                RedistributionPolicy.EQUAL,
+                RedistributionPolicy.PROPORTIONAL,
+                RedistributionPolicy.priority(4, 3, 2, 1, 0)
+        };
+        for (RedistributionPolicy policy : policies) {
+            List<Double> percents = Arrays.asList(.2d, .2d, .2d, .2d, .2d);
+            int operations = 0;
+            for (double magnitude = 0.01d; magnitude < 0.1d; magnitude += 0.01d) {
+                for (int index = 0; index < percents.size(); index++) {
+                    while (percents.get(index) < 1d) {
+                        Calibrater.shiftRatings(percents, index, magnitude, PRECISION, policy);
+                        operations++;
+                    }
+                    while (percents.get(index) > .1d) {
+                        Calibrater.shiftRatings(percents, index, -magnitude, PRECISION, policy);
+                        operations++;
+                    }
+                    for (double percent : percents) assertTrue(percent >= 0d && percent <= 1d);
+                }
+            }
+            double sum = 0d;
+            for (double percent : percents) sum += percent;
+            assertEquals(1d, sum, ERROR + ERROR * operations);
+        }
+    }
+
+    /**
+     * Asserts whether equal redistribution over a {@code float} array expends only the offset
+     * surviving narrowing, even where allocations are too fine to be represented.
+     */
+    @Test public final void testEqualExpendsNarrowedOffset() {
+
+        float[] percents = new float[1000];
+        for (int i = 1; i <= 4; i++) percents[i] = .25f;
+        RedistributionPolicy.EQUAL.redistribute(percents, 0, percents.length, 0, -5e-6d, Calibrater.FLOAT_PRECISION);
+        double sum = 0d;
+        for (float percent : percents) {
+            assertTrue(percent >= 0f && percent <= 1f);
+            sum += percent;
+        }
+        assertEquals(1d - 5e-6d, sum, Math.pow(10, -Calibrater.FLOAT_PRECISION));
+    }
+
+    private static void assertSum(List<Double> percents) {
+        double sum = 0d;
+        for (double percent : percents) sum += percent;
+        assertEquals(1d, sum, ERROR);
+    }
+}
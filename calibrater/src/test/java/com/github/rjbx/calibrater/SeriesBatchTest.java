@@ -0,0 +1,96 @@
+package com.github.rjbx.calibrater;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test methods for the {@link SeriesBatch} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class SeriesBatchTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+
+    /**
+     * Asserts whether sweeping shifts across a batch yields the same values as shifting
+     * each series individually.
+     */
+    @Test public final void testShiftSweepMatchesSingleSeries() {
+
+        Random random = new Random(26);
+        List<double[]> series = randomSeries(random, 3000);
+        SeriesBatch batch = SeriesBatch.pack(series);
+        int[] indices = new int[series.size()];
+        double[] magnitudes = new double[series.size()];
+        for (int i = 0; i < series.size(); i++) {
+            indices[i] = random.nextInt(series.get(i).length);
+            magnitudes[i] = (random.nextDouble() - .5d) / 5d;
+        }
+
+        int adjusted = batch.shiftRatings(
+                indices, magnitudes, PRECISION, RedistributionPolicy.EQUAL, ForkJoinPool.commonPool());
+        int expected = 0;
+        for (int i = 0; i < series.size(); i++) {
+            if (Calibrater.shiftRatings(
+                    series.get(i), indices[i], magnitudes[i], PRECISION, RedistributionPolicy.EQUAL)) expected++;
+            assertArrayEquals(series.get(i), batch.toArray(i), 0d);
+        }
+        assertEquals(expected, adjusted);
+    }
+
+    /**
+     * Asserts whether sequential and parallel recalibration and reset sweeps
+     * yield the same values as calibrating each series individually.
+     */
+    @Test public final void testRecalibrateAndResetSweeps() {
+
+        Random random = new Random(27);
+        List<double[]> series = randomSeries(random, 5000);
+        for (double[] elements : series) elements[0] += .1d;
+        SeriesBatch sequential = SeriesBatch.pack(series);
+        SeriesBatch parallel = SeriesBatch.pack(series);
+
+        assertEquals(series.size(), sequential.recalibrateRatings(false, PRECISION, null));
+        assertEquals(series.size(), parallel.recalibrateRatings(false, PRECISION, ForkJoinPool.commonPool()));
+        for (int i = 0; i < series.size(); i++) {
+            Calibrater.recalibrateRatings(series.get(i), false, PRECISION);
+            assertArrayEquals(series.get(i), sequential.toArray(i), 0d);
+            assertArrayEquals(series.get(i), parallel.toArray(i), 0d);
+        }
+
+        int expected = 0;
+        for (double[] elements : series) if (Calibrater.resetRatings(elements, false, PRECISION)) expected++;
+        assertEquals(expected, sequential.resetRatings(false, PRECISION, null));
+        for (int i = 0; i < series.size(); i++) assertArrayEquals(series.get(i), sequential.toArray(i), 0d);
+        assertEquals(series.size(), parallel.resetRatings(true, PRECISION, ForkJoinPool.commonPool()));
+        for (int i = 0; i < series.size(); i++) {
+            assertEquals(1d / series.get(i).length, parallel.get(i, series.get(i).length - 1), 0d);
+        }
+    }
+
+    /**
+     * Asserts whether wrapping arrays with malformed offsets throws the expected exception.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testWrapWithIllegalOffsets() {
+        SeriesBatch.wrap(new double[] { .5d, .5d, 1d }, new int[] { 0, 2, 1, 3 });
+    }
+
+    private static List<double[]> randomSeries(Random random, int count) {
+        List<double[]> series = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double[] elements = new double[10 + random.nextInt(41)];
+            double sum = 0d;
+            for (int j = 0; j < elements.length; j++) sum += (elements[j] = random.nextDouble());
+            for (int j = 0; j < elements.length; j++) elements[j] /= sum;
+            series.add(elements);
+        } return series;
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.rjbx.calibrater;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test methods for the {@link SeriesVersion} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class SeriesVersionTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    /**
+     * Asserts whether a shift offset among few elements derives a version sharing every other chunk
+     * with its source, which is itself unchanged, and whether diffing visits only the changed elements.
+     */
+    @Test public final void testDerivedVersionSharesUnchangedChunks() {
+
+        int size = 5000;
+        double[] percents = new double[size];
+        Arrays.fill(percents, 1d / size);
+        SeriesVersion original = SeriesVersion.of(percents);
+        int chunks = (size + 31) / 32;
+        assertEquals(chunks, original.sharedChunks(original));
+
+        SeriesVersion shifted = original.shiftRatings(4000, 1e-4d, PRECISION, RedistributionPolicy.priority(10));
+        assertEquals(1d / size, original.get(4000), 0d);
+        assertEquals(1d / size + 1e-4d, shifted.get(4000), ERROR);
+        assertEquals(0d, shifted.get(10), ERROR);
+        assertEquals(chunks - 2, shifted.sharedChunks(original));
+        assertArrayEquals(new int[] { 10, 4000 }, shifted.diff(original));
+
+        SeriesVersion fork = original.shiftRatings(0, 1e-4d, PRECISION, RedistributionPolicy.priority(1));
+        assertArrayEquals(new int[] { 0, 1 }, fork.diff(original));
+        assertArrayEquals(new int[] { 0, 1, 10, 4000 }, fork.diff(shifted));
+        assertSame(original, original.resetRatings(false, PRECISION));
+    }
+
+    /**
+     * Asserts whether removal derives a version holding the remaining elements in order,
+     * recalibrated to the whole, and whether diffing versions of different sizes reports
+     * the locations held by only one.
+     */
+    @Test public final void testRemovalAndDiffAcrossSizes() {
+
+        double[] percents = new double[40];
+        for (int i = 0; i < percents.length; i++) percents[i] = (i + 1) / 820d;
+        SeriesVersion original = SeriesVersion.of(percents);
+        SeriesVersion removed = original.removeRating(5, PRECISION);
+
+        assertEquals(39, removed.size());
+        double[] remaining = removed.toArray();
+        double sum = 0d;
+        for (double percent : remaining) sum += percent;
+        assertEquals(1d, sum, ERROR);
+        assertEquals(remaining[4] + 2d / 820d, remaining[5], 1e-12d); // element between them removed
+        assertEquals(40, original.removeRating(5, PRECISION).diff(original).length);
+
+        SeriesVersion small = SeriesVersion.of(new double[] { .5d, .5d });
+        SeriesVersion large = SeriesVersion.of(Arrays.copyOf(new double[] { .5d, .5d }, 1100));
+        int[] changed = small.diff(large);
+        assertEquals(1098, changed.length);
+        assertEquals(2, changed[0]);
+    }
+}
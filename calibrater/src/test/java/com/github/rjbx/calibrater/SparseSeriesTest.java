@@ -0,0 +1,128 @@
+package com.github.rjbx.calibrater;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the {@link SparseSeries} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class SparseSeriesTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    /**
+     * Asserts whether the series switches between representations as its fill ratio changes.
+     */
+    @Test public final void testRepresentationSwitches() {
+
+        double[] percents = new double[1000];
+        percents[10] = .5d;
+        percents[500] = .5d;
+        SparseSeries series = SparseSeries.of(percents);
+        assertTrue(series.isSparse());
+        assertEquals(2, series.nonZeroCount());
+
+        assertTrue(series.resetRatings(true, PRECISION));
+        assertFalse(series.isSparse());
+        assertEquals(.001d, series.get(999), 0d);
+
+        assertTrue(series.shiftRatings(3, 1d, PRECISION, RedistributionPolicy.EQUAL));
+        assertTrue(series.isSparse());
+        assertEquals(1, series.nonZeroCount());
+        assertEquals(1d, series.get(3), 0d);
+    }
+
+    /**
+     * Asserts whether withdrawals from a sparse series keep it sparse and maintain the whole.
+     */
+    @Test public final void testSparseShiftMaintainsWhole() {
+
+        double[] percents = new double[4096];
+        percents[1] = .4d;
+        percents[100] = .3d;
+        percents[2000] = .3d;
+        RedistributionPolicy[] policies = {
+                RedistributionPolicy.EQUAL, RedistributionPolicy.PROPORTIONAL, RedistributionPolicy.priority(2000)
+        };
+        for (RedistributionPolicy policy : policies) {
+            SparseSeries series = SparseSeries.of(percents);
+            assertTrue(series.shiftRatings(7, .05d, PRECISION, policy));
+            assertTrue(series.shiftRatings(100, .1d, PRECISION, policy));
+            assertTrue(series.shiftRatings(1, -.02d, PRECISION, RedistributionPolicy.PROPORTIONAL));
+            assertTrue(series.isSparse());
+            assertTrue(series.nonZeroCount() <= 4);
+            assertSum(series.toArray());
+        }
+    }
+
+    /**
+     * Asserts whether random operations on a sparse series yield the values of the same
+     * operations applied by {@link Calibrater} to a dense array.
+     */
+    @Test public final void testRandomOperationsMatchDense() {
+
+        Random random = new Random(29);
+        for (int trial = 0; trial < 50; trial++) {
+            double[] dense = new double[64 + random.nextInt(64)];
+            dense[random.nextInt(dense.length)] = 1d;
+            SparseSeries series = SparseSeries.of(dense);
+            for (int operation = 0; operation < 40; operation++) {
+                int index = random.nextInt(dense.length);
+                switch (random.nextInt(8)) {
+                    case 0:
+                        Calibrater.recalibrateRatings(dense, true, PRECISION);
+                        series.recalibrateRatings(true, PRECISION);
+                        break;
+                    case 1:
+                        double[] removed = new double[dense.length - 1];
+                        System.arraycopy(dense, 0, removed, 0, index);
+                        System.arraycopy(dense, index + 1, removed, index, removed.length - index);
+                        dense = removed;
+                        Calibrater.recalibrateRatings(dense, false, PRECISION);
+                        series.removeRating(index, PRECISION);
+                        break;
+                    default:
+                        double magnitude = (random.nextDouble() - .5d) / 2d;
+                        Calibrater.shiftRatings(dense, index, magnitude, PRECISION, RedistributionPolicy.PROPORTIONAL);
+                        series.shiftRatings(index, magnitude, PRECISION, RedistributionPolicy.PROPORTIONAL);
+                }
+                assertEquals(dense.length, series.size());
+                for (int i = 0; i < dense.length; i++) assertEquals(dense[i], series.get(i), ERROR);
+            }
+        }
+    }
+
+    /**
+     * Asserts whether a sparse series withdrawing an offset by priority draws from the same
+     * elements of the series as a dense array rather than from the same stored positions.
+     */
+    @Test public final void testPriorityMatchesDense() {
+
+        double[] dense = new double[64];
+        dense[3] = .2d;
+        dense[10] = .3d;
+        dense[40] = .5d;
+        SparseSeries series = SparseSeries.of(dense);
+        assertTrue(series.isSparse());
+        RedistributionPolicy policy = RedistributionPolicy.priority(40, 1, 10);
+
+        Calibrater.shiftRatings(dense, 3, .4d, PRECISION, policy);
+        series.shiftRatings(3, .4d, PRECISION, policy);
+        assertTrue(series.isSparse());
+        assertEquals(.1d, series.get(40), ERROR);
+        for (int i = 0; i < dense.length; i++) assertEquals(dense[i], series.get(i), ERROR);
+    }
+
+    private static void assertSum(double[] percents) {
+        double sum = 0d;
+        for (double percent : percents) sum += percent;
+        assertEquals(1d, sum, ERROR);
+    }
+}
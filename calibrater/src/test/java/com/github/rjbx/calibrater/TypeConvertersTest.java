@@ -0,0 +1,72 @@
+package com.github.rjbx.calibrater;
+
+import org.junit.Test;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test methods for the {@link TypeConverters} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class TypeConvertersTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+
+    /**
+     * Asserts whether views read and write through to their backing storage
+     * and whether calibrating a view adjusts the backing storage.
+     */
+    @Test public final void testViewsWriteThrough() {
+
+        double[] array = { 0d, .25d, .25d, .25d, .25d, 0d };
+        List<Double> view = TypeConverters.viewArrayDouble(array, 1, 5);
+        assertEquals(4, view.size());
+        view.set(0, .5d);
+        assertEquals(.5d, array[1], 0d);
+        Calibrater.recalibrateRatings(view, false, PRECISION);
+        assertEquals(.1875d, array[2], 0d);
+        Calibrater.shiftRatings(view, 3, 1d, PRECISION);
+        assertArrayEquals(new double[] { 0d, 0d, 0d, 0d, 1d, 0d }, array, 0d);
+
+        DoubleBuffer buffer = DoubleBuffer.wrap(new double[] { 1d, .5d, .5d });
+        buffer.position(1);
+        List<Double> bufferView = TypeConverters.viewBufferDouble(buffer);
+        assertEquals(2, bufferView.size());
+        Calibrater.shiftRatings(bufferView, 0, .1d, PRECISION);
+        assertEquals(.6d, buffer.get(1), 0d);
+        assertEquals(.4d, buffer.get(2), Math.pow(10, -PRECISION));
+    }
+
+    /**
+     * Asserts whether exports write into sufficiently large buffers and allocate otherwise.
+     */
+    @Test public final void testExportsIntoBuffers() {
+
+        List<Double> percents = Arrays.asList(.5d, .25d, .25d);
+        for (List<Double> list : Arrays.asList(
+                percents, new LinkedList<>(percents), new ArrayList<>(percents),
+                TypeConverters.viewArrayDouble(new double[] { .5d, .25d, .25d }))) {
+            double[] doubles = new double[4];
+            assertSame(doubles, TypeConverters.listDoubleToArrayDouble(list, doubles));
+            assertArrayEquals(new double[] { .5d, .25d, .25d, 0d }, doubles, 0d);
+            assertNotSame(doubles, TypeConverters.listDoubleToArrayDouble(list, new double[2]));
+
+            float[] floats = new float[3];
+            assertSame(floats, TypeConverters.listDoubleToArrayFloat(list, floats));
+            assertArrayEquals(new float[] { .5f, .25f, .25f }, floats, 0f);
+
+            DoubleBuffer buffer = DoubleBuffer.allocate(3);
+            TypeConverters.listDoubleToBufferDouble(list, buffer);
+            assertArrayEquals(new double[] { .5d, .25d, .25d }, buffer.array(), 0d);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.rjbx.rateraid.core;
+
+import com.github.rjbx.calibrater.Calibrater;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full controller path of {@link SeriesController} as driven by view bindings,
+ * for series of values, of objects and of objects packed into a {@link RateableArray} alike,
+ * without a device or emulator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeriesControllerBenchmark {
+
+    @Param({"16", "256", "4096"})
+    public int size;
+
+    private SeriesController mValues;
+    private SeriesController mObjects;
+    private SeriesController mArray;
+    private String[] mEntries;
+    private int mIndex;
+    private boolean mIncrement;
+
+    @Setup(Level.Iteration) public void setUpSeries() {
+        List<Double> percents = new ArrayList<>(size);
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            percents.add(1d / size);
+            items.add(new Item(1d / size));
+        }
+        mValues = SeriesController.withValues(percents, Calibrater.STANDARD_MAGNITUDE, Calibrater.STANDARD_PRECISION);
+        mObjects = SeriesController.withObjects(items, Calibrater.STANDARD_MAGNITUDE, Calibrater.STANDARD_PRECISION);
+        mArray = SeriesController.withObjects(
+                RateableArray.copyOf(items), Calibrater.STANDARD_MAGNITUDE, Calibrater.STANDARD_PRECISION);
+        mEntries = new String[] { String.valueOf(2d / size), String.valueOf(.5d / size), "1%" };
+        mIndex = 0;
+        mIncrement = true;
+    }
+
+    /**
+     * Alternately increments and decrements each element in turn.
+     */
+    @Benchmark public boolean shiftValues() {
+        boolean result = mIncrement ? mValues.increment(mIndex) : mValues.decrement(mIndex);
+        advance();
+        return result;
+    }
+
+    /**
+     * Alternately increments and decrements each element in turn.
+     */
+    @Benchmark public boolean shiftObjects() {
+        boolean result = mIncrement ? mObjects.increment(mIndex) : mObjects.decrement(mIndex);
+        advance();
+        return result;
+    }
+
+    /**
+     * Alternately increments and decrements each element in turn.
+     */
+    @Benchmark public boolean shiftArray() {
+        boolean result = mIncrement ? mArray.increment(mIndex) : mArray.decrement(mIndex);
+        advance();
+        return result;
+    }
+
+    /**
+     * Commits a cycle of text entries to each element in turn.
+     */
+    @Benchmark public boolean commitValues() {
+        boolean result = mValues.commit(mIndex, mEntries[mIndex % mEntries.length]);
+        mIndex = (mIndex + 1) % size;
+        return result;
+    }
+
+    private void advance() {
+        mIncrement = !mIncrement;
+        if (mIncrement) mIndex = (mIndex + 1) % size;
+    }
+
+    private static final class Item implements Rateable<Item> {
+
+        private double mPercent;
+
+        Item(double percent) { mPercent = percent; }
+
+        @Override public void setPercent(double percent) { mPercent = percent; }
+        @Override public double getPercent() { return mPercent; }
+        @Override public Item getObject() { return this; }
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.rjbx.rateraid.core;
+
+import com.github.rjbx.calibrater.Calibrater;
+import com.github.rjbx.calibrater.TypeConverters;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * {@code List} of {@code Double} view reading and writing the percent values of a {@code List}
+ * of domain objects through a {@link SeriesAdapter}. For each adjustment, the percent values are
+ * read in bulk into an array, which is adjusted in place, and only the values changed by more than
+ * {@link Calibrater#changeTolerance(int, int)} are written back in bulk.
+ * Removing an element of the view removes the object.
+ */
+final class AdaptedList<T> extends AbstractList<Double> implements RandomAccess, PackedPercents {
+
+    private final List<T> mObjects;
+    private final SeriesAdapter<? super T> mAdapter;
+    private final int mPrecision;
+    private double[] mPercents = new double[0];
+    private double[] mLoaded = new double[0];
+
+    AdaptedList(List<T> objects, SeriesAdapter<? super T> adapter, int precision) {
+        mObjects = objects;
+        mAdapter = adapter;
+        mPrecision = precision;
+    }
+
+    @Override public Double get(int index) { return mAdapter.getPercent(mObjects.get(index)); }
+
+    @Override public Double set(int index, Double percent) {
+        T object = mObjects.get(index);
+        double previous = mAdapter.getPercent(object);
+        if (!(Math.abs(percent - previous) <= Calibrater.changeTolerance(mObjects.size(), mPrecision))) {
+            mAdapter.setPercent(object, percent);
+        }
+        return previous;
+    }
+
+    @Override public Double remove(int index) { return mAdapter.getPercent(mObjects.remove(index)); }
+
+    @Override public int size() { return mObjects.size(); }
+
+    @Override public List<Double> load() {
+        int size = mObjects.size();
+        if (mPercents.length != size) {
+            mPercents = new double[size];
+            mLoaded = new double[size];
+        }
+        mAdapter.read(mObjects, mPercents);
+        System.arraycopy(mPercents, 0, mLoaded, 0, size);
+        return TypeConverters.viewArrayDouble(mPercents);
+    }
+
+    @Override public void store() {
+        int[] changed = Calibrater.changedIndices(mLoaded, mPercents, mPrecision);
+        if (changed.length > 0) mAdapter.write(mObjects, mPercents, changed);
+    }
+}
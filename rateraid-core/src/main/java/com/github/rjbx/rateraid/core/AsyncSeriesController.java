@@ -0,0 +1,419 @@
+package com.github.rjbx.rateraid.core;
+
+import com.github.rjbx.calibrater.Calibrater;
+import com.github.rjbx.calibrater.RedistributionPolicy;
+import com.github.rjbx.rateraid.core.SeriesController.Action;
+
+import java.text.NumberFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+/**
+ * Controller applying the adjustments of a percent series off of the thread on which they are
+ * requested. Each action is calibrated on a supplied {@code Executor} against a private copy of
+ * the series, one action at a time in the order requested, and the resulting snapshot with the
+ * indices of the changed elements is delivered on a second {@code Executor}, typically posting to
+ * the main thread, where it is written through to the series.
+ * All methods other than those of the calibrating {@code Executor} are to be called on the
+ * delivering thread. While an action is in flight, {@link #getPercent(int)} reports the
+ * optimistic value of the element it targets, which settles once its result is delivered, and
+ * indexes the series as of all requests, omitting the elements of which the removal is in flight.
+ */
+public final class AsyncSeriesController {
+
+    /**
+     * Callback invoked on the delivering thread with the result of each action.
+     */
+    public interface Callback {
+        void onResult(Result result);
+    }
+
+    /**
+     * Outcome of an action calibrated off of the delivering thread.
+     */
+    public static final class Result {
+
+        private final Action mAction;
+        private final int mIndex;
+        private final boolean mAdjusted;
+        private final double[] mPercents;
+        private final int[] mChanged;
+
+        private Result(Action action, int index, boolean adjusted, double[] percents, int[] changed) {
+            mAction = action;
+            mIndex = index;
+            mAdjusted = adjusted;
+            mPercents = percents;
+            mChanged = changed;
+        }
+
+        /**
+         * Retrieve the action applied.
+         * @return {@link Action}
+         */
+        public Action getAction() { return mAction; }
+
+        /**
+         * Retrieve the location of the element targeted by the action.
+         * @return index of the element, or -1 if the action targeted a group
+         */
+        public int getIndex() { return mIndex; }
+
+        /**
+         * Reports whether the action adjusted or replaced any value.
+         * @return true if values were adjusted; false otherwise
+         */
+        public boolean isAdjusted() { return mAdjusted; }
+
+        /**
+         * Retrieve the snapshot of the series following the action, which is not to be modified.
+         * @return {@code double} array
+         */
+        public double[] getPercents() { return mPercents; }
+
+        /**
+         * Retrieve the locations of the elements changed by the action in ascending order;
+         * following a removal, all remaining elements.
+         * @return {@code int} array of indices
+         */
+        public int[] getChangedIndices() { return mChanged; }
+    }
+
+    private final List<Double> mPercents; // touched only on the delivering thread
+    private final List<Double> mWorking; // touched only by the calibrating executor
+    private final SeriesController mWorker;
+    private final Executor mSerial;
+    private final Executor mDelivery;
+    private final double mMagnitude;
+    private final List<Slot> mSlots; // parallel to mPercents, null where no action has been requested
+    private int mRemoving;
+    private int mPending;
+    private Callback mCallback;
+
+    /**
+     * Initialize the instance fields of this class from the static accessors.
+     * @param percents {@code List} of {@code Double} elements updated on delivery
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param executor executor on which to calibrate
+     * @param delivery executor on which to deliver results
+     */
+    private AsyncSeriesController(List<Double> percents,
+            double magnitude, int precision, Executor executor, Executor delivery) {
+        Calibrater.recalibrateRatings(percents, false, precision);
+        mPercents = percents;
+        mSlots = new ArrayList<>(Collections.<Slot>nCopies(percents.size(), null));
+        mWorking = new ArrayList<>(percents);
+        mWorker = SeriesController.withValues(mWorking, magnitude, precision);
+        mMagnitude = magnitude;
+        mSerial = new SerialExecutor(executor);
+        mDelivery = delivery;
+    }
+
+    /**
+     * Initialize the controller for a {@code List} of {@code Double}.
+     * @param percents {@code List} of {@code Double} elements, updated only on the delivering thread
+     * @param magnitude amount of the adjustment; non-zero value should be between 1 and -1
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param executor executor on which to calibrate, which may run actions of other series concurrently
+     * @param delivery executor on which to deliver results, typically posting to the main thread
+     * @return {@link AsyncSeriesController} adjusting the specified elements on delivery
+     */
+    public static AsyncSeriesController withValues(List<Double> percents,
+            double magnitude, int precision, Executor executor, Executor delivery) {
+        return new AsyncSeriesController(percents, magnitude, precision, executor, delivery);
+    }
+
+    /**
+     * Initialize the controller for a {@code List} of {@link Rateable}. The percent values of
+     * a {@link RateableArray} are written to its array rather than through each element, and those of
+     * a {@link SeriesSnapshot#toList(SeriesSnapshot.Codec)} without restoring its elements.
+     * @param objects {@code List} of {@link Rateable} elements, updated only on the delivering thread
+     * @param magnitude amount of the adjustment; non-zero value should be between 1 and -1
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param executor executor on which to calibrate, which may run actions of other series concurrently
+     * @param delivery executor on which to deliver results, typically posting to the main thread
+     * @return {@link AsyncSeriesController} adjusting the percent values of the specified objects on delivery
+     */
+    public static <T extends Rateable> AsyncSeriesController withObjects(List<T> objects,
+            double magnitude, int precision, Executor executor, Executor delivery) {
+        List<Double> percents = objects instanceof RateableArray ? ((RateableArray<?>) objects).percents()
+                : objects instanceof SeriesSnapshot.HydratingList ? ((SeriesSnapshot.HydratingList<?>) objects).percents()
+                : new RateableList(objects, precision);
+        return new AsyncSeriesController(percents, magnitude, precision, executor, delivery);
+    }
+
+    /**
+     * Initialize the controller for a {@code List} of objects of a {@link Rated} class,
+     * of which the percent values are read and written through the {@link SeriesAdapter}
+     * generated for the class.
+     * @param objects {@code List} of domain objects, updated only on the delivering thread
+     * @param adapter accessor of the percent values of the objects
+     * @param magnitude amount of the adjustment; non-zero value should be between 1 and -1
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param executor executor on which to calibrate, which may run actions of other series concurrently
+     * @param delivery executor on which to deliver results, typically posting to the main thread
+     * @return {@link AsyncSeriesController} adjusting the percent values of the specified objects on delivery
+     */
+    public static <T> AsyncSeriesController withObjects(List<T> objects, SeriesAdapter<? super T> adapter,
+            double magnitude, int precision, Executor executor, Executor delivery) {
+        return new AsyncSeriesController(
+                new AdaptedList<>(objects, adapter, precision), magnitude, precision, executor, delivery);
+    }
+
+    /**
+     * Define the strategy by which adjustments to an element of the percent series
+     * are offset among the other elements; applies to actions requested thereafter.
+     * @param policy strategy for distributing the offset; {@link RedistributionPolicy#EQUAL} by default
+     * @return {@link AsyncSeriesController} from which to chain method calls
+     */
+    public AsyncSeriesController withPolicy(RedistributionPolicy policy) {
+        mSerial.execute(() -> mWorker.withPolicy(policy));
+        return this;
+    }
+
+    /**
+     * Define the behavior to be applied on delivery of each result.
+     * @param callback callback to be invoked on the delivering thread, or null for none
+     * @return {@link AsyncSeriesController} from which to chain method calls
+     */
+    public AsyncSeriesController withCallback(Callback callback) {
+        mCallback = callback;
+        return this;
+    }
+
+    /**
+     * Retrieve the percent values as of the last delivered result.
+     * @return {@code List} of {@code Double}
+     */
+    public List<Double> getPercents() { return mPercents; }
+
+    /**
+     * Retrieve the value to display for the specified element: the optimistic value
+     * of the latest action in flight targeting the element, if any, and otherwise its value
+     * as of the last delivered result. Locations are interpreted against the series as of all
+     * requests, as are those of the requests themselves.
+     * @param index location of the value
+     * @return percent value
+     */
+    public double getPercent(int index) {
+        int location = locate(index);
+        Slot slot = mSlots.get(location);
+        return slot != null && slot.mOptimistic != null ? slot.mOptimistic : mPercents.get(location);
+    }
+
+    /**
+     * Reports whether any action is yet to be delivered.
+     * @return true if actions are in flight; false otherwise
+     */
+    public boolean isPending() { return mPending > 0; }
+
+    /**
+     * Requests that the specified element of the percent series be incremented by the magnitude of the series.
+     * @param index location of the value to be adjusted
+     */
+    public void increment(int index) {
+        Slot slot = track(index, Math.min(1d, getPercent(index) + mMagnitude));
+        submit(Action.INCREMENT, index, slot, controller -> controller.increment(index));
+    }
+
+    /**
+     * Requests that the specified element of the percent series be decremented by the magnitude of the series.
+     * @param index location of the value to be adjusted
+     */
+    public void decrement(int index) {
+        Slot slot = track(index, Math.max(0d, getPercent(index) - mMagnitude));
+        submit(Action.DECREMENT, index, slot, controller -> controller.decrement(index));
+    }
+
+    /**
+     * Requests that the specified group of elements of the percent series be incremented together
+     * by the magnitude of the series. No optimistic value is reported for the group, of which the
+     * result is delivered with an index of -1.
+     * @param within strategy for distributing the magnitude among the group
+     * @param indices distinct locations of the values to be adjusted
+     */
+    public void incrementGroup(RedistributionPolicy within, int... indices) {
+        int[] group = indices.clone();
+        mPending++;
+        submit(Action.INCREMENT, -1, null, controller -> controller.incrementGroup(within, group));
+    }
+
+    /**
+     * Requests that the specified group of elements of the percent series be decremented together
+     * by the magnitude of the series. No optimistic value is reported for the group, of which the
+     * result is delivered with an index of -1.
+     * @param within strategy for distributing the magnitude among the group
+     * @param indices distinct locations of the values to be adjusted
+     */
+    public void decrementGroup(RedistributionPolicy within, int... indices) {
+        int[] group = indices.clone();
+        mPending++;
+        submit(Action.DECREMENT, -1, null, controller -> controller.decrementGroup(within, group));
+    }
+
+    /**
+     * Requests that the specified element of the percent series be removed and the whole distributed
+     * among the remaining elements. Indices of subsequent requests are interpreted against the series
+     * as of all prior requests, as though each had already been applied.
+     * @param index location of the value to be removed
+     */
+    public void remove(int index) {
+        Slot slot = slot(index);
+        slot.mRemoved = true;
+        mRemoving++;
+        mPending++;
+        submit(Action.REMOVE, index, slot, controller -> controller.remove(index));
+    }
+
+    /**
+     * Requests that the specified element of the percent series be replaced by text entry,
+     * which is read as a percent if containing a percent sign and as a fraction of the whole otherwise.
+     * @param index location of the value to be replaced
+     * @param text entry to replace the value
+     * @return true if the entry was requested; false if empty or not between 0 and 1
+     * @throws NumberFormatException if the entry cannot be read as a number
+     */
+    public boolean commit(int index, String text) {
+        double percent = SeriesController.parse(text);
+        if (!(percent >= 0d && percent <= 1d)) return false; // empty or outside of the whole
+        Slot slot = track(index, percent);
+        submit(Action.COMMIT, index, slot, controller -> controller.commit(index, text));
+        return true;
+    }
+
+    /**
+     * Formats the value to display for the specified element as a percent.
+     * @param index location of the value to be formatted
+     * @return formatted value for display in place of an entry
+     */
+    public String format(int index) { return NumberFormat.getPercentInstance().format(getPercent(index)); }
+
+    private Slot track(int index, double optimistic) {
+        Slot slot = slot(index);
+        slot.mOptimistic = optimistic;
+        slot.mInFlight++;
+        mPending++;
+        return slot;
+    }
+
+    private Slot slot(int index) {
+        int location = locate(index);
+        Slot slot = mSlots.get(location);
+        if (slot == null) mSlots.set(location, slot = new Slot());
+        return slot;
+    }
+
+    /*
+     * Converts the location of an element in the series as of all requests to its location
+     * in the series as of the last delivered result, passing over the elements being removed
+     */
+    private int locate(int index) {
+        if (mRemoving == 0) return index;
+        for (int i = 0, remaining = index; i < mSlots.size(); i++) {
+            Slot slot = mSlots.get(i);
+            if ((slot == null || !slot.mRemoved) && remaining-- == 0) return i;
+        }
+        throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    private void submit(Action action, int index, Slot slot, Task task) {
+        mSerial.execute(() -> {
+            double[] before = toArray(mWorking);
+            boolean adjusted = false;
+            RuntimeException failure = null;
+            try {
+                adjusted = task.apply(mWorker);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            double[] after = toArray(mWorking);
+            Result result = new Result(action, index, adjusted, after, changed(before, after));
+            RuntimeException error = failure;
+            mDelivery.execute(() -> deliver(result, slot, error));
+        });
+    }
+
+    /*
+     * Writes the result through to the series on the delivering thread and settles the optimistic
+     * value of its element; a failure is rethrown as it would have been by a synchronous action
+     */
+    private void deliver(Result result, Slot slot, RuntimeException failure) {
+        mPending--;
+        if (result.mAction == Action.REMOVE) {
+            mRemoving--;
+            slot.mRemoved = false;
+            if (result.mPercents.length < mPercents.size()) {
+                mPercents.remove(result.mIndex);
+                mSlots.remove(result.mIndex);
+            }
+        } else if (slot != null && --slot.mInFlight == 0) slot.mOptimistic = null;
+        for (int index : result.mChanged) mPercents.set(index, result.mPercents[index]);
+        if (failure != null) throw failure;
+        if (mCallback != null) mCallback.onResult(result);
+    }
+
+    private static double[] toArray(List<Double> percents) {
+        double[] array = new double[percents.size()];
+        for (int i = 0; i < array.length; i++) array[i] = percents.get(i);
+        return array;
+    }
+
+    private static int[] changed(double[] before, double[] after) {
+        int[] changed = new int[after.length];
+        int count = 0;
+        boolean removed = after.length != before.length;
+        for (int i = 0; i < after.length; i++) if (removed || after[i] != before[i]) changed[count++] = i;
+        return count == changed.length ? changed : Arrays.copyOf(changed, count);
+    }
+
+    /**
+     * State of an element of the series awaiting delivery of the actions requested for it,
+     * which follows the element as removals shift its location.
+     */
+    private static final class Slot {
+        Double mOptimistic; // value of the latest action in flight
+        int mInFlight;
+        boolean mRemoved;
+    }
+
+    /**
+     * Action applied to the private copy of the series.
+     */
+    private interface Task {
+        boolean apply(SeriesController controller);
+    }
+
+    /**
+     * {@code Executor} running the submitted tasks one at a time in order of submission
+     * on the underlying {@code Executor}, which need not be single-threaded.
+     */
+    private static final class SerialExecutor implements Executor {
+
+        private final Queue<Runnable> mTasks = new ArrayDeque<>();
+        private final Executor mExecutor;
+        private Runnable mActive;
+
+        SerialExecutor(Executor executor) { mExecutor = executor; }
+
+        @Override public synchronized void execute(Runnable task) {
+            mTasks.add(() -> {
+                try {
+                    task.run();
+                } finally {
+                    next();
+                }
+            });
+            if (mActive == null) next();
+        }
+
+        private synchronized void next() {
+            if ((mActive = mTasks.poll()) != null) mExecutor.execute(mActive);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.rjbx.rateraid.core;
+
+import com.github.rjbx.calibrater.CalibrationMetrics.Operation;
+import com.github.rjbx.calibrater.CalibrationObservers;
+import com.github.rjbx.calibrater.KeyedSeries;
+import com.github.rjbx.calibrater.RedistributionPolicy;
+import com.github.rjbx.rateraid.core.SeriesController.Action;
+import com.github.rjbx.rateraid.core.SeriesController.Listener;
+
+import java.text.NumberFormat;
+
+/**
+ * Controller applying the adjustments of a {@link KeyedSeries} independently of any view.
+ * Each action addresses its element by handle rather than by position, so that controllers
+ * bound to the remaining elements continue to target the same elements after a removal
+ * and need not be rebound. Listeners receive the handle in place of the index.
+ */
+public final class KeyedController {
+
+    private final KeyedSeries mSeries;
+    private final double mMagnitude;
+    private final int mPrecision;
+    private RedistributionPolicy mPolicy = RedistributionPolicy.EQUAL;
+    private Listener mListener;
+
+    /**
+     * Initialize the instance fields of this class from the static accessor.
+     * @param series {@link KeyedSeries} to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     */
+    private KeyedController(KeyedSeries series, double magnitude, int precision) {
+        mSeries = series;
+        mMagnitude = magnitude;
+        mPrecision = precision;
+        mSeries.recalibrateRatings(false, precision);
+    }
+
+    /**
+     * Initialize the controller for a {@code double} array, with the handle of each element
+     * equal to its index within the array.
+     * @param percents {@code double} array elements, which are copied
+     * @param magnitude amount of the adjustment; non-zero value should be between 1 and -1
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return {@link KeyedController} adjusting a {@link KeyedSeries} of the specified elements
+     */
+    public static KeyedController withValues(double[] percents, double magnitude, int precision) {
+        return new KeyedController(KeyedSeries.of(percents), magnitude, precision);
+    }
+
+    /**
+     * Define the strategy by which adjustments to an element of the percent series
+     * are offset among the other elements.
+     * @param policy strategy for distributing the offset; {@link RedistributionPolicy#EQUAL} by default
+     * @return {@link KeyedController} from which to chain method calls
+     */
+    public KeyedController withPolicy(RedistributionPolicy policy) {
+        mPolicy = policy;
+        return this;
+    }
+
+    /**
+     * Define the behavior to be applied following all actions.
+     * @param listener callback to be invoked with the handle following each action, or null for none
+     * @return {@link KeyedController} from which to chain method calls
+     */
+    public KeyedController withListener(Listener listener) {
+        mListener = listener;
+        return this;
+    }
+
+    /**
+     * Retrieve the series adjusted by the controller.
+     * @return {@link KeyedSeries}
+     */
+    public KeyedSeries getSeries() { return mSeries; }
+
+    /**
+     * Increments the element referred to by the handle by the magnitude of the series.
+     * @param handle handle of the value to be adjusted
+     * @return true if percent was adjusted and false otherwise
+     */
+    public boolean increment(int handle) {
+        boolean result = mSeries.shiftRatings(handle, mMagnitude, mPrecision, mPolicy);
+        if (mListener != null) mListener.onAction(Action.INCREMENT, handle);
+        return result;
+    }
+
+    /**
+     * Decrements the element referred to by the handle by the magnitude of the series.
+     * @param handle handle of the value to be adjusted
+     * @return true if percent was adjusted and false otherwise
+     */
+    public boolean decrement(int handle) {
+        boolean result = mSeries.shiftRatings(handle, -mMagnitude, mPrecision, mPolicy);
+        if (mListener != null) mListener.onAction(Action.DECREMENT, handle);
+        return result;
+    }
+
+    /**
+     * Removes the element referred to by the handle and distributes the whole
+     * among the remaining elements, whose handles are unaffected.
+     * @param handle handle of the value to be removed
+     * @return true if values were adjusted; false otherwise
+     */
+    public boolean remove(int handle) {
+        boolean observed = CalibrationObservers.isActive();
+        long start = observed ? System.nanoTime() : 0L;
+        boolean result = mSeries.removeRating(handle, mPrecision);
+        if (observed) CalibrationObservers.report(Operation.REMOVE, mSeries.size(), handle, 0d, result, start);
+        if (mListener != null) mListener.onAction(Action.REMOVE, handle);
+        return result;
+    }
+
+    /**
+     * Replaces the element referred to by the handle by text entry, which is read
+     * as a percent if containing a percent sign and as a fraction of the whole otherwise.
+     * @param handle handle of the value to be replaced
+     * @param text entry to replace the value
+     * @return true if the entry was applied; false if empty or not between 0 and 1
+     * @throws NumberFormatException if the entry cannot be read as a number
+     */
+    public boolean commit(int handle, String text) {
+        double percent = SeriesController.parse(text);
+        if (!(percent >= 0d && percent <= 1d)) return false; // empty or outside of the whole
+        double magnitude = percent - mSeries.get(handle);
+        boolean observed = CalibrationObservers.isActive();
+        long start = observed ? System.nanoTime() : 0L;
+        boolean adjusted = mSeries.shiftRatings(handle, magnitude, mPrecision, mPolicy);
+        if (observed) CalibrationObservers.report(
+                Operation.COMMIT, mSeries.size(), handle, magnitude, adjusted, start);
+        if (mListener != null) mListener.onAction(Action.COMMIT, handle);
+        return true;
+    }
+
+    /**
+     * Formats the element referred to by the handle as a percent.
+     * @param handle handle of the value to be formatted
+     * @return formatted value for display in place of an entry
+     */
+    public String format(int handle) { return NumberFormat.getPercentInstance().format(mSeries.get(handle)); }
+}
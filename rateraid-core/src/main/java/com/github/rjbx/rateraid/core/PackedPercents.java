@@ -0,0 +1,21 @@
+package com.github.rjbx.rateraid.core;
+
+import java.util.List;
+
+/**
+ * Percent values of a series of objects held in a {@code double} array for the duration
+ * of each adjustment, so that {@link com.github.rjbx.calibrater.Calibrater} adjusts the array in place.
+ */
+interface PackedPercents {
+
+    /**
+     * Retrieve the percent values ahead of an adjustment.
+     * @return view over the array holding the percent values
+     */
+    List<Double> load();
+
+    /**
+     * Applies the adjustment of the array to the objects.
+     */
+    void store();
+}
@@ -0,0 +1,16 @@
+package com.github.rjbx.rateraid.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the field holding the percent value of a {@link Rated} class, which must be
+ * a non-private, non-static and non-final {@code double} or {@code float}.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Percent {}
@@ -0,0 +1,12 @@
+package com.github.rjbx.rateraid.core;
+
+/**
+ * Wrapper interface for an object associated with a percent value.
+ * @param <T> to specify the type of the implementing class for generating appropriately cast
+ *            objects from {@link #getObject()}
+ */
+public interface Rateable<T> {
+    void setPercent(double percent);
+    double getPercent();
+    T getObject();
+}
@@ -0,0 +1,184 @@
+package com.github.rjbx.rateraid.core;
+
+import com.github.rjbx.calibrater.TypeConverters;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * {@code List} of {@link Rateable} of which the percent values are held in a single {@code double}
+ * array owned by the list rather than by each object. Each element is a lightweight handle holding
+ * its index within the array and the domain object returned by {@link Rateable#getObject()}, so that
+ * a {@link SeriesController} for the list calibrates the array in place rather than reaching each
+ * percent value through the interface on objects scattered across the heap.
+ * Removing an element detaches its handle, which retains the percent value held at removal.
+ * @param <T> type of the domain objects
+ */
+public final class RateableArray<T> extends AbstractList<Rateable<T>> implements RandomAccess {
+
+    private double[] mPercents;
+    private Handle<T>[] mHandles;
+    private int mSize;
+
+    @SuppressWarnings("unchecked")
+    private RateableArray(int capacity) {
+        mPercents = new double[Math.max(capacity, 8)];
+        mHandles = (Handle<T>[]) new Handle<?>[mPercents.length];
+    }
+
+    /**
+     * Generates a {@link RateableArray} of the domain objects holding the percent values at the same locations.
+     * @param objects {@code List} of domain objects
+     * @param percents {@code double} array elements, which are copied
+     * @return {@link RateableArray} of handles for the domain objects
+     */
+    public static <T> RateableArray<T> of(List<? extends T> objects, double[] percents) {
+        if (objects.size() != percents.length) throw new IllegalArgumentException("Parameter value is out of bounds");
+        RateableArray<T> array = new RateableArray<>(percents.length);
+        for (int i = 0; i < percents.length; i++) array.insert(i, objects.get(i), percents[i]);
+        return array;
+    }
+
+    /**
+     * Generates a {@link RateableArray} copying the percent values and domain objects of each {@link Rateable}.
+     * @param rateables {@code List} of {@link Rateable} elements, which are not modified thereafter
+     * @return {@link RateableArray} of handles for the domain objects
+     */
+    public static <T> RateableArray<T> copyOf(List<? extends Rateable<? extends T>> rateables) {
+        RateableArray<T> array = new RateableArray<>(rateables.size());
+        for (int i = 0; i < rateables.size(); i++) {
+            Rateable<? extends T> rateable = rateables.get(i);
+            array.insert(i, rateable.getObject(), rateable.getPercent());
+        }
+        return array;
+    }
+
+    @Override public Rateable<T> get(int index) { return mHandles[checkIndex(index)]; }
+
+    @Override public int size() { return mSize; }
+
+    /**
+     * Inserts a handle for the domain object of the {@link Rateable}, holding its percent value,
+     * without adjusting the other elements.
+     */
+    @Override public void add(int index, Rateable<T> rateable) {
+        if (index < 0 || index > mSize) throw new IndexOutOfBoundsException();
+        insert(index, rateable.getObject(), rateable.getPercent());
+    }
+
+    /**
+     * Removes the element without adjusting the other elements, detaching its handle.
+     */
+    @Override public Rateable<T> remove(int index) {
+        Handle<T> handle = mHandles[checkIndex(index)];
+        handle.mPercent = mPercents[index];
+        handle.mArray = null;
+        System.arraycopy(mPercents, index + 1, mPercents, index, mSize - index - 1);
+        System.arraycopy(mHandles, index + 1, mHandles, index, mSize - index - 1);
+        mHandles[--mSize] = null;
+        for (int i = index; i < mSize; i++) mHandles[i].mIndex = i;
+        modCount++;
+        return handle;
+    }
+
+    /**
+     * Retrieve the percent value of the specified element.
+     * @param index location of the element
+     * @return percent value
+     */
+    public double getPercent(int index) { return mPercents[checkIndex(index)]; }
+
+    /**
+     * Retrieve the domain object of the specified element.
+     * @param index location of the element
+     * @return domain object
+     */
+    public T getObject(int index) { return mHandles[checkIndex(index)].mObject; }
+
+    /**
+     * Retrieve a copy of the percent values.
+     * @return {@code double} array
+     */
+    public double[] getPercents() { return Arrays.copyOf(mPercents, mSize); }
+
+    /*
+     * Returns the array for adjustment in place through a view over its current size
+     */
+    PackedPercents packed() {
+        return new PackedPercents() {
+            @Override public List<Double> load() { return TypeConverters.viewArrayDouble(mPercents, 0, mSize); }
+            @Override public void store() {}
+        };
+    }
+
+    /*
+     * Returns a view over the array which removes the element along with its handle
+     */
+    List<Double> percents() { return new Percents(); }
+
+    private void insert(int index, T object, double percent) {
+        if (mSize == mPercents.length) {
+            mPercents = Arrays.copyOf(mPercents, mSize * 2);
+            mHandles = Arrays.copyOf(mHandles, mSize * 2);
+        }
+        System.arraycopy(mPercents, index, mPercents, index + 1, mSize - index);
+        System.arraycopy(mHandles, index, mHandles, index + 1, mSize - index);
+        mPercents[index] = percent;
+        mHandles[index] = new Handle<>(this, object);
+        mSize++;
+        for (int i = index; i < mSize; i++) mHandles[i].mIndex = i;
+        modCount++;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= mSize) throw new IndexOutOfBoundsException();
+        return index;
+    }
+
+    /**
+     * {@link Rateable} reading and writing its percent value at its index within the array,
+     * or its retained percent value once removed.
+     */
+    private static final class Handle<T> implements Rateable<T> {
+
+        RateableArray<T> mArray;
+        int mIndex;
+        double mPercent;
+        final T mObject;
+
+        Handle(RateableArray<T> array, T object) {
+            mArray = array;
+            mObject = object;
+        }
+
+        @Override public void setPercent(double percent) {
+            if (mArray != null) mArray.mPercents[mIndex] = percent;
+            else mPercent = percent;
+        }
+
+        @Override public double getPercent() { return mArray != null ? mArray.mPercents[mIndex] : mPercent; }
+
+        @Override public T getObject() { return mObject; }
+    }
+
+    /**
+     * {@code List} of {@code Double} reading and writing through to the array,
+     * of which removing an element removes the element of the {@link RateableArray}.
+     */
+    private final class Percents extends AbstractList<Double> implements RandomAccess {
+
+        @Override public Double get(int index) { return mPercents[checkIndex(index)]; }
+
+        @Override public Double set(int index, Double percent) {
+            double previous = mPercents[checkIndex(index)];
+            mPercents[index] = percent;
+            return previous;
+        }
+
+        @Override public Double remove(int index) { return RateableArray.this.remove(index).getPercent(); }
+
+        @Override public int size() { return mSize; }
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.rjbx.rateraid.core;
+
+import com.github.rjbx.calibrater.Calibrater;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * {@code List} of {@code Double} view reading and writing the percent values
+ * of a {@code List} of {@link Rateable}, so that the objects can be calibrated in place.
+ * Removing an element of the view removes the object. Writing a value within
+ * {@link Calibrater#changeTolerance(int, int)} of the percent value of the object
+ * leaves the object untouched, as setting its percent value may notify or persist.
+ */
+final class RateableList extends AbstractList<Double> implements RandomAccess {
+
+    private final List<? extends Rateable> mObjects;
+    private final int mPrecision;
+
+    RateableList(List<? extends Rateable> objects, int precision) {
+        mObjects = objects;
+        mPrecision = precision;
+    }
+
+    @Override public Double get(int index) { return mObjects.get(index).getPercent(); }
+
+    @Override public Double set(int index, Double percent) {
+        Rateable object = mObjects.get(index);
+        double previous = object.getPercent();
+        if (!(Math.abs(percent - previous) <= Calibrater.changeTolerance(mObjects.size(), mPrecision))) {
+            object.setPercent(percent);
+        }
+        return previous;
+    }
+
+    @Override public Double remove(int index) { return mObjects.remove(index).getPercent(); }
+
+    @Override public int size() { return mObjects.size(); }
+}
@@ -0,0 +1,19 @@
+package com.github.rjbx.rateraid.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a domain class for which the rateraid-processor generates a {@link SeriesAdapter}
+ * reading and writing its {@link Percent} field directly, so that the class need not implement
+ * {@link Rateable}. The adapter is generated into the package of the class and named for the class
+ * followed by {@code SeriesAdapter}, joining the names of enclosing classes with underscores;
+ * its single instance is held by its {@code INSTANCE} field.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface Rated {}
@@ -0,0 +1,41 @@
+package com.github.rjbx.rateraid.core;
+
+import java.util.List;
+
+/**
+ * Accessor of the percent values of a domain class, generated for a {@link Rated} class so that
+ * a series of its objects is read and written in bulk through direct field access rather than
+ * through {@link Rateable} on each object.
+ * @param <T> type of the domain objects
+ */
+public interface SeriesAdapter<T> {
+
+    /**
+     * Retrieve the percent value of the object.
+     * @param object domain object
+     * @return percent value
+     */
+    double getPercent(T object);
+
+    /**
+     * Assign the percent value of the object.
+     * @param object domain object
+     * @param percent percent value
+     */
+    void setPercent(T object, double percent);
+
+    /**
+     * Reads the percent value of each object into the array.
+     * @param objects {@code List} of domain objects
+     * @param percents {@code double} array of no fewer elements than objects
+     */
+    void read(List<? extends T> objects, double[] percents);
+
+    /**
+     * Writes the specified elements of the array to the percent values of the objects at the same locations.
+     * @param objects {@code List} of domain objects
+     * @param percents {@code double} array elements
+     * @param indices locations of the elements to be written
+     */
+    void write(List<? extends T> objects, double[] percents, int[] indices);
+}
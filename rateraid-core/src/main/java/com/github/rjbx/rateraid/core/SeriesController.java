@@ -0,0 +1,260 @@
+package com.github.rjbx.rateraid.core;
+
+import com.github.rjbx.calibrater.CalibrationMetrics.Operation;
+import com.github.rjbx.calibrater.CalibrationObservers;
+import com.github.rjbx.calibrater.Calibrater;
+import com.github.rjbx.calibrater.RedistributionPolicy;
+
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.List;
+
+/**
+ * Controller applying the adjustments of a percent series independently of any view.
+ * Each action corresponds to a controller which a view binding attaches to the series:
+ * increment and decrement by the magnitude of the series, removal of an element
+ * and replacement of an element by text entry.
+ * Adjustments automatically update all values in the series as needed to maintain that
+ * their sum remain proportionate to the whole within range of the specified precision.
+ */
+public final class SeriesController {
+
+    /**
+     * Actions applied to the percent series through the controller.
+     */
+    public enum Action { INCREMENT, DECREMENT, REMOVE, COMMIT }
+
+    /**
+     * Callback invoked following each action applied through the controller.
+     */
+    public interface Listener {
+        void onAction(Action action, int index);
+    }
+
+    private final List<Double> mPercents;
+    private final PackedPercents mPacked; // percents calibrated within an array, if any
+    private final double mMagnitude;
+    private final int mPrecision;
+    private RedistributionPolicy mPolicy = RedistributionPolicy.EQUAL;
+    private Listener mListener;
+
+    /**
+     * Initialize the instance fields of this class from the static accessors.
+     * @param percents {@code List} of {@code Double} elements
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     */
+    private SeriesController(List<Double> percents, double magnitude, int precision) {
+        this(percents, null, magnitude, precision);
+    }
+
+    /**
+     * Initialize the instance fields of this class from the static accessors.
+     * @param percents {@code List} of {@code Double} elements
+     * @param packed array holding the elements during each adjustment, or null if none
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     */
+    private SeriesController(List<Double> percents, PackedPercents packed, double magnitude, int precision) {
+        mPercents = percents;
+        mPacked = packed;
+        mMagnitude = magnitude;
+        mPrecision = precision;
+        Calibrater.recalibrateRatings(load(), false, precision);
+        store();
+    }
+
+    /**
+     * Initialize the controller for a {@code List} of {@code Double}.
+     * @param percents {@code List} of {@code Double} elements
+     * @param magnitude amount of the adjustment; non-zero value should be between 1 and -1
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return {@link SeriesController} adjusting the specified elements in place
+     */
+    public static SeriesController withValues(List<Double> percents, double magnitude, int precision) {
+        return new SeriesController(percents, magnitude, precision);
+    }
+
+    /**
+     * Initialize the controller for a {@code List} of {@link Rateable}. The percent values of
+     * a {@link RateableArray} are calibrated in place within its array rather than through each element,
+     * as are those of a {@link SeriesSnapshot#toList(SeriesSnapshot.Codec)} without restoring its elements.
+     * @param objects {@code List} of {@link Rateable} elements
+     * @param magnitude amount of the adjustment; non-zero value should be between 1 and -1
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return {@link SeriesController} adjusting the percent values of the specified objects in place
+     */
+    public static <T extends Rateable> SeriesController withObjects(List<T> objects, double magnitude, int precision) {
+        if (objects instanceof RateableArray) {
+            RateableArray<?> array = (RateableArray<?>) objects;
+            return new SeriesController(array.percents(), array.packed(), magnitude, precision);
+        }
+        if (objects instanceof SeriesSnapshot.HydratingList) {
+            SeriesSnapshot.HydratingList<?> list = (SeriesSnapshot.HydratingList<?>) objects;
+            return new SeriesController(list.percents(), list.packed(), magnitude, precision);
+        }
+        return new SeriesController(new RateableList(objects, precision), magnitude, precision);
+    }
+
+    /**
+     * Initialize the controller for a {@code List} of objects of a {@link Rated} class, of which
+     * the percent values are read in bulk into an array for each adjustment and only the values
+     * changed are written back, all through the {@link SeriesAdapter} generated for the class.
+     * @param objects {@code List} of domain objects
+     * @param adapter accessor of the percent values of the objects
+     * @param magnitude amount of the adjustment; non-zero value should be between 1 and -1
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @return {@link SeriesController} adjusting the percent values of the specified objects in place
+     */
+    public static <T> SeriesController withObjects(
+            List<T> objects, SeriesAdapter<? super T> adapter, double magnitude, int precision) {
+        AdaptedList<T> percents = new AdaptedList<>(objects, adapter, precision);
+        return new SeriesController(percents, percents, magnitude, precision);
+    }
+
+    /**
+     * Define the strategy by which adjustments to an element of the percent series
+     * are offset among the other elements.
+     * @param policy strategy for distributing the offset; {@link RedistributionPolicy#EQUAL} by default
+     * @return {@link SeriesController} from which to chain method calls
+     */
+    public SeriesController withPolicy(RedistributionPolicy policy) {
+        mPolicy = policy;
+        return this;
+    }
+
+    /**
+     * Define the behavior to be applied following all actions.
+     * @param listener callback to be invoked following each action, or null for none
+     * @return {@link SeriesController} from which to chain method calls
+     */
+    public SeriesController withListener(Listener listener) {
+        mListener = listener;
+        return this;
+    }
+
+    /**
+     * Retrieve the percent values, which write through to the series.
+     * @return {@code List} of {@code Double}
+     */
+    public List<Double> getPercents() { return mPercents; }
+
+    /**
+     * Increments the specified element of the percent series by the magnitude of the series.
+     * @param index location of the value to be adjusted
+     * @return true if percent was adjusted and false otherwise
+     */
+    public boolean increment(int index) {
+        boolean result = Calibrater.shiftRatings(load(), index, mMagnitude, mPrecision, mPolicy);
+        store();
+        if (mListener != null) mListener.onAction(Action.INCREMENT, index);
+        return result;
+    }
+
+    /**
+     * Decrements the specified element of the percent series by the magnitude of the series.
+     * @param index location of the value to be adjusted
+     * @return true if percent was adjusted and false otherwise
+     */
+    public boolean decrement(int index) {
+        boolean result = Calibrater.shiftRatings(load(), index, -mMagnitude, mPrecision, mPolicy);
+        store();
+        if (mListener != null) mListener.onAction(Action.DECREMENT, index);
+        return result;
+    }
+
+    /**
+     * Increments the specified group of elements of the percent series together by the magnitude
+     * of the series, offsetting the remaining elements in a single redistribution under the policy
+     * of the series. Listeners receive an index of -1.
+     * @param within strategy for distributing the magnitude among the group
+     * @param indices distinct locations of the values to be adjusted
+     * @return true if percents were adjusted and false otherwise
+     */
+    public boolean incrementGroup(RedistributionPolicy within, int... indices) {
+        boolean result = Calibrater.shiftGroupRatings(load(), indices, mMagnitude, mPrecision, within, mPolicy);
+        store();
+        if (mListener != null) mListener.onAction(Action.INCREMENT, -1);
+        return result;
+    }
+
+    /**
+     * Decrements the specified group of elements of the percent series together by the magnitude
+     * of the series, offsetting the remaining elements in a single redistribution under the policy
+     * of the series. Listeners receive an index of -1.
+     * @param within strategy for distributing the magnitude among the group
+     * @param indices distinct locations of the values to be adjusted
+     * @return true if percents were adjusted and false otherwise
+     */
+    public boolean decrementGroup(RedistributionPolicy within, int... indices) {
+        boolean result = Calibrater.shiftGroupRatings(load(), indices, -mMagnitude, mPrecision, within, mPolicy);
+        store();
+        if (mListener != null) mListener.onAction(Action.DECREMENT, -1);
+        return result;
+    }
+
+    /**
+     * Removes the specified element of the percent series and distributes the whole
+     * among the remaining elements.
+     * @param index location of the value to be removed
+     * @return true if values were adjusted; false otherwise
+     */
+    public boolean remove(int index) {
+        boolean result = Calibrater.removeRating(mPercents, index, mPrecision);
+        if (mListener != null) mListener.onAction(Action.REMOVE, index);
+        return result;
+    }
+
+    /**
+     * Replaces the specified element of the percent series by text entry, which is read
+     * as a percent if containing a percent sign and as a fraction of the whole otherwise.
+     * @param index location of the value to be replaced
+     * @param text entry to replace the value
+     * @return true if the entry was applied; false if empty or not between 0 and 1
+     * @throws NumberFormatException if the entry cannot be read as a number
+     */
+    public boolean commit(int index, String text) {
+        double percent = parse(text);
+        if (!(percent >= 0d && percent <= 1d)) return false; // empty or outside of the whole
+        double magnitude = percent - mPercents.get(index);
+        boolean observed = CalibrationObservers.isActive();
+        long start = observed ? System.nanoTime() : 0L;
+        boolean adjusted = Calibrater.shiftRatings(load(), index, magnitude, mPrecision, mPolicy);
+        store();
+        if (observed) CalibrationObservers.report(
+                Operation.COMMIT, mPercents.size(), index, magnitude, adjusted, start);
+        if (mListener != null) mListener.onAction(Action.COMMIT, index);
+        return true;
+    }
+
+    /*
+     * Returns the elements to be calibrated, viewing the packed array if any
+     */
+    private List<Double> load() { return mPacked != null ? mPacked.load() : mPercents; }
+
+    /*
+     * Applies the calibration of the packed array if any
+     */
+    private void store() { if (mPacked != null) mPacked.store(); }
+
+    /*
+     * Reads text entry as a percent if containing a percent sign and as a fraction of the whole otherwise;
+     * returns NaN if empty
+     */
+    static double parse(String text) {
+        try {
+            if (text.contains("%")) return NumberFormat.getPercentInstance().parse(text).doubleValue();
+            else if (!text.isEmpty()) return Double.parseDouble(text);
+            else return Double.NaN;
+        } catch (ParseException e) {
+            throw new NumberFormatException();
+        }
+    }
+
+    /**
+     * Formats the specified element of the percent series as a percent.
+     * @param index location of the value to be formatted
+     * @return formatted value for display in place of an entry
+     */
+    public String format(int index) { return NumberFormat.getPercentInstance().format(mPercents.get(index)); }
+}
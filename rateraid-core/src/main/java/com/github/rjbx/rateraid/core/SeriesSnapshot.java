@@ -0,0 +1,358 @@
+package com.github.rjbx.rateraid.core;
+
+import com.github.rjbx.calibrater.TypeConverters;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Snapshot of a percent series and the ids of its {@link Rateable} objects persisted to a
+ * compact local file, from which the series is restored through a single mapped read.
+ * Percent values are available as soon as the file is mapped, while the id and the encoded
+ * payload of each object are read only once requested, so that restoring a series costs
+ * no more than copying its percent values regardless of the size of its objects.
+ * The file holds a header of the format and element count, the percent values,
+ * the offsets of each id and payload and finally the ids and payloads themselves.
+ */
+public final class SeriesSnapshot {
+
+    /**
+     * Conversion of the objects of a series to and from their persisted form.
+     * @param <T> type of the objects of the series
+     */
+    public interface Codec<T extends Rateable> {
+
+        /**
+         * Retrieve the stable identifier of the object.
+         * @param object object to be persisted
+         * @return identifier of the object
+         */
+        String id(T object);
+
+        /**
+         * Encodes the state of the object other than its id and percent value.
+         * @param object object to be persisted
+         * @return encoded payload, which may be empty
+         */
+        byte[] encode(T object);
+
+        /**
+         * Restores an object from its persisted form.
+         * @param id identifier of the object
+         * @param percent percent value of the object
+         * @param payload read-only buffer positioned at the start of the encoded payload
+         * @return restored object
+         */
+        T decode(String id, double percent, ByteBuffer payload);
+    }
+
+    private static final int MAGIC = 0x52525353; // "RRSS"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16; // aligns percent values to their width
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final ByteBuffer mBuffer;
+    private final int mSize;
+    private final int mIdOffsets;
+    private final int mPayloadOffsets;
+    private final int mIds;
+    private final int mPayloads;
+
+    private SeriesSnapshot(ByteBuffer buffer) throws IOException {
+        mBuffer = buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) throw new IOException("Not a series snapshot");
+        if (buffer.getInt(4) != VERSION) throw new IOException("Unsupported snapshot version " + buffer.getInt(4));
+        mSize = buffer.getInt(8);
+        mIdOffsets = HEADER_BYTES + mSize * 8;
+        mPayloadOffsets = mIdOffsets + (mSize + 1) * 4;
+        mIds = mPayloadOffsets + (mSize + 1) * 4;
+        if (mSize < 0 || mSize > (buffer.limit() - HEADER_BYTES) / 16 || mIds > buffer.limit()) {
+            throw new IOException("Truncated series snapshot");
+        }
+        mPayloads = mIds + buffer.getInt(mIdOffsets + mSize * 4);
+        if (mPayloads + buffer.getInt(mPayloadOffsets + mSize * 4) != buffer.limit()) {
+            throw new IOException("Truncated series snapshot");
+        }
+    }
+
+    /**
+     * Persists the series to the specified file, replacing any previous snapshot
+     * only once the new snapshot has been written in full.
+     * @param file destination of the snapshot
+     * @param objects {@code List} of {@link Rateable} elements to be persisted
+     * @param codec conversion of the objects to their persisted form
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static <T extends Rateable> void write(File file, List<T> objects, Codec<T> codec) throws IOException {
+        int size = objects.size();
+        byte[][] ids = new byte[size][];
+        byte[][] payloads = new byte[size][];
+        int idBytes = 0;
+        int payloadBytes = 0;
+        for (int i = 0; i < size; i++) {
+            T object = objects.get(i);
+            ids[i] = codec.id(object).getBytes(UTF_8);
+            payloads[i] = codec.encode(object);
+            idBytes += ids[i].length;
+            payloadBytes += payloads[i].length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + size * 16 + 8 + idBytes + payloadBytes)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(0);
+        for (T object : objects) buffer.putDouble(object.getPercent());
+        int offset = 0;
+        for (byte[] id : ids) { buffer.putInt(offset); offset += id.length; }
+        buffer.putInt(offset);
+        offset = 0;
+        for (byte[] payload : payloads) { buffer.putInt(offset); offset += payload.length; }
+        buffer.putInt(offset);
+        for (byte[] id : ids) buffer.put(id);
+        for (byte[] payload : payloads) buffer.put(payload);
+
+        File temporary = new File(file.getPath() + ".tmp");
+        try (FileOutputStream output = new FileOutputStream(temporary)) {
+            output.write(buffer.array());
+            output.getFD().sync();
+        }
+        if (!temporary.renameTo(file)) {
+            if (!file.delete() || !temporary.renameTo(file)) throw new IOException("Snapshot could not be replaced");
+        }
+    }
+
+    /**
+     * Maps the snapshot persisted to the specified file.
+     * @param file source of the snapshot
+     * @return {@link SeriesSnapshot} reading from the mapped file
+     * @throws IOException if the file cannot be mapped or does not hold a snapshot
+     */
+    public static SeriesSnapshot read(File file) throws IOException {
+        try (RandomAccessFile input = new RandomAccessFile(file, "r")) {
+            FileChannel channel = input.getChannel();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new SeriesSnapshot(buffer);
+        }
+    }
+
+    /**
+     * Retrieve the number of elements in the series.
+     * @return number of elements
+     */
+    public int size() { return mSize; }
+
+    /**
+     * Retrieve a copy of the percent values of the series.
+     * @return {@code double} array
+     */
+    public double[] getPercents() {
+        double[] percents = new double[mSize];
+        ByteBuffer view = mBuffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        view.position(HEADER_BYTES);
+        view.asDoubleBuffer().get(percents);
+        return percents;
+    }
+
+    /**
+     * Retrieve the percent value of the specified element.
+     * @param index location of the element
+     * @return percent value
+     */
+    public double getPercent(int index) {
+        checkIndex(index);
+        return mBuffer.getDouble(HEADER_BYTES + index * 8);
+    }
+
+    /**
+     * Retrieve the id of the object at the specified element, decoded on each request.
+     * @param index location of the element
+     * @return identifier of the object
+     */
+    public String getId(int index) {
+        ByteBuffer id = slice(mIds, mIdOffsets, index);
+        byte[] bytes = new byte[id.remaining()];
+        id.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Retrieve the encoded payload of the object at the specified element without copying.
+     * @param index location of the element
+     * @return read-only buffer holding the encoded payload
+     */
+    public ByteBuffer getPayload(int index) { return slice(mPayloads, mPayloadOffsets, index); }
+
+    /**
+     * Restores the object at the specified element.
+     * @param index location of the element
+     * @param codec conversion of the object from its persisted form
+     * @return restored object
+     */
+    public <T extends Rateable> T hydrate(int index, Codec<T> codec) {
+        return codec.decode(getId(index), getPercent(index), getPayload(index));
+    }
+
+    /**
+     * Generates a {@code List} of the objects of the series, each restored from the snapshot
+     * on first retrieval. Elements can be replaced, added and removed as in an {@code ArrayList}.
+     * A {@link SeriesController} for the list calibrates the percent values of the elements
+     * yet to be restored in place within the list, restoring none of them.
+     * @param codec conversion of the objects from their persisted form
+     * @return {@code List} of {@link Rateable} elements hydrated on demand
+     */
+    public <T extends Rateable> List<T> toList(Codec<T> codec) { return new HydratingList<>(this, codec); }
+
+    private ByteBuffer slice(int base, int offsets, int index) {
+        checkIndex(index);
+        int start = mBuffer.getInt(offsets + index * 4);
+        int end = mBuffer.getInt(offsets + index * 4 + 4);
+        ByteBuffer slice = mBuffer.asReadOnlyBuffer();
+        slice.limit(base + end).position(base + start);
+        return slice.slice();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= mSize) throw new IndexOutOfBoundsException();
+    }
+
+    /**
+     * {@code List} holding for each element either its restored object or the location
+     * of the element within the snapshot from which it is yet to be restored, together with
+     * the percent value of each element yet to be restored, which is restored with the object.
+     */
+    static final class HydratingList<T extends Rateable> extends AbstractList<T> implements RandomAccess {
+
+        private final SeriesSnapshot mSnapshot;
+        private final Codec<T> mCodec;
+        private Object[] mObjects;
+        private int[] mRecords; // -1 once restored or added
+        private double[] mPercents; // held for elements yet to be restored, and during each adjustment
+        private int mSize;
+
+        HydratingList(SeriesSnapshot snapshot, Codec<T> codec) {
+            mSnapshot = snapshot;
+            mCodec = codec;
+            mSize = snapshot.size();
+            mObjects = new Object[mSize];
+            mRecords = new int[mSize];
+            mPercents = snapshot.getPercents();
+            for (int i = 0; i < mSize; i++) mRecords[i] = i;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override public T get(int index) {
+            if (index < 0 || index >= mSize) throw new IndexOutOfBoundsException();
+            if (mRecords[index] >= 0) {
+                int record = mRecords[index];
+                mObjects[index] = mCodec.decode(
+                        mSnapshot.getId(record), mPercents[index], mSnapshot.getPayload(record));
+                mRecords[index] = -1;
+            } return (T) mObjects[index];
+        }
+
+        @Override public T set(int index, T object) {
+            T previous = get(index);
+            mObjects[index] = object;
+            return previous;
+        }
+
+        @Override public void add(int index, T object) {
+            if (index < 0 || index > mSize) throw new IndexOutOfBoundsException();
+            if (mSize == mObjects.length) {
+                int capacity = Math.max(8, mSize * 2);
+                mObjects = Arrays.copyOf(mObjects, capacity);
+                mRecords = Arrays.copyOf(mRecords, capacity);
+                mPercents = Arrays.copyOf(mPercents, capacity);
+            }
+            System.arraycopy(mObjects, index, mObjects, index + 1, mSize - index);
+            System.arraycopy(mRecords, index, mRecords, index + 1, mSize - index);
+            System.arraycopy(mPercents, index, mPercents, index + 1, mSize - index);
+            mObjects[index] = object;
+            mRecords[index] = -1;
+            mSize++;
+            modCount++;
+        }
+
+        @Override public T remove(int index) {
+            T previous = get(index);
+            delete(index);
+            return previous;
+        }
+
+        @Override public int size() { return mSize; }
+
+        /*
+         * Returns the array for adjustment in place through a view over its current size,
+         * of which the values of restored and added elements are written back to their objects
+         */
+        PackedPercents packed() {
+            return new PackedPercents() {
+                @Override public List<Double> load() {
+                    for (int i = 0; i < mSize; i++) if (mRecords[i] < 0) mPercents[i] = restored(i).getPercent();
+                    return TypeConverters.viewArrayDouble(mPercents, 0, mSize);
+                }
+                @Override public void store() {
+                    for (int i = 0; i < mSize; i++) {
+                        if (mRecords[i] < 0 && restored(i).getPercent() != mPercents[i]) {
+                            restored(i).setPercent(mPercents[i]);
+                        }
+                    }
+                }
+            };
+        }
+
+        /*
+         * Returns a view over the percent values which restores no element
+         * and removes the element along with its value
+         */
+        List<Double> percents() { return new Percents(); }
+
+        private Rateable restored(int index) { return (Rateable) mObjects[index]; }
+
+        private void delete(int index) {
+            if (index < 0 || index >= mSize) throw new IndexOutOfBoundsException();
+            System.arraycopy(mObjects, index + 1, mObjects, index, mSize - index - 1);
+            System.arraycopy(mRecords, index + 1, mRecords, index, mSize - index - 1);
+            System.arraycopy(mPercents, index + 1, mPercents, index, mSize - index - 1);
+            mObjects[--mSize] = null;
+            modCount++;
+        }
+
+        /**
+         * {@code List} of {@code Double} reading and writing the percent value held for each element
+         * yet to be restored and the percent value of each other element through its object.
+         */
+        private final class Percents extends AbstractList<Double> implements RandomAccess {
+
+            @Override public Double get(int index) {
+                if (index < 0 || index >= mSize) throw new IndexOutOfBoundsException();
+                return mRecords[index] >= 0 ? mPercents[index] : restored(index).getPercent();
+            }
+
+            @Override public Double set(int index, Double percent) {
+                double previous = get(index);
+                if (mRecords[index] >= 0) mPercents[index] = percent;
+                else restored(index).setPercent(percent);
+                return previous;
+            }
+
+            @Override public Double remove(int index) {
+                double previous = get(index);
+                delete(index);
+                return previous;
+            }
+
+            @Override public int size() { return mSize; }
+        }
+    }
+}
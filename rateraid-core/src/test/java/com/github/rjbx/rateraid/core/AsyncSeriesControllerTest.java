@@ -0,0 +1,145 @@
+package com.github.rjbx.rateraid.core;
+
+import com.github.rjbx.calibrater.Calibrater;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the {@link AsyncSeriesController} class.
+ * Results are delivered to a queue drained by the test thread in place of the main thread.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class AsyncSeriesControllerTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    /**
+     * Asserts whether the targeted element reports its optimistic value while in flight
+     * and the series is updated only once the result is delivered.
+     */
+    @Test public final void testOptimisticUntilDelivered() {
+
+        BlockingQueue<Runnable> main = new LinkedBlockingQueue<>();
+        List<Double> percents = new ArrayList<>(Arrays.asList(.25d, .25d, .25d, .25d));
+        List<AsyncSeriesController.Result> results = new ArrayList<>();
+        AsyncSeriesController controller = AsyncSeriesController
+                .withValues(percents, .1d, PRECISION, Runnable::run, main::add)
+                .withCallback(results::add);
+
+        controller.increment(2);
+        assertTrue(controller.isPending());
+        assertEquals(.35d, controller.getPercent(2), ERROR);
+        assertEquals(.25d, percents.get(2), 0d);
+        assertTrue(controller.commit(0, "10%"));
+        assertEquals(.1d, controller.getPercent(0), 0d);
+        assertFalse(controller.commit(0, "1.5"));
+
+        while (!main.isEmpty()) main.poll().run();
+        assertFalse(controller.isPending());
+        assertEquals(2, results.size());
+        assertEquals(SeriesController.Action.INCREMENT, results.get(0).getAction());
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, results.get(0).getChangedIndices());
+        assertEquals(.1d, percents.get(0), ERROR);
+        assertEquals(controller.getPercent(2), percents.get(2), 0d);
+        assertSum(percents);
+
+        controller.remove(1);
+        assertEquals(4, percents.size());
+        main.poll().run();
+        assertEquals(3, percents.size());
+        assertEquals(3, results.get(2).getChangedIndices().length);
+        assertSum(percents);
+    }
+
+    /**
+     * Asserts whether requests following a removal in flight report optimistic values
+     * at the locations of the series as of the removal, which are kept on its delivery.
+     */
+    @Test public final void testOptimisticFollowingRemoval() {
+
+        BlockingQueue<Runnable> main = new LinkedBlockingQueue<>();
+        List<Double> percents = new ArrayList<>(Arrays.asList(.1d, .2d, .3d, .4d));
+        List<Double> expected = new ArrayList<>(percents);
+        AsyncSeriesController controller = AsyncSeriesController
+                .withValues(percents, .1d, PRECISION, Runnable::run, main::add);
+        SeriesController synchronous = SeriesController.withValues(expected, .1d, PRECISION);
+
+        controller.remove(0);
+        controller.increment(0);
+        assertTrue(controller.commit(1, "50%"));
+        assertEquals(.3d, controller.getPercent(0), ERROR);
+        assertEquals(.5d, controller.getPercent(1), 0d);
+        assertEquals(.4d, controller.getPercent(2), 0d);
+        assertEquals(4, percents.size());
+
+        main.poll().run();
+        assertEquals(3, percents.size());
+        assertEquals(.3d, controller.getPercent(0), ERROR);
+        assertEquals(.5d, controller.getPercent(1), 0d);
+
+        while (!main.isEmpty()) main.poll().run();
+        synchronous.remove(0);
+        synchronous.increment(0);
+        synchronous.commit(1, "50%");
+        assertFalse(controller.isPending());
+        assertEquals(expected, percents);
+        for (int i = 0; i < percents.size(); i++) assertEquals(percents.get(i), controller.getPercent(i), 0d);
+        assertSum(percents);
+    }
+
+    /**
+     * Asserts whether actions calibrated on a multi-threaded executor are applied one at a time
+     * in order of request, arriving at the same series as the synchronous controller.
+     */
+    @Test public final void testSerializedOnConcurrentExecutor() throws InterruptedException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        BlockingQueue<Runnable> main = new LinkedBlockingQueue<>();
+        List<Double> percents = new ArrayList<>();
+        List<Double> expected = new ArrayList<>();
+        for (int i = 0; i < 64; i++) { percents.add(1d / 64); expected.add(1d / 64); }
+        AsyncSeriesController controller = AsyncSeriesController
+                .withValues(percents, .01d, PRECISION, executor, main::add);
+        SeriesController synchronous = SeriesController.withValues(expected, .01d, PRECISION);
+
+        Random random = new Random(1);
+        int requested = 0;
+        for (int i = 0; i < 500; i++, requested++) {
+            int index = random.nextInt(expected.size());
+            if (i % 50 == 49) { controller.remove(index); synchronous.remove(index); }
+            else if (random.nextBoolean()) { controller.increment(index); synchronous.increment(index); }
+            else { controller.decrement(index); synchronous.decrement(index); }
+        }
+        for (int delivered = 0; delivered < requested; delivered++) {
+            Runnable delivery = main.poll(10, TimeUnit.SECONDS);
+            assertTrue(delivery != null);
+            delivery.run();
+        }
+        executor.shutdown();
+
+        assertFalse(controller.isPending());
+        assertEquals(expected, percents);
+    }
+
+    private static void assertSum(List<Double> percents) {
+        double sum = 0d;
+        for (double percent : percents) sum += percent;
+        assertEquals(1d, sum, ERROR);
+    }
+}
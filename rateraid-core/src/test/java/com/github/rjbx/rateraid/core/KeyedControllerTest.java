@@ -0,0 +1,49 @@
+package com.github.rjbx.rateraid.core;
+
+import com.github.rjbx.calibrater.Calibrater;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the {@link KeyedController} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class KeyedControllerTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    /**
+     * Asserts whether actions bound to a handle before a removal continue to target
+     * the same element afterward and report the handle to the listener.
+     */
+    @Test public final void testHandlesBoundAcrossRemoval() {
+
+        List<Integer> handles = new ArrayList<>();
+        KeyedController controller = KeyedController.withValues(new double[] { .25d, .25d, .25d, .25d }, .1d, PRECISION)
+                .withListener((action, handle) -> handles.add(handle));
+
+        assertTrue(controller.remove(0));
+        assertEquals(1d / 3d, controller.getSeries().get(3), ERROR);
+        assertTrue(controller.increment(3));
+        assertEquals(1d / 3d + .1d, controller.getSeries().get(3), ERROR);
+        assertTrue(controller.commit(1, "20%"));
+        assertEquals(.2d, controller.getSeries().get(1), ERROR);
+        assertFalse(controller.getSeries().contains(0));
+        assertEquals("20%", controller.format(1));
+
+        double sum = 0d;
+        for (double percent : controller.getSeries().toArray()) sum += percent;
+        assertEquals(1d, sum, ERROR);
+        assertEquals(0, (int) handles.get(0));
+        assertEquals(3, (int) handles.get(1));
+        assertEquals(1, (int) handles.get(2));
+    }
+}
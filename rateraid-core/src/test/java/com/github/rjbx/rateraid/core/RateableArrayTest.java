@@ -0,0 +1,85 @@
+package com.github.rjbx.rateraid.core;
+
+import com.github.rjbx.calibrater.Calibrater;
+import com.github.rjbx.calibrater.RedistributionPolicy;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the {@link RateableArray} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class RateableArrayTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    /**
+     * Asserts whether a controller for the packed array arrives at the same series
+     * as a controller for the values, with each handle tracking its domain object.
+     */
+    @Test public final void testControllerMatchesValues() {
+
+        List<String> names = new ArrayList<>();
+        List<Double> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) { names.add("item-" + i); expected.add(1d / 40); }
+        double[] percents = new double[40];
+        Arrays.fill(percents, 1d / 40);
+        RateableArray<String> array = RateableArray.of(names, percents);
+        SeriesController packed = SeriesController.withObjects(array, .01d, PRECISION)
+                .withPolicy(RedistributionPolicy.PROPORTIONAL);
+        SeriesController values = SeriesController.withValues(expected, .01d, PRECISION)
+                .withPolicy(RedistributionPolicy.PROPORTIONAL);
+
+        Random random = new Random(1);
+        for (int i = 0; i < 300; i++) {
+            int index = random.nextInt(expected.size());
+            if (i % 30 == 29) { packed.remove(index); values.remove(index); names.remove(index); }
+            else if (random.nextBoolean()) { packed.increment(index); values.increment(index); }
+            else { packed.decrement(index); values.decrement(index); }
+        }
+
+        assertEquals(expected.size(), array.size());
+        double sum = 0d;
+        for (int i = 0; i < array.size(); i++) {
+            assertEquals(expected.get(i), array.getPercent(i), 0d);
+            assertEquals(expected.get(i), array.get(i).getPercent(), 0d);
+            assertSame(names.get(i), array.get(i).getObject());
+            sum += array.getPercent(i);
+        }
+        assertEquals(1d, sum, ERROR);
+    }
+
+    /**
+     * Asserts whether handles remain bound to their elements as others are inserted and removed
+     * and retain their percent value once removed.
+     */
+    @Test public final void testHandlesFollowElements() {
+
+        RateableArray<String> array = RateableArray.of(Arrays.asList("a", "b", "c"), new double[] { .2d, .3d, .5d });
+        Rateable<String> c = array.get(2);
+        Rateable<String> a = array.remove(0);
+        assertEquals(.5d, c.getPercent(), 0d);
+        assertEquals(.2d, a.getPercent(), 0d);
+
+        array.add(0, a);
+        array.add(a);
+        c.setPercent(.1d);
+        assertEquals(.1d, array.getPercent(2), 0d);
+        assertEquals("a", array.getObject(3));
+        assertTrue(Arrays.equals(new double[] { .2d, .3d, .1d, .2d }, array.getPercents()));
+
+        for (int i = 0; i < 20; i++) array.add(RateableArray.of(Arrays.asList("d"), new double[] { 0d }).get(0));
+        assertEquals(24, array.size());
+        assertEquals(.1d, c.getPercent(), 0d);
+    }
+}
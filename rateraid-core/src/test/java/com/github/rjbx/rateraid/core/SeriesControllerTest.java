@@ -0,0 +1,166 @@
+package com.github.rjbx.rateraid.core;
+
+import com.github.rjbx.calibrater.Calibrater;
+import com.github.rjbx.calibrater.RedistributionPolicy;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the {@link SeriesController} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class SeriesControllerTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    /**
+     * Asserts whether incrementing and decrementing through the range of possible values
+     * assigns the expected value to each element while maintaining the whole.
+     */
+    @Test public final void testShiftersMaintainWhole() {
+
+        List<Double> percents = Arrays.asList(.25d, .25d, .25d, .25d);
+        for (double magnitude = .01d; magnitude < .1d; magnitude += .01d) {
+            SeriesController controller = SeriesController.withValues(percents, magnitude, PRECISION);
+            for (int index = 0; index < 4; index++) {
+                controller.increment(index);
+                controller.decrement(index);
+                controller.decrement(index);
+                controller.increment(index);
+                assertEquals(.25d, percents.get(index), magnitude);
+                assertSum(percents, magnitude);
+                while (percents.get(index) < 1d) {
+                    assertTrue(controller.increment(index));
+                    assertSum(percents, magnitude);
+                }
+                assertFalse(controller.increment(index));
+                while (percents.get(index) > 0d) {
+                    assertTrue(controller.decrement(index));
+                    assertSum(percents, magnitude);
+                }
+                Calibrater.resetRatings(percents, true, PRECISION);
+            }
+        }
+    }
+
+    /**
+     * Asserts whether text entry replaces the value as a fraction or percent
+     * and rejects entries which are empty or outside of the whole.
+     */
+    @Test public final void testCommitReplacesValue() {
+
+        List<Double> percents = new ArrayList<>(Arrays.asList(.25d, .25d, .25d, .25d));
+        List<SeriesController.Action> actions = new ArrayList<>();
+        SeriesController controller = SeriesController.withValues(percents, .01d, PRECISION)
+                .withListener((action, index) -> actions.add(action));
+
+        assertTrue(controller.commit(0, ".4"));
+        assertEquals(.4d, percents.get(0), 0d);
+        assertEquals(.2d, percents.get(1), ERROR);
+        assertTrue(controller.commit(1, "10%"));
+        assertEquals(.1d, percents.get(1), ERROR);
+        assertSum(percents, ERROR);
+
+        assertFalse(controller.commit(2, ""));
+        assertFalse(controller.commit(2, "1.5"));
+        assertEquals(Arrays.asList(SeriesController.Action.COMMIT, SeriesController.Action.COMMIT), actions);
+        assertEquals("10%", controller.format(1));
+    }
+
+    /**
+     * Asserts whether adjusting a series of objects writes through to their percent values
+     * and removal removes the object while maintaining the whole.
+     */
+    @Test public final void testObjectsAdjustedInPlace() {
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 4; i++) items.add(new Item(.25d));
+        SeriesController controller = SeriesController.withObjects(items, .1d, PRECISION)
+                .withPolicy(RedistributionPolicy.PROPORTIONAL);
+
+        assertTrue(controller.increment(2));
+        assertEquals(.35d, items.get(2).getPercent(), ERROR);
+        assertEquals(.65d / 3d, items.get(0).getPercent(), ERROR);
+
+        Item removed = items.get(2);
+        assertTrue(controller.remove(2));
+        assertEquals(3, items.size());
+        assertFalse(items.contains(removed));
+        double sum = 0d;
+        for (Item item : items) sum += item.getPercent();
+        assertEquals(1d, sum, ERROR);
+    }
+
+    /**
+     * Asserts whether adjusting a series of objects sets the percent values of only those objects
+     * changed by more than the tolerance of the precision.
+     */
+    @Test public final void testOnlyChangedObjectsWritten() {
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 8; i++) items.add(new Item(.125d));
+        items.get(5).setPercent(.125d + ERROR / 16); // within tolerance of any change
+        items.get(0).setPercent(.125d - ERROR / 16);
+        SeriesController controller = SeriesController.withObjects(items, .05d, PRECISION)
+                .withPolicy(RedistributionPolicy.priority(3));
+        for (Item item : items) item.mWrites = 0;
+
+        assertTrue(controller.increment(2));
+        for (int i = 0; i < items.size(); i++) assertEquals(i == 2 || i == 3 ? 1 : 0, items.get(i).mWrites);
+        assertEquals(.175d, items.get(2).getPercent(), ERROR);
+        assertEquals(.075d, items.get(3).getPercent(), ERROR);
+
+        items.get(6).mWrites = 0;
+        Calibrater.recalibrateRatings(controller.getPercents(), true, PRECISION);
+        assertEquals(0, items.get(6).mWrites);
+    }
+
+    /**
+     * Asserts whether incrementing and decrementing a group moves its members as a unit
+     * and reports the action without an index.
+     */
+    @Test public final void testShiftGroup() {
+
+        List<Double> percents = new ArrayList<>(Arrays.asList(.1d, .2d, .3d, .4d));
+        List<Integer> indices = new ArrayList<>();
+        SeriesController controller = SeriesController.withValues(percents, .1d, PRECISION)
+                .withListener((action, index) -> indices.add(index));
+
+        assertTrue(controller.incrementGroup(RedistributionPolicy.PROPORTIONAL, 0, 1));
+        assertEquals(.4d, percents.get(0) + percents.get(1), ERROR);
+        assertEquals(2d, percents.get(1) / percents.get(0), ERROR);
+        assertEquals(.25d, percents.get(2), ERROR); // rest offset equally by the series policy
+        assertSum(percents, ERROR);
+
+        assertTrue(controller.decrementGroup(RedistributionPolicy.EQUAL, 0, 1));
+        assertEquals(.3d, percents.get(0) + percents.get(1), ERROR);
+        assertEquals(Arrays.asList(-1, -1), indices);
+    }
+
+    private static void assertSum(List<Double> percents, double delta) {
+        double sum = 0d;
+        for (double percent : percents) sum += percent;
+        assertEquals(1d, sum, delta);
+    }
+
+    private static final class Item implements Rateable<Item> {
+
+        private double mPercent;
+        private int mWrites;
+
+        Item(double percent) { mPercent = percent; }
+
+        @Override public void setPercent(double percent) { mPercent = percent; mWrites++; }
+        @Override public double getPercent() { return mPercent; }
+        @Override public Item getObject() { return this; }
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.rjbx.rateraid.core;
+
+import com.github.rjbx.calibrater.Calibrater;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test methods for the {@link SeriesSnapshot} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class SeriesSnapshotTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    @Rule public TemporaryFolder mFolder = new TemporaryFolder();
+
+    /**
+     * Asserts whether a restored snapshot holds the percent values, ids and payloads persisted
+     * and hydrates each object only once retrieved.
+     */
+    @Test public final void testRestoresPersistedSeries() throws IOException {
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) items.add(new Item("item-" + i, 1d / 100, "details " + i));
+        File file = mFolder.newFile("series.snapshot");
+        SeriesSnapshot.write(file, items, Item.CODEC);
+
+        SeriesSnapshot snapshot = SeriesSnapshot.read(file);
+        assertEquals(100, snapshot.size());
+        double[] percents = new double[100];
+        for (int i = 0; i < 100; i++) percents[i] = items.get(i).getPercent();
+        assertArrayEquals(percents, snapshot.getPercents(), 0d);
+        assertEquals("item-42", snapshot.getId(42));
+        assertEquals("details 42", Item.CODEC.decode("", 0d, snapshot.getPayload(42)).mDetails);
+
+        int decoded = Item.sDecoded;
+        List<Item> restored = snapshot.toList(Item.CODEC);
+        assertEquals(decoded, Item.sDecoded);
+        Item item = restored.get(7);
+        assertSame(item, restored.get(7));
+        assertEquals(decoded + 1, Item.sDecoded);
+        assertEquals("item-7", item.mId);
+        assertEquals("details 7", item.mDetails);
+
+        restored.remove(0);
+        restored.add(0, new Item("added", 0d, ""));
+        assertEquals(100, restored.size());
+        assertEquals("added", restored.get(0).mId);
+        assertEquals("item-99", restored.get(99).mId);
+    }
+
+    /**
+     * Asserts whether a controller for the restored list calibrates the percent values of elements
+     * yet to be restored without restoring them, and restores each with its calibrated value.
+     */
+    @Test public final void testCalibratesWithoutRestoring() throws IOException {
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 4; i++) items.add(new Item("item-" + i, .3d, "details " + i)); // not yet whole
+        File file = mFolder.newFile("series.snapshot");
+        SeriesSnapshot.write(file, items, Item.CODEC);
+        List<Item> restored = SeriesSnapshot.read(file).toList(Item.CODEC);
+
+        int decoded = Item.sDecoded;
+        SeriesController controller = SeriesController.withObjects(restored, .1d, PRECISION);
+        assertTrue(controller.increment(1));
+        assertEquals(decoded, Item.sDecoded);
+        assertEquals(.35d, controller.getPercents().get(1), ERROR);
+
+        Item item = restored.get(1);
+        assertEquals(decoded + 1, Item.sDecoded);
+        assertEquals(.35d, item.getPercent(), ERROR);
+        assertTrue(controller.decrement(1)); // written through the restored object
+        assertEquals(.25d, item.getPercent(), ERROR);
+        assertTrue(controller.remove(0));
+        assertEquals(3, restored.size());
+        assertEquals(decoded + 1, Item.sDecoded);
+        double sum = 0d;
+        for (double percent : controller.getPercents()) sum += percent;
+        assertEquals(1d, sum, ERROR);
+    }
+
+    /**
+     * Asserts whether writing a snapshot replaces the previous snapshot
+     * and files not holding a snapshot are rejected.
+     */
+    @Test public final void testReplacesAndRejects() throws IOException {
+
+        File file = mFolder.newFile("series.snapshot");
+        List<Item> items = new ArrayList<>();
+        items.add(new Item("a", .5d, "x"));
+        items.add(new Item("b", .5d, "y"));
+        SeriesSnapshot.write(file, items, Item.CODEC);
+        items.remove(1);
+        items.get(0).setPercent(1d);
+        SeriesSnapshot.write(file, items, Item.CODEC);
+        SeriesSnapshot snapshot = SeriesSnapshot.read(file);
+        assertEquals(1, snapshot.size());
+        assertEquals(1d, snapshot.getPercent(0), 0d);
+
+        File invalid = mFolder.newFile("invalid.snapshot");
+        try (FileOutputStream output = new FileOutputStream(invalid)) {
+            output.write(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17 });
+        }
+        try {
+            SeriesSnapshot.read(invalid);
+            fail();
+        } catch (IOException expected) {}
+    }
+
+    private static final class Item implements Rateable<Item> {
+
+        static int sDecoded;
+
+        static final SeriesSnapshot.Codec<Item> CODEC = new SeriesSnapshot.Codec<Item>() {
+            @Override public String id(Item object) { return object.mId; }
+            @Override public byte[] encode(Item object) { return object.mDetails.getBytes(Charset.forName("UTF-8")); }
+            @Override public Item decode(String id, double percent, ByteBuffer payload) {
+                sDecoded++;
+                byte[] bytes = new byte[payload.remaining()];
+                payload.get(bytes);
+                return new Item(id, percent, new String(bytes, Charset.forName("UTF-8")));
+            }
+        };
+
+        private final String mId;
+        private final String mDetails;
+        private double mPercent;
+
+        Item(String id, double percent, String details) {
+            mId = id;
+            mPercent = percent;
+            mDetails = details;
+        }
+
+        @Override public void setPercent(double percent) { mPercent = percent; }
+        @Override public double getPercent() { return mPercent; }
+        @Override public Item getObject() { return this; }
+    }
+}
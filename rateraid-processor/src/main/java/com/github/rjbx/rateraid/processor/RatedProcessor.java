@@ -0,0 +1,165 @@
+package com.github.rjbx.rateraid.processor;
+
+import com.github.rjbx.rateraid.core.Percent;
+import com.github.rjbx.rateraid.core.Rated;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor generating a {@link com.github.rjbx.rateraid.core.SeriesAdapter} for each
+ * {@link Rated} class, which reads and writes the {@link Percent} field of its objects directly
+ * and in bulk. Each adapter is specialized to a single class and field, so that no call made
+ * in reading or writing a series dispatches on the type of the objects, and no reflection is used.
+ */
+public final class RatedProcessor extends AbstractProcessor {
+
+    static final String SUFFIX = "SeriesAdapter";
+
+    @Override public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(Rated.class.getCanonicalName());
+    }
+
+    @Override public SourceVersion getSupportedSourceVersion() { return SourceVersion.latestSupported(); }
+
+    @Override public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment environment) {
+        for (Element element : environment.getElementsAnnotatedWith(Rated.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@Rated applies only to classes");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            VariableElement field = percentField(type);
+            if (field == null || !isAccessible(type)) continue;
+            try {
+                generate(type, field);
+            } catch (IOException e) {
+                error(type, "Unable to generate " + SUFFIX + ": " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Returns the single valid field annotated with Percent, reporting an error if there is none
+     */
+    private VariableElement percentField(TypeElement type) {
+        List<VariableElement> fields = new ArrayList<>();
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.FIELD && member.getAnnotation(Percent.class) != null) {
+                fields.add((VariableElement) member);
+            }
+        }
+        if (fields.size() != 1) {
+            error(type, "@Rated class must have exactly one @Percent field");
+            return null;
+        }
+        VariableElement field = fields.get(0);
+        TypeKind kind = field.asType().getKind();
+        Set<Modifier> modifiers = field.getModifiers();
+        if (kind != TypeKind.DOUBLE && kind != TypeKind.FLOAT) {
+            error(field, "@Percent field must be a double or float");
+            return null;
+        }
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)
+                || modifiers.contains(Modifier.FINAL)) {
+            error(field, "@Percent field must not be private, static or final");
+            return null;
+        }
+        return field;
+    }
+
+    /*
+     * Checks that the class and each class enclosing it can be referenced from its package
+     */
+    private boolean isAccessible(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            TypeElement enclosing = (TypeElement) element;
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE) || (enclosing.getNestingKind() == NestingKind.MEMBER
+                    && !enclosing.getModifiers().contains(Modifier.STATIC))) {
+                error(type, "@Rated class must be accessible from its package and not an inner class");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type, VariableElement field) throws IOException {
+        String packageName = packageOf(type).getQualifiedName().toString();
+        String adapter = adapterName(type);
+        String target = type.getQualifiedName().toString();
+        if (!packageName.isEmpty()) target = target.substring(packageName.length() + 1);
+        String name = field.getSimpleName().toString();
+        String cast = field.asType().getKind() == TypeKind.FLOAT ? "(float) " : "";
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) source.append("package ").append(packageName).append(";\n\n");
+        source.append("import com.github.rjbx.rateraid.core.SeriesAdapter;\n\n")
+              .append("import java.util.List;\n\n")
+              .append("/**\n")
+              .append(" * {@link SeriesAdapter} reading and writing {@link ").append(target).append("#").append(name)
+              .append("} directly.\n")
+              .append(" * Generated by ").append(RatedProcessor.class.getName()).append("; do not edit.\n")
+              .append(" */\n")
+              .append("public final class ").append(adapter).append(" implements SeriesAdapter<").append(target).append("> {\n\n")
+              .append("    public static final ").append(adapter).append(" INSTANCE = new ").append(adapter).append("();\n\n")
+              .append("    private ").append(adapter).append("() {}\n\n")
+              .append("    @Override public double getPercent(").append(target).append(" object) { return object.")
+              .append(name).append("; }\n\n")
+              .append("    @Override public void setPercent(").append(target).append(" object, double percent) { object.")
+              .append(name).append(" = ").append(cast).append("percent; }\n\n")
+              .append("    @Override public void read(List<? extends ").append(target).append("> objects, double[] percents) {\n")
+              .append("        int size = objects.size();\n")
+              .append("        for (int i = 0; i < size; i++) percents[i] = objects.get(i).").append(name).append(";\n")
+              .append("    }\n\n")
+              .append("    @Override public void write(List<? extends ").append(target)
+              .append("> objects, double[] percents, int[] indices) {\n")
+              .append("        for (int index : indices) objects.get(index).").append(name).append(" = ")
+              .append(cast).append("percents[index];\n")
+              .append("    }\n")
+              .append("}\n");
+
+        String qualified = packageName.isEmpty() ? adapter : packageName + "." + adapter;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualified, type).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /*
+     * Names the adapter for the class, joining the names of enclosing classes with underscores
+     */
+    static String adapterName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName()).append(SUFFIX);
+        for (Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement;
+                enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+        }
+        return name.toString();
+    }
+
+    private static PackageElement packageOf(Element element) {
+        while (!(element instanceof PackageElement)) element = element.getEnclosingElement();
+        return (PackageElement) element;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.rjbx.rateraid.processor;
+
+import com.github.rjbx.calibrater.Calibrater;
+import com.github.rjbx.rateraid.core.SeriesAdapter;
+import com.github.rjbx.rateraid.core.SeriesController;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test methods for the {@link RatedProcessor} class.
+ * Sources are compiled with the processor into a temporary folder, from which the generated adapter is loaded.
+ */
+public class RatedProcessorTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    @Rule public TemporaryFolder mFolder = new TemporaryFolder();
+
+    /**
+     * Asserts whether the adapter generated for a nested class reads and writes its field
+     * such that a controller over the objects maintains the whole.
+     */
+    @Test public final void testGeneratedAdapterAdjustsField() throws Exception {
+
+        String output = compile("sample/Portfolio.java",
+                "package sample;\n"
+                + "import com.github.rjbx.rateraid.core.Percent;\n"
+                + "import com.github.rjbx.rateraid.core.Rated;\n"
+                + "public class Portfolio {\n"
+                + "    @Rated public static class Holding {\n"
+                + "        public final String mName;\n"
+                + "        @Percent float mShare;\n"
+                + "        public Holding(String name, float share) { mName = name; mShare = share; }\n"
+                + "    }\n"
+                + "}\n");
+        assertEquals("", output);
+
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[] { mFolder.getRoot().toURI().toURL() }, getClass().getClassLoader())) {
+            Class<?> holding = loader.loadClass("sample.Portfolio$Holding");
+            @SuppressWarnings("unchecked") SeriesAdapter<Object> adapter = (SeriesAdapter<Object>)
+                    loader.loadClass("sample.Portfolio_HoldingSeriesAdapter").getField("INSTANCE").get(null);
+            List<Object> holdings = new ArrayList<>();
+            for (int i = 0; i < 4; i++) holdings.add(holding.getConstructor(String.class, float.class).newInstance("h" + i, .25f));
+
+            SeriesController controller = SeriesController.withObjects(holdings, adapter, .1d, PRECISION);
+            assertTrue(controller.increment(1));
+            double[] percents = new double[holdings.size()];
+            adapter.read(holdings, percents);
+            assertEquals(.35d, percents[1], ERROR);
+            assertEquals(.65d / 3, percents[0], ERROR);
+            Field share = holding.getDeclaredField("mShare");
+            share.setAccessible(true);
+            assertEquals((float) percents[3], share.getFloat(holdings.get(3)), 0f);
+
+            assertTrue(controller.remove(0));
+            adapter.read(holdings, percents);
+            assertEquals(1d, percents[0] + percents[1] + percents[2], ERROR);
+        }
+    }
+
+    /**
+     * Asserts whether a class without a single accessible percent field is rejected.
+     */
+    @Test public final void testInvalidFieldRejected() throws IOException {
+
+        String output = compile("sample/Invalid.java",
+                "package sample;\n"
+                + "@com.github.rjbx.rateraid.core.Rated public class Invalid {\n"
+                + "    @com.github.rjbx.rateraid.core.Percent private double mShare;\n"
+                + "}\n");
+        assertTrue(output, output.contains("must not be private"));
+        assertFalse(new File(mFolder.getRoot(), "sample/InvalidSeriesAdapter.class").exists());
+    }
+
+    private String compile(String path, String source) throws IOException {
+        File file = new File(mFolder.newFolder("src", path.substring(0, path.indexOf('/'))), path.substring(path.indexOf('/') + 1));
+        Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StringWriter output = new StringWriter();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList("-d", mFolder.getRoot().getPath(),
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-processor", RatedProcessor.class.getName());
+            compiler.getTask(output, files, null, options, null, files.getJavaFileObjects(file)).call();
+        }
+        return output.toString();
+    }
+}
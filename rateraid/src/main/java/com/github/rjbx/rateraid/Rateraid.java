@@ -1,27 +1,37 @@
 package com.github.rjbx.rateraid;
 
 import android.content.DialogInterface;
+import android.os.Handler;
+import android.os.Looper;
 import android.view.View;
 import android.view.inputmethod.EditorInfo;
 import android.view.inputmethod.InputMethodManager;
 import android.widget.EditText;
 
 import com.github.rjbx.calibrater.Calibrater;
+import com.github.rjbx.calibrater.RedistributionPolicy;
 import com.github.rjbx.calibrater.TypeConverters;
+import com.github.rjbx.rateraid.core.AsyncSeriesController;
+import com.github.rjbx.rateraid.core.KeyedController;
+import com.github.rjbx.rateraid.core.RateableArray;
+import com.github.rjbx.rateraid.core.Rated;
+import com.github.rjbx.rateraid.core.SeriesAdapter;
+import com.github.rjbx.rateraid.core.SeriesController;
 
-import java.text.NumberFormat;
-import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import androidx.annotation.Nullable;
-// TODO: Store field references to controller views and implement method to detach listeners by passing null to the attach method
 /**
  * Library for specifying adjustments to the values of a percent series.
  * Users can bind predefined as well as custom behaviors to the views controlling adjustments
  * to optionally increment and decrement, remove or text edit the values of a percent series.
  * Single element adjustments automatically update all values in the series as needed to maintain
  * that their sum remain proportionate to the whole within range of the specified precision.
+ * Adjustments are applied by a {@link SeriesController}, to which the views are bound.
+ * Views recycled among elements are instead bound once through {@link SeriesBindings},
+ * from which they are detached when no longer needed.
  */
 public class Rateraid {
 
@@ -30,11 +40,7 @@ public class Rateraid {
      * @param <T> to specify the type of the implementing class for generating appropriately cast
      *            objects from {@link #getObject()}
      */
-    public interface Rateable<T> {
-        void setPercent(double percent);
-        double getPercent();
-        T getObject();
-    }
+    public interface Rateable<T> extends com.github.rjbx.rateraid.core.Rateable<T> {}
 
     /*
      * Percent values which are updated during adjustments
@@ -83,6 +89,20 @@ public class Rateraid {
      */
     public double[] getPercentsAsDoubleArray() { return TypeConverters.listDoubleToArrayDouble(mPercents); }
 
+    /**
+     * Write the percent values into a {@code float} array without allocating unless it is too small.
+     * @param buffer {@code float} array to receive the percent values
+     * @return the specified array if large enough; otherwise a newly allocated array
+     */
+    public float[] getPercentsAsFloatArray(float[] buffer) { return TypeConverters.listDoubleToArrayFloat(mPercents, buffer); }
+
+    /**
+     * Write the percent values into a {@code double} array without allocating unless it is too small.
+     * @param buffer {@code double} array to receive the percent values
+     * @return the specified array if large enough; otherwise a newly allocated array
+     */
+    public double[] getPercentsAsDoubleArray(double[] buffer) { return TypeConverters.listDoubleToArrayDouble(mPercents, buffer); }
+
     /**
      * Retrieve the percent values as a {@code List} of {@code Float}.
      * @return {@code List} of {@code Float}
@@ -110,18 +130,60 @@ public class Rateraid {
     /**
      * Initialize the percent series for a {@code List} of {@link Rateable}
      * and define the attributes and behavior to be applied to all adjustments.
-     * @param objects {@code List} of {@link Rateable} elements
+     * The percent values of a {@link RateableArray} are calibrated in place within its array.
+     * @param objects {@code List} of {@link com.github.rjbx.rateraid.core.Rateable} elements,
+     *                of which {@link Rateable} is one
      * @param magnitude amount of the adjustment; non-zero value should be between 1 and -1
      * @param precision number of decimal places to move the permitted error from the whole
      * @param clickListener additional behavior to be applied to all adjustments
      * @return {@link ObjectSeries} from which to chain view binding method calls
      */
-    public static <T extends Rateable> ObjectSeries withObjects(
+    public static <T extends com.github.rjbx.rateraid.core.Rateable> ObjectSeries<T> withObjects(
             List<T> objects,
             double magnitude,
             int precision,
             @Nullable View.OnClickListener clickListener) {
-        return new ObjectSeries(objects, magnitude, precision,  clickListener);
+        return new ObjectSeries<>(objects, magnitude, precision,  clickListener);
+    }
+
+    /**
+     * Initialize the percent series for a {@code List} of objects of a {@link Rated} class
+     * and define the attributes and behavior to be applied to all adjustments. Percent values
+     * are read and written in bulk through the {@link SeriesAdapter} generated for the class.
+     * @param objects {@code List} of domain objects
+     * @param adapter accessor of the percent values of the objects, such as the {@code INSTANCE}
+     *                of the generated adapter
+     * @param magnitude amount of the adjustment; non-zero value should be between 1 and -1
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param clickListener additional behavior to be applied to all adjustments
+     * @return {@link ObjectSeries} from which to chain view binding method calls
+     */
+    public static <T> ObjectSeries<T> withObjects(
+            List<T> objects,
+            SeriesAdapter<? super T> adapter,
+            double magnitude,
+            int precision,
+            @Nullable View.OnClickListener clickListener) {
+        return new ObjectSeries<>(objects, adapter, magnitude, precision, clickListener);
+    }
+
+    /**
+     * Initialize the percent series for a {@code double} array addressed by stable handles
+     * and define the attributes and behavior to be applied to all adjustments.
+     * The handle of each element is its index within the array and remains bound to that
+     * element after others are removed, so that views need not be rebound on removal.
+     * @param percents {@code double} array elements, which are copied
+     * @param magnitude amount of the adjustment; non-zero value should be between 1 and -1
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param clickListener additional behavior to be applied to all adjustments
+     * @return {@link KeyedValueSeries} from which to chain view binding method calls
+     */
+    public static KeyedValueSeries withKeys(
+            double[] percents,
+            double magnitude,
+            int precision,
+            @Nullable View.OnClickListener clickListener) {
+        return new KeyedValueSeries(percents, magnitude, precision, clickListener);
     }
 
     /**
@@ -132,9 +194,12 @@ public class Rateraid {
 
         // Instance fields of this class
         private Rateraid mRateraid;
-        private List<Double> mPercents;
+        private SeriesController mController;
+        private AsyncSeriesController mAsync;
+        private SeriesBindings.Actions mActions;
         private double mMagnitude;
         private int mPrecision;
+        private RedistributionPolicy mPolicy = RedistributionPolicy.EQUAL;
         private View.OnClickListener mClickListener;
 
         /**
@@ -149,11 +214,53 @@ public class Rateraid {
                 double magnitude,
                 int precision,
                 @Nullable View.OnClickListener clickListener) {
+            mClickListener = clickListener;
             mMagnitude = magnitude;
             mPrecision = precision;
-            mClickListener = clickListener;
-            mPercents = percents;
-            Calibrater.recalibrateRatings(mPercents, false, precision);
+            mController = SeriesController.withValues(percents, magnitude, precision);
+            mActions = SeriesActions.of(mController, clickListener);
+        }
+
+        /**
+         * Define the strategy by which adjustments to an element of the percent series
+         * are offset among the other elements.
+         * @param policy strategy for distributing the offset; {@link RedistributionPolicy#EQUAL} by default
+         * @return {@link ValueSeries} from which to chain view binding method calls
+         */
+        public ValueSeries withPolicy(RedistributionPolicy policy) {
+            mPolicy = policy;
+            mController.withPolicy(policy);
+            if (mAsync != null) mAsync.withPolicy(policy);
+            return this;
+        }
+
+        /**
+         * Calibrate all subsequent adjustments on the specified executor rather than on the
+         * main thread. Adjustments to the series are applied one at a time in order, and their
+         * results are written through to the series on the main thread; in the meantime,
+         * {@link #getPercent(int)} reports the optimistic value of each targeted element.
+         * @param executor executor on which to calibrate, which may be shared among series
+         * @param callback behavior to be applied on the main thread as each result is delivered
+         * @return {@link ValueSeries} from which to chain view binding method calls
+         */
+        public ValueSeries withExecutor(Executor executor, @Nullable AsyncSeriesController.Callback callback) {
+            Handler handler = new Handler(Looper.getMainLooper());
+            mAsync = AsyncSeriesController
+                    .withValues(mController.getPercents(), mMagnitude, mPrecision, executor, handler::post)
+                    .withPolicy(mPolicy)
+                    .withCallback(callback);
+            mActions = SeriesActions.of(mAsync, mClickListener);
+            return this;
+        }
+
+        /**
+         * Retrieve the value to display for the specified element of the percent series,
+         * which is optimistic while an adjustment to the element is calibrated on an executor.
+         * @param index location of the value
+         * @return percent value
+         */
+        public double getPercent(int index) {
+            return mAsync != null ? mAsync.getPercent(index) : mController.getPercents().get(index);
         }
 
         /**
@@ -166,11 +273,35 @@ public class Rateraid {
          */
         public ValueSeries addShifters(View incrementButton, View decrementButton, int index) {
             incrementButton.setOnClickListener(clickedView -> {
-                Calibrater.shiftRatings(mPercents, index, mMagnitude, mPrecision);
+                mActions.increment(index);
+                if (mClickListener != null) mClickListener.onClick(incrementButton);
+            });
+            decrementButton.setOnClickListener(clickedView -> {
+                mActions.decrement(index);
+                if (mClickListener != null) mClickListener.onClick(decrementButton);
+            });
+            return this;
+        }
+
+        /**
+         * Define the controllers by which the specified group of elements of the percent series
+         * is incremented and decremented together, the remaining elements absorbing the offset
+         * in a single redistribution.
+         * @param incrementButton view that, when clicked, should increment the targeted values
+         * @param decrementButton view that, when clicked, should decrement the targeted values
+         * @param within strategy for distributing the magnitude among the group
+         * @param indices distinct locations of the values to be adjusted
+         * @return {@link ValueSeries} from which to chain view binding method calls
+         */
+        public ValueSeries addGroupShifters(
+                View incrementButton, View decrementButton, RedistributionPolicy within, int... indices) {
+            int[] group = indices.clone();
+            incrementButton.setOnClickListener(clickedView -> {
+                mActions.incrementGroup(within, group);
                 if (mClickListener != null) mClickListener.onClick(incrementButton);
             });
             decrementButton.setOnClickListener(clickedView -> {
-                Calibrater.shiftRatings(mPercents, index, -mMagnitude, mPrecision);
+                mActions.decrementGroup(within, group);
                 if (mClickListener != null) mClickListener.onClick(decrementButton);
             });
             return this;
@@ -186,7 +317,7 @@ public class Rateraid {
         public ValueSeries addRemover(
                 View removeButton, int index, @Nullable DialogInterface dialog) {
             removeButton.setOnClickListener(clickedView -> {
-                Calibrater.removeRating(mPercents, index, mPrecision);
+                mActions.remove(index);
 
                 if (dialog != null) dialog.dismiss();
                 if (mClickListener != null) mClickListener.onClick(removeButton);
@@ -208,52 +339,55 @@ public class Rateraid {
             valueEditor.setOnEditorActionListener((onEditorActionView, onEditorActionId, onEditorActionEvent) -> {
                 switch (onEditorActionId) {
                     case EditorInfo.IME_ACTION_DONE:
-                        final NumberFormat percentFormatter = NumberFormat.getPercentInstance();
-                        try {
-                            double percent = mPercents.get(index);
-                            String viewText = onEditorActionView.getText().toString();
-                            if (viewText.contains("%")) percent = percentFormatter.parse(viewText).doubleValue();
-                            else if (!viewText.isEmpty()) percent = Double.parseDouble(viewText);
-                            else {
-                                onEditorActionView.setText(percentFormatter.format(percent));
-                                return false;
-                            }
-                            if (percent < 0d || percent > 1d) return false;
-                            double magnitude = percent - mPercents.get(index);
-                            Calibrater.shiftRatings(mPercents, index, magnitude, mPrecision);
-                            if (imm != null) imm.toggleSoftInput(0, 0);
-                            if (mClickListener != null) mClickListener.onClick(valueEditor);
-                        } catch (ParseException e) {
-                            throw new NumberFormatException();
-                        } return true;
+                        String viewText = onEditorActionView.getText().toString();
+                        if (viewText.isEmpty()) {
+                            onEditorActionView.setText(mActions.format(index));
+                            return false;
+                        }
+                        if (!mActions.commit(index, viewText)) return false;
+                        if (imm != null) imm.toggleSoftInput(0, 0);
+                        if (mClickListener != null) mClickListener.onClick(valueEditor);
+                        return true;
                     default:
                         return false;
                 }
             }); return this;
         }
 
+        /*
+         * Returns the actions of views bound through SeriesBindings, calibrating on the executor if defined
+         */
+        SeriesBindings.Actions actions() { return mActions; }
+
         /**
          * Retrieve a new reference to a {@link ValueSeries} with values initialized.
          * @return new reference to a {@link ValueSeries}
          */
         public Rateraid instance() {
             mRateraid = new Rateraid();
-            mRateraid.setPercents(mPercents);
+            mRateraid.setPercents(mController.getPercents());
             return mRateraid;
         }
     }
     
     /**
      * Class for chaining method calls for defining behaviors of views
-     * associated with this percent series for a {@code List} of {@link Rateable}.
+     * associated with this percent series for a {@code List} of {@link Rateable}
+     * or of objects of a {@link Rated} class.
      */
-    public static class ObjectSeries<T extends Rateable> {
+    public static class ObjectSeries<T> {
 
         // Instance fields of this class
         private Rateraid mRateraid;
-        private List<T> mRateables;
+        private List<? extends com.github.rjbx.rateraid.core.Rateable> mRateables;
+        private List<T> mObjects;
+        private SeriesAdapter<? super T> mAdapter;
+        private SeriesController mController;
+        private AsyncSeriesController mAsync;
+        private SeriesBindings.Actions mActions;
         private double mMagnitude;
         private int mPrecision;
+        private RedistributionPolicy mPolicy = RedistributionPolicy.EQUAL;
         private View.OnClickListener mClickListener;
 
         /**
@@ -264,15 +398,82 @@ public class Rateraid {
          * @param clickListener additional behavior to be applied to all adjustments
          */
         private ObjectSeries(
-                List<T> objects,
+                List<? extends com.github.rjbx.rateraid.core.Rateable> objects,
                 double magnitude,
                 int precision,
                 @Nullable View.OnClickListener clickListener) {
+            mClickListener = clickListener;
+            mRateables = objects;
             mMagnitude = magnitude;
             mPrecision = precision;
+            mController = SeriesController.withObjects(objects, magnitude, precision);
+            mActions = SeriesActions.of(mController, clickListener);
+        }
+
+        /**
+         * Initialize the instance fields of this class from the parent class accessor.
+         * @param objects {@code List} of domain objects
+         * @param adapter accessor of the percent values of the objects
+         * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+         * @param precision number of decimal places to move the allowed error from the whole
+         * @param clickListener additional behavior to be applied to all adjustments
+         */
+        private ObjectSeries(
+                List<T> objects,
+                SeriesAdapter<? super T> adapter,
+                double magnitude,
+                int precision,
+                @Nullable View.OnClickListener clickListener) {
             mClickListener = clickListener;
-            mRateables = objects;
-            recalibrateRatings(objects, false, precision);
+            mObjects = objects;
+            mAdapter = adapter;
+            mMagnitude = magnitude;
+            mPrecision = precision;
+            mController = SeriesController.withObjects(objects, adapter, magnitude, precision);
+            mActions = SeriesActions.of(mController, clickListener);
+        }
+
+        /**
+         * Define the strategy by which adjustments to an element of the percent series
+         * are offset among the other elements.
+         * @param policy strategy for distributing the offset; {@link RedistributionPolicy#EQUAL} by default
+         * @return {@link ObjectSeries} from which to chain view binding method calls
+         */
+        public ObjectSeries withPolicy(RedistributionPolicy policy) {
+            mPolicy = policy;
+            mController.withPolicy(policy);
+            if (mAsync != null) mAsync.withPolicy(policy);
+            return this;
+        }
+
+        /**
+         * Calibrate all subsequent adjustments on the specified executor rather than on the
+         * main thread. Adjustments to the series are applied one at a time in order, and their
+         * results are written through to the series on the main thread; in the meantime,
+         * {@link #getPercent(int)} reports the optimistic value of each targeted element.
+         * @param executor executor on which to calibrate, which may be shared among series
+         * @param callback behavior to be applied on the main thread as each result is delivered
+         * @return {@link ObjectSeries} from which to chain view binding method calls
+         */
+        public ObjectSeries withExecutor(Executor executor, @Nullable AsyncSeriesController.Callback callback) {
+            Handler handler = new Handler(Looper.getMainLooper());
+            mAsync = (mAdapter != null
+                    ? AsyncSeriesController.withObjects(mObjects, mAdapter, mMagnitude, mPrecision, executor, handler::post)
+                    : AsyncSeriesController.withObjects(mRateables, mMagnitude, mPrecision, executor, handler::post))
+                    .withPolicy(mPolicy)
+                    .withCallback(callback);
+            mActions = SeriesActions.of(mAsync, mClickListener);
+            return this;
+        }
+
+        /**
+         * Retrieve the value to display for the specified element of the percent series,
+         * which is optimistic while an adjustment to the element is calibrated on an executor.
+         * @param index location of the value
+         * @return percent value
+         */
+        public double getPercent(int index) {
+            return mAsync != null ? mAsync.getPercent(index) : mController.getPercents().get(index);
         }
 
         /**
@@ -285,11 +486,35 @@ public class Rateraid {
          */
         public ObjectSeries addShifters(View incrementButton, View decrementButton, int index) {
             incrementButton.setOnClickListener(clickedView -> {
-                shiftRatings(mRateables, index, mMagnitude, mPrecision);
+                mActions.increment(index);
+                if (mClickListener != null) mClickListener.onClick(incrementButton);
+            });
+            decrementButton.setOnClickListener(clickedView -> {
+                mActions.decrement(index);
+                if (mClickListener != null) mClickListener.onClick(decrementButton);
+            });
+            return this;
+        }
+
+        /**
+         * Define the controllers by which the specified group of elements of the percent series
+         * is incremented and decremented together, the remaining elements absorbing the offset
+         * in a single redistribution.
+         * @param incrementButton view that, when clicked, should increment the targeted values
+         * @param decrementButton view that, when clicked, should decrement the targeted values
+         * @param within strategy for distributing the magnitude among the group
+         * @param indices distinct locations of the values to be adjusted
+         * @return {@link ObjectSeries} from which to chain view binding method calls
+         */
+        public ObjectSeries addGroupShifters(
+                View incrementButton, View decrementButton, RedistributionPolicy within, int... indices) {
+            int[] group = indices.clone();
+            incrementButton.setOnClickListener(clickedView -> {
+                mActions.incrementGroup(within, group);
                 if (mClickListener != null) mClickListener.onClick(incrementButton);
             });
             decrementButton.setOnClickListener(clickedView -> {
-                shiftRatings(mRateables, index, -mMagnitude, mPrecision);
+                mActions.decrementGroup(within, group);
                 if (mClickListener != null) mClickListener.onClick(decrementButton);
             });
             return this;
@@ -305,7 +530,7 @@ public class Rateraid {
         public ObjectSeries addRemover(
                 View removeButton, int index, @Nullable DialogInterface dialog) {
             removeButton.setOnClickListener(clickedView -> {
-                removeRating(mRateables, index, mPrecision);
+                mActions.remove(index);
 
                 if (dialog != null) dialog.dismiss();
                 if (mClickListener != null) mClickListener.onClick(removeButton);
@@ -327,39 +552,150 @@ public class Rateraid {
             valueEditor.setOnEditorActionListener((onEditorActionView, onEditorActionId, onEditorActionEvent) -> {
                 switch (onEditorActionId) {
                     case EditorInfo.IME_ACTION_DONE:
-                        final NumberFormat percentFormatter = NumberFormat.getPercentInstance();
-                        try {
-                            double percent = mRateables.get(index).getPercent();
-                            String viewText = onEditorActionView.getText().toString();
-                            if (viewText.contains("%")) percent = percentFormatter.parse(viewText).doubleValue();
-                            else if (!viewText.isEmpty()) percent = Double.parseDouble(viewText);
-                            else {
-                                onEditorActionView.setText(percentFormatter.format(percent));
-                                return false;
-                            }
-                            if (percent < 0d || percent > 1d) return false;
-                            double magnitude = percent - mRateables.get(index).getPercent();
-                            shiftRatings(mRateables, index, magnitude, mPrecision);
-                            if (imm != null) imm.toggleSoftInput(0, 0);
-                            if (mClickListener != null) mClickListener.onClick(valueEditor);
-                        } catch (ParseException e) {
-                            throw new NumberFormatException();
-                        } return true;
+                        String viewText = onEditorActionView.getText().toString();
+                        if (viewText.isEmpty()) {
+                            onEditorActionView.setText(mActions.format(index));
+                            return false;
+                        }
+                        if (!mActions.commit(index, viewText)) return false;
+                        if (imm != null) imm.toggleSoftInput(0, 0);
+                        if (mClickListener != null) mClickListener.onClick(valueEditor);
+                        return true;
                     default:
                         return false;
                 }
             }); return this;
         }
         
+        /*
+         * Returns the actions of views bound through SeriesBindings, calibrating on the executor if defined
+         */
+        SeriesBindings.Actions actions() { return mActions; }
+
         /**
          * Retrieve a new reference to a {@link ObjectSeries} with values initialized.
          * @return new reference to an {@link ObjectSeries}
          */
         public Rateraid instance() {
             mRateraid = new Rateraid();
-            List<Double> percents = new ArrayList<>();
-            for (Rateable object : mRateables) percents.add(object.getPercent());
-            mRateraid.setPercents(percents);
+            mRateraid.setPercents(new ArrayList<>(mController.getPercents()));
+            return mRateraid;
+        }
+    }
+
+    /**
+     * Class for chaining method calls for defining behaviors of views
+     * associated with this percent series for a {@code double} array addressed by stable handles.
+     */
+    public static class KeyedValueSeries {
+
+        // Instance fields of this class
+        private Rateraid mRateraid;
+        private KeyedController mController;
+        private View.OnClickListener mClickListener;
+
+        /**
+         * Initialize the instance fields of this class from the parent class accessor.
+         * @param percents {@code double} array elements
+         * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+         * @param precision number of decimal places to move the allowed error from the whole
+         * @param clickListener additional behavior to be applied to all adjustments
+         */
+        private KeyedValueSeries(
+                double[] percents,
+                double magnitude,
+                int precision,
+                @Nullable View.OnClickListener clickListener) {
+            mClickListener = clickListener;
+            mController = KeyedController.withValues(percents, magnitude, precision);
+        }
+
+        /**
+         * Define the strategy by which adjustments to an element of the percent series
+         * are offset among the other elements.
+         * @param policy strategy for distributing the offset; {@link RedistributionPolicy#EQUAL} by default
+         * @return {@link KeyedValueSeries} from which to chain view binding method calls
+         */
+        public KeyedValueSeries withPolicy(RedistributionPolicy policy) {
+            mController.withPolicy(policy);
+            return this;
+        }
+
+        /**
+         * Define the controllers by which the element of the percent series referred to
+         * by the handle is incremented and decremented.
+         * @param incrementButton view that, when clicked, should increment the targeted value
+         * @param decrementButton view that, when clicked, should decrement the targeted value
+         * @param handle handle of the value to be adjusted
+         * @return {@link KeyedValueSeries} from which to chain view binding method calls
+         */
+        public KeyedValueSeries addShifters(View incrementButton, View decrementButton, int handle) {
+            incrementButton.setOnClickListener(clickedView -> {
+                mController.increment(handle);
+                if (mClickListener != null) mClickListener.onClick(incrementButton);
+            });
+            decrementButton.setOnClickListener(clickedView -> {
+                mController.decrement(handle);
+                if (mClickListener != null) mClickListener.onClick(decrementButton);
+            });
+            return this;
+        }
+
+        /**
+         * Define the controller by which the element of the percent series referred to
+         * by the handle is removed, leaving the controllers of all other elements bound.
+         * @param removeButton view that, when clicked, should remove the targeted element
+         * @param handle handle of the value to be removed
+         * @param dialog removal message to be dismissed
+         * @return {@link KeyedValueSeries} from which to chain view binding method calls
+         */
+        public KeyedValueSeries addRemover(
+                View removeButton, int handle, @Nullable DialogInterface dialog) {
+            removeButton.setOnClickListener(clickedView -> {
+                if (mController.getSeries().contains(handle)) mController.remove(handle);
+
+                if (dialog != null) dialog.dismiss();
+                if (mClickListener != null) mClickListener.onClick(removeButton);
+            }); return this;
+        }
+
+        /**
+         * Define the controller by which the element of the percent series referred to
+         * by the handle is replaced by text entry.
+         * @param valueEditor editor that, when receiving entry, should replace the targeted value
+         * @param handle handle of the value to be replaced
+         * @param imm input manager to be dismissed
+         * @return {@link KeyedValueSeries} from which to chain view binding method calls
+         */
+        public KeyedValueSeries addEditor(
+                EditText valueEditor, int handle, @Nullable InputMethodManager imm) {
+            valueEditor.setImeOptions(EditorInfo.IME_ACTION_DONE);
+            valueEditor.setInputType(EditorInfo.TYPE_CLASS_NUMBER|EditorInfo.TYPE_NUMBER_FLAG_DECIMAL);
+            valueEditor.setOnEditorActionListener((onEditorActionView, onEditorActionId, onEditorActionEvent) -> {
+                switch (onEditorActionId) {
+                    case EditorInfo.IME_ACTION_DONE:
+                        String viewText = onEditorActionView.getText().toString();
+                        if (viewText.isEmpty()) {
+                            onEditorActionView.setText(mController.format(handle));
+                            return false;
+                        }
+                        if (!mController.commit(handle, viewText)) return false;
+                        if (imm != null) imm.toggleSoftInput(0, 0);
+                        if (mClickListener != null) mClickListener.onClick(valueEditor);
+                        return true;
+                    default:
+                        return false;
+                }
+            }); return this;
+        }
+
+        /**
+         * Retrieve a new reference to a {@link Rateraid} with values initialized in slot order.
+         * @return new reference to a {@link Rateraid}
+         */
+        public Rateraid instance() {
+            mRateraid = new Rateraid();
+            mRateraid.setPercentsFromDoubleArray(mController.getSeries().toArray());
             return mRateraid;
         }
     }
@@ -376,11 +712,27 @@ public class Rateraid {
      */
     public static <T extends Rateable> boolean shiftRatings(
             List<T> objects, int index, double magnitude, int precision) {
+        return shiftRatings(objects, index, magnitude, precision, RedistributionPolicy.EQUAL);
+    }
+
+    /**
+     * Increments or decrements an element of a {@code List} of {@link Rateable} by the specified
+     * magnitude while calibrating other {@code List} of {@link Rateable} elements to maintain
+     * proportionality to the whole within the range of the specified precision.
+     * @param objects {@link Rateable} {@code List} elements to be adjusted if not proportionate
+     * @param index index of the array element to be adjusted
+     * @param magnitude amount of the adjustment; non-zero value should be no more than 1 or -1
+     * @param precision number of decimal places to move the allowed error from the whole
+     * @param policy strategy for distributing the offset among the other elements
+     * @return true if percent was adjusted and false otherwise
+     */
+    public static <T extends Rateable> boolean shiftRatings(
+            List<T> objects, int index, double magnitude, int precision, RedistributionPolicy policy) {
         boolean result;
         List<Double> percents = new ArrayList<>();
         for (Rateable object : objects) percents.add(object.getPercent());
-        result = Calibrater.shiftRatings(percents, index, magnitude, precision);
-        for (int i = 0; i < percents.size(); i++) objects.get(i).setPercent(percents.get(i));
+        result = Calibrater.shiftRatings(percents, index, magnitude, precision, policy);
+        writeBack(objects, percents, precision);
         return result;
     }
 
@@ -397,7 +749,7 @@ public class Rateraid {
         List<Double> percents = new ArrayList<>();
         for (Rateable object : objects) percents.add(object.getPercent());
         result = Calibrater.resetRatings(percents, forceReset, precision);
-        for (int i = 0; i < percents.size(); i++) objects.get(i).setPercent(percents.get(i));
+        writeBack(objects, percents, precision);
         return result;
     }
 
@@ -416,6 +768,51 @@ public class Rateraid {
         return recalibrateRatings(objects, false, precision);
     }
 
+    /**
+     * Inserts {@link Rateable} into {@code List} at the specified index, withdrawing the share
+     * of the whole held by its percent value from the other elements in accordance with
+     * {@link Calibrater#insertRating(List, int, double, int, RedistributionPolicy)}.
+     * @param objects {@code List} of {@link Rateable} elements into which to insert the specified element
+     * @param index location at which the object is to be inserted
+     * @param object object to be inserted, holding its share of the whole as its percent value
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param policy strategy for withdrawing the share from the other elements
+     * @return true if values were adjusted; false otherwise
+     */
+    public static <T extends Rateable> boolean insertRating(
+            List<T> objects, int index, T object, int precision, RedistributionPolicy policy) {
+        boolean result;
+        List<Double> percents = new ArrayList<>();
+        for (Rateable rateable : objects) percents.add(rateable.getPercent());
+        result = Calibrater.insertRating(percents, index, object.getPercent(), precision, policy);
+        objects.add(index, object);
+        writeBack(objects, percents, precision);
+        return result;
+    }
+
+    /**
+     * Appends the {@code List} of {@link Rateable} additions to the end of the series, withdrawing
+     * the combined share of the whole held by their percent values from the existing elements in
+     * accordance with {@link Calibrater#appendRatings(List, List, int, RedistributionPolicy)}.
+     * @param objects {@code List} of {@link Rateable} elements to which to append the additions
+     * @param additions {@code List} of {@link Rateable} elements, together holding no more than the whole
+     * @param precision number of decimal places to move the permitted error from the whole
+     * @param policy strategy for withdrawing the share from the existing elements
+     * @return true if values were adjusted; false otherwise
+     */
+    public static <T extends Rateable> boolean appendRatings(
+            List<T> objects, List<? extends T> additions, int precision, RedistributionPolicy policy) {
+        boolean result;
+        List<Double> percents = new ArrayList<>(objects.size() + additions.size());
+        List<Double> shares = new ArrayList<>(additions.size());
+        for (Rateable object : objects) percents.add(object.getPercent());
+        for (Rateable addition : additions) shares.add(addition.getPercent());
+        result = Calibrater.appendRatings(percents, shares, precision, policy);
+        objects.addAll(additions);
+        writeBack(objects, percents, precision);
+        return result;
+    }
+
     /**
      * Equally distributes to each {@code List} of {@link Rateable} element the difference between
      * the whole and the sum of all array elements.
@@ -430,7 +827,17 @@ public class Rateraid {
         List<Double> percents = new ArrayList<>();
         for (Rateable object : objects) percents.add(object.getPercent());
         result = Calibrater.recalibrateRatings(percents, forceReset, precision);
-        for (int i = 0; i < percents.size(); i++) objects.get(i).setPercent(percents.get(i));
+        writeBack(objects, percents, precision);
         return result;
     }
+
+    /*
+     * Sets the percent value of only those objects changed by more than the tolerance of the precision
+     */
+    private static <T extends Rateable> void writeBack(List<T> objects, List<Double> percents, int precision) {
+        double[] previous = new double[objects.size()];
+        for (int i = 0; i < previous.length; i++) previous[i] = objects.get(i).getPercent();
+        double[] current = TypeConverters.listDoubleToArrayDouble(percents);
+        for (int i : Calibrater.changedIndices(previous, current, precision)) objects.get(i).setPercent(current[i]);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.github.rjbx.rateraid;
+
+import android.view.View;
+
+import com.github.rjbx.calibrater.RedistributionPolicy;
+import com.github.rjbx.rateraid.core.AsyncSeriesController;
+import com.github.rjbx.rateraid.core.SeriesController;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Factory of the {@link SeriesBindings.Actions} through which a percent series applies the
+ * adjustments of its views, either on the main thread or on the executor of the series.
+ */
+final class SeriesActions {
+
+    private SeriesActions() {}
+
+    /**
+     * Generates the actions applying each adjustment on the calling thread.
+     * @param controller controller of the percent series
+     * @param clickListener additional behavior to be applied to all adjustments
+     * @return {@link SeriesBindings.Actions} of the controller
+     */
+    static SeriesBindings.Actions of(SeriesController controller, @Nullable View.OnClickListener clickListener) {
+        return new SeriesBindings.Actions() {
+            @Override public void increment(int index) { controller.increment(index); }
+            @Override public void decrement(int index) { controller.decrement(index); }
+            @Override public void incrementGroup(RedistributionPolicy within, int... indices) {
+                controller.incrementGroup(within, indices);
+            }
+            @Override public void decrementGroup(RedistributionPolicy within, int... indices) {
+                controller.decrementGroup(within, indices);
+            }
+            @Override public void remove(int index) { controller.remove(index); }
+            @Override public boolean commit(int index, String text) { return controller.commit(index, text); }
+            @Override public String format(int index) { return controller.format(index); }
+            @Override public View.OnClickListener getClickListener() { return clickListener; }
+        };
+    }
+
+    /**
+     * Generates the actions calibrating each adjustment on the executor of the controller.
+     * @param controller asynchronous controller of the percent series
+     * @param clickListener additional behavior to be applied to all adjustments
+     * @return {@link SeriesBindings.Actions} of the controller
+     */
+    static SeriesBindings.Actions of(AsyncSeriesController controller, @Nullable View.OnClickListener clickListener) {
+        return new SeriesBindings.Actions() {
+            @Override public void increment(int index) { controller.increment(index); }
+            @Override public void decrement(int index) { controller.decrement(index); }
+            @Override public void incrementGroup(RedistributionPolicy within, int... indices) {
+                controller.incrementGroup(within, indices);
+            }
+            @Override public void decrementGroup(RedistributionPolicy within, int... indices) {
+                controller.decrementGroup(within, indices);
+            }
+            @Override public void remove(int index) { controller.remove(index); }
+            @Override public boolean commit(int index, String text) { return controller.commit(index, text); }
+            @Override public String format(int index) { return controller.format(index); }
+            @Override public View.OnClickListener getClickListener() { return clickListener; }
+        };
+    }
+}
@@ -0,0 +1,206 @@
+package com.github.rjbx.rateraid;
+
+import android.view.KeyEvent;
+import android.view.View;
+import android.view.inputmethod.EditorInfo;
+import android.view.inputmethod.InputMethodManager;
+import android.widget.EditText;
+import android.widget.TextView;
+
+import com.github.rjbx.calibrater.RedistributionPolicy;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Registry of the views controlling adjustments to a percent series, for views which are
+ * recycled among elements such as those of a {@code RecyclerView}. Each view is bound once,
+ * when created, to one listener shared by all views of the same role, and the element targeted
+ * by a view is resolved by the {@link Position} of the registry when clicked rather than captured
+ * when bound; displaying an element therefore binds and allocates nothing, and the series can be
+ * replaced with {@link #attach(Rateraid.ValueSeries)} or {@link #attach(Rateraid.ObjectSeries)}
+ * without rebinding. Bound views are held weakly, and detaching all views also releases the series.
+ */
+public final class SeriesBindings {
+
+    /**
+     * Resolver of the element currently targeted by a bound view, such as the adapter position
+     * of the view holder containing the view.
+     */
+    public interface Position {
+
+        /**
+         * Retrieve the location of the element targeted by the view.
+         * @param view bound view
+         * @return index of the element, or a negative value if the view targets no element
+         */
+        int of(View view);
+    }
+
+    /*
+     * Adjustments of the attached series, applied on the main thread or on its executor
+     */
+    interface Actions {
+        void increment(int index);
+        void decrement(int index);
+        void incrementGroup(RedistributionPolicy within, int... indices);
+        void decrementGroup(RedistributionPolicy within, int... indices);
+        void remove(int index);
+        boolean commit(int index, String text);
+        String format(int index);
+        @Nullable View.OnClickListener getClickListener();
+    }
+
+    private final Set<View> mViews = Collections.newSetFromMap(new WeakHashMap<View, Boolean>());
+    private final Position mPosition;
+    private final InputMethodManager mMethodManager;
+    private Actions mActions;
+
+    private final View.OnClickListener mIncrementListener = view -> {
+        int index = resolve(view);
+        if (index >= 0) mActions.increment(index);
+        notifyClicked(view, index);
+    };
+
+    private final View.OnClickListener mDecrementListener = view -> {
+        int index = resolve(view);
+        if (index >= 0) mActions.decrement(index);
+        notifyClicked(view, index);
+    };
+
+    private final View.OnClickListener mRemoveListener = view -> {
+        int index = resolve(view);
+        if (index >= 0) mActions.remove(index);
+        notifyClicked(view, index);
+    };
+
+    private final TextView.OnEditorActionListener mEditorListener = this::onEditorAction;
+
+    /**
+     * Initialize the instance fields of this class from the static accessor.
+     * @param position resolver of the element targeted by a view
+     * @param imm input manager to be dismissed once an entry is committed
+     */
+    private SeriesBindings(Position position, @Nullable InputMethodManager imm) {
+        mPosition = position;
+        mMethodManager = imm;
+    }
+
+    /**
+     * Initialize a registry to which no series is yet attached.
+     * @param position resolver of the element targeted by a view when clicked
+     * @param imm input manager to be dismissed once an entry is committed
+     * @return {@link SeriesBindings} from which to chain method calls
+     */
+    public static SeriesBindings create(Position position, @Nullable InputMethodManager imm) {
+        return new SeriesBindings(position, imm);
+    }
+
+    /**
+     * Define the series adjusted by all bound views, replacing any series previously attached.
+     * Adjustments are calibrated on the executor of the series if defined before attaching.
+     * @param series series of values to be adjusted
+     * @return {@link SeriesBindings} from which to chain method calls
+     */
+    public SeriesBindings attach(Rateraid.ValueSeries series) {
+        mActions = series.actions();
+        return this;
+    }
+
+    /**
+     * Define the series adjusted by all bound views, replacing any series previously attached.
+     * Adjustments are calibrated on the executor of the series if defined before attaching.
+     * @param series series of objects to be adjusted
+     * @return {@link SeriesBindings} from which to chain method calls
+     */
+    public SeriesBindings attach(Rateraid.ObjectSeries<?> series) {
+        mActions = series.actions();
+        return this;
+    }
+
+    /**
+     * Bind the views by which the targeted element is incremented and decremented.
+     * @param incrementButton view that, when clicked, should increment the targeted value
+     * @param decrementButton view that, when clicked, should decrement the targeted value
+     * @return {@link SeriesBindings} from which to chain method calls
+     */
+    public SeriesBindings addShifters(View incrementButton, View decrementButton) {
+        mViews.add(incrementButton);
+        mViews.add(decrementButton);
+        incrementButton.setOnClickListener(mIncrementListener);
+        decrementButton.setOnClickListener(mDecrementListener);
+        return this;
+    }
+
+    /**
+     * Bind the view by which the targeted element is removed.
+     * @param removeButton view that, when clicked, should remove the targeted element
+     * @return {@link SeriesBindings} from which to chain method calls
+     */
+    public SeriesBindings addRemover(View removeButton) {
+        mViews.add(removeButton);
+        removeButton.setOnClickListener(mRemoveListener);
+        return this;
+    }
+
+    /**
+     * Bind the editor by which the targeted element is replaced by text entry.
+     * @param valueEditor editor that, when receiving entry, should replace the targeted value
+     * @return {@link SeriesBindings} from which to chain method calls
+     */
+    public SeriesBindings addEditor(EditText valueEditor) {
+        mViews.add(valueEditor);
+        valueEditor.setImeOptions(EditorInfo.IME_ACTION_DONE);
+        valueEditor.setInputType(EditorInfo.TYPE_CLASS_NUMBER|EditorInfo.TYPE_NUMBER_FLAG_DECIMAL);
+        valueEditor.setOnEditorActionListener(mEditorListener);
+        return this;
+    }
+
+    /**
+     * Removes the listener from each of the views and releases them.
+     * @param views views previously bound
+     */
+    public void detach(View... views) {
+        for (View view : views) {
+            if (!mViews.remove(view)) continue;
+            if (view instanceof EditText) ((EditText) view).setOnEditorActionListener(null);
+            else view.setOnClickListener(null);
+        }
+    }
+
+    /**
+     * Removes the listener from every bound view and releases the views and the attached series.
+     */
+    public void detachAll() {
+        detach(mViews.toArray(new View[0]));
+        mActions = null;
+    }
+
+    private int resolve(View view) {
+        return mActions != null && mViews.contains(view) ? mPosition.of(view) : -1;
+    }
+
+    private void notifyClicked(View view, int index) {
+        if (index < 0) return;
+        View.OnClickListener listener = mActions.getClickListener();
+        if (listener != null) listener.onClick(view);
+    }
+
+    private boolean onEditorAction(TextView view, int actionId, @Nullable KeyEvent event) {
+        if (actionId != EditorInfo.IME_ACTION_DONE) return false;
+        int index = resolve(view);
+        if (index < 0) return false;
+        String viewText = view.getText().toString();
+        if (viewText.isEmpty()) {
+            view.setText(mActions.format(index));
+            return false;
+        }
+        if (!mActions.commit(index, viewText)) return false;
+        if (mMethodManager != null) mMethodManager.toggleSoftInput(0, 0);
+        notifyClicked(view, index);
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.rjbx.rateraid;
+
+import com.github.rjbx.calibrater.Calibrater;
+import com.github.rjbx.rateraid.core.RateableArray;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test methods for the {@link Rateraid} class.
+ * Equals assertions are more precise as delta parameter approaches zero.
+ */
+public class RateraidTest {
+
+    private static int PRECISION = Calibrater.STANDARD_PRECISION;
+    private static double ERROR = Math.pow(10, -PRECISION);
+
+    /**
+     * Asserts whether a percent series initialized for a {@link RateableArray} calibrates
+     * the percent values in place within its array.
+     */
+    @Test public final void testObjectSeriesOverRateableArray() {
+
+        RateableArray<String> array = RateableArray.of(Arrays.asList("a", "b", "c"), new double[] { .5d, .3d, .3d });
+        Rateraid.ObjectSeries series = Rateraid.withObjects(array, .1d, PRECISION, null);
+        double sum = 0d;
+        for (int i = 0; i < array.size(); i++) {
+            assertEquals(array.getPercent(i), series.getPercent(i), 0d);
+            assertEquals(array.get(i).getPercent(), array.getPercent(i), 0d);
+            sum += series.getPercent(i);
+        }
+        assertEquals(1d, sum, ERROR);
+    }
+}
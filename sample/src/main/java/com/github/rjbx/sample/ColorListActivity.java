@@ -14,8 +14,11 @@ import androidx.recyclerview.widget.RecyclerView;
 import androidx.appcompat.widget.Toolbar;
 
 import com.github.rjbx.rateraid.Rateraid;
+import com.github.rjbx.rateraid.SeriesBindings;
 import com.github.rjbx.calibrater.Calibrater;
+import com.github.rjbx.calibrater.DisplayRounding;
 import com.github.rjbx.sample.data.ColorData.*;
+import com.github.rjbx.sample.data.ColorData_ColorItemSeriesAdapter;
 import com.github.rjbx.sample.data.ColorData;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 import com.google.android.material.snackbar.Snackbar;
@@ -33,7 +36,6 @@ import android.widget.LinearLayout;
 import android.widget.SeekBar;
 import android.widget.TextView;
 
-import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -96,6 +98,11 @@ public class ColorListActivity extends AppCompatActivity {
         setupRecyclerView();
     }
 
+    @Override protected void onDestroy() {
+        mListAdapter.mBindings.detachAll();
+        super.onDestroy();
+    }
+
     private void setupRecyclerView() {
         RecyclerView recyclerView = findViewById(R.id.color_list);
         assert recyclerView != null;
@@ -109,10 +116,13 @@ public class ColorListActivity extends AppCompatActivity {
             extends RecyclerView.Adapter<ColorListAdapter.ViewHolder> {
 
         private Rateraid.ObjectSeries mRateraid;
+        private final SeriesBindings mBindings;
+        private RecyclerView mRecyclerView;
         private List<ColorItem> mItems;
         private final ColorListActivity mParentActivity;
         private final boolean mTwoPane;
         private InputMethodManager mMethodManager;
+        private final DisplayRounding mRounding = DisplayRounding.withDecimals(0);
         private final View.OnClickListener mOnClickListener = new View.OnClickListener() {
             @Override public void onClick(View view) {
                 ColorItem item = (ColorItem) view.getTag();
@@ -142,16 +152,31 @@ public class ColorListActivity extends AppCompatActivity {
                     mParentActivity.getSystemService(INPUT_METHOD_SERVICE);
             mRateraid = Rateraid.withObjects(
                     mItems,
+                    ColorData_ColorItemSeriesAdapter.INSTANCE,
                     sMagnitude,
                     Calibrater.STANDARD_PRECISION,
-                    clickedView -> notifyDataSetChanged());
+                    clickedView -> { round(); notifyDataSetChanged(); });
+            mBindings = SeriesBindings.create(this::positionOf, mMethodManager).attach(mRateraid);
+            round();
+        }
+
+        @Override public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+            mRecyclerView = recyclerView;
+        }
+
+        @Override public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+            mRecyclerView = null;
         }
 
         @Override public @NonNull ViewHolder onCreateViewHolder(
                 @NonNull ViewGroup parent, int viewType) {
             View view = LayoutInflater.from(parent.getContext())
                     .inflate(R.layout.color_list_content, parent, false);
-            return new ViewHolder(view);
+            ViewHolder holder = new ViewHolder(view);
+            mBindings.addShifters(holder.mIncrementButton, holder.mDecrementButton)
+                     .addRemover(holder.mRemoveButton)
+                     .addEditor(holder.mPercentText);
+            return holder;
         }
 
         @Override public void onBindViewHolder(@NonNull final ViewHolder holder, int position) {
@@ -160,17 +185,13 @@ public class ColorListActivity extends AppCompatActivity {
 
             holder.mIdView.setText(item.getId());
             holder.mContentView.setText(item.colorResToString(mParentActivity));
-            holder.mPercentText.setText(NumberFormat.getPercentInstance().format(item.getPercent()));
+            holder.mPercentText.setText(mRounding.format(position));
 
             holder.itemView.setTag(item);
             holder.itemView.setOnClickListener(mOnClickListener);
             holder.itemView.setBackgroundColor(
                     holder.itemView.getResources().getColor(item.getColorRes())
             );
-
-            mRateraid.addShifters(holder.mIncrementButton, holder.mDecrementButton, position)
-                      .addRemover(holder.mRemoveButton, position, null)
-                      .addEditor(holder.mPercentText, position, mMethodManager);
         }
 
         @Override public int getItemCount() {
@@ -181,12 +202,28 @@ public class ColorListActivity extends AppCompatActivity {
             mItems = items;
             mRateraid = Rateraid.withObjects(
                     mItems,
+                    ColorData_ColorItemSeriesAdapter.INSTANCE,
                     sMagnitude,
                     Calibrater.STANDARD_PRECISION,
-                    clickedView -> notifyDataSetChanged());
+                    clickedView -> { round(); notifyDataSetChanged(); });
+            mBindings.attach(mRateraid);
+            round();
             notifyDataSetChanged();
         }
 
+        // Resolves the element targeted by a bound view from the holder containing it
+        private int positionOf(View view) {
+            RecyclerView.ViewHolder holder = mRecyclerView != null ? mRecyclerView.findContainingViewHolder(view) : null;
+            return holder != null ? holder.getAdapterPosition() : RecyclerView.NO_POSITION;
+        }
+
+        // Rounds the displayed percents to whole percents summing to 100
+        private void round() {
+            double[] percents = new double[mItems.size()];
+            for (int i = 0; i < percents.length; i++) percents[i] = mItems.get(i).getObject().getPercent();
+            mRounding.round(percents);
+        }
+
         class ViewHolder extends RecyclerView.ViewHolder {
 
             final TextView mIdView;
@@ -2,7 +2,8 @@ package com.github.rjbx.sample.data;
 
 import android.content.Context;
 
-import com.github.rjbx.rateraid.Rateraid.Rateable;
+import com.github.rjbx.rateraid.core.Percent;
+import com.github.rjbx.rateraid.core.Rated;
 import com.github.rjbx.sample.R;
 
 import java.util.HashMap;
@@ -94,13 +95,15 @@ public class ColorData {
     public static void setSavedItems(Map<Integer, ColorItem> items) { sSavedItems = items; }
 
     /**
-     * A color item representing a piece of content.
+     * A color item representing a piece of content, of which the percent value is adjusted
+     * through the generated {@code ColorData_ColorItemSeriesAdapter}.
      */
-    public static class ColorItem implements Rateable<ColorItem>, Cloneable {
+    @Rated
+    public static class ColorItem implements Cloneable {
         private String id;
         private String content;
         private String details;
-        private double percent;
+        @Percent double percent;
         private int colorRes;
 
         private ColorItem(String id, String content, String details, double percent, int colorRes) {
@@ -111,7 +114,6 @@ public class ColorData {
             this.colorRes = colorRes;
         }
 
-        @Override
         public ColorItem getObject() {
             return this;
         }